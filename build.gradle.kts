@@ -9,13 +9,62 @@ repositories {
     mavenCentral()
 }
 
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
 dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter-api:5.9.1")
     testImplementation("org.junit.jupiter:junit-jupiter-engine:5.9.1")
     testImplementation("org.junit.jupiter:junit-jupiter-params:5.9.1")
     testImplementation("org.junit.platform:junit-platform-suite:1.8.1")
+    testImplementation("org.openjdk.jol:jol-core:0.17")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+// Runs the benchmarks from src/jmh/java and writes the results to build/reports/jmh/results.json.
+// Extra JMH options can be passed with -PjmhArgs, e.g. ./gradlew jmh -PjmhArgs="ListSortBenchmark -p size=1000 -prof gc"
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks and writes the results as JSON."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    val extraArgs = (findProperty("jmhArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+    args = listOf("-rf", "json", "-rff", resultFile.absolutePath) + extraArgs
+    doFirst {
+        resultFile.parentFile.mkdirs()
+    }
+}
+
+// Runs ConcurrentListBenchmark at 1 to 64 threads, writing one JSON result file per thread count.
+tasks.register<JavaExec>("jmhContention") {
+    group = "benchmark"
+    description = "Runs the concurrent list contention benchmark at 1 to 64 threads."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("list.bench.ConcurrentListBenchmark")
+    workingDir = projectDir
+    doFirst {
+        layout.buildDirectory.dir("reports/jmh").get().asFile.mkdirs()
+    }
+}
+
+// Runs AppendOnlyBenchmark at 1 to 64 producer threads, writing one JSON result file per thread count.
+tasks.register<JavaExec>("jmhProducers") {
+    group = "benchmark"
+    description = "Runs the append-only producer scaling benchmark at 1 to 64 threads."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("list.bench.AppendOnlyBenchmark")
+    workingDir = projectDir
+    doFirst {
+        layout.buildDirectory.dir("reports/jmh").get().asFile.mkdirs()
+    }
+}
@@ -0,0 +1,99 @@
+package list.bench;
+
+import list.CustomList;
+import list.impl.ConcurrentAppendOnlyCustomList;
+import list.impl.CustomArrayList;
+import list.impl.StampedCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of producers appending to a shared list: the lock-free append-only list against the
+ * StampedLock list and a CustomArrayList guarded by a single monitor. The list is emptied before every iteration so
+ * its size stays bounded. {@link #main(String[])} runs the benchmark at 1 to 64 producer threads and writes one JSON
+ * file per thread count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AppendOnlyBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+    private static final Integer ELEMENT = 42;
+
+    /**
+     * The lists that take part in the benchmark.
+     */
+    public enum Implementation {
+        APPEND_ONLY,
+        STAMPED,
+        SYNCHRONIZED
+    }
+
+    @Param({"APPEND_ONLY", "STAMPED", "SYNCHRONIZED"})
+    private Implementation implementation;
+
+    private CustomList<Integer> list;
+    private Object monitor;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (implementation) {
+            case APPEND_ONLY:
+                list = new ConcurrentAppendOnlyCustomList<>();
+                break;
+            case STAMPED:
+                list = new StampedCustomArrayList<>();
+                break;
+            default:
+                list = new CustomArrayList<>();
+                monitor = new Object();
+        }
+    }
+
+    @Benchmark
+    public void add() {
+        if (monitor == null) {
+            list.add(ELEMENT);
+            return;
+        }
+        synchronized (monitor) {
+            list.add(ELEMENT);
+        }
+    }
+
+    /**
+     * Runs the benchmark once per producer thread count and writes the results to build/reports/jmh.
+     *
+     * @param args ignored
+     * @throws RunnerException if a benchmark run fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder()
+                    .include(AppendOnlyBenchmark.class.getName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("build/reports/jmh/append-only-" + threads + "-threads.json")
+                    .build()).run();
+        }
+    }
+}
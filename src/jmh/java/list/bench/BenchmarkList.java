@@ -0,0 +1,35 @@
+package list.bench;
+
+import java.util.Comparator;
+
+/**
+ * A minimal view over the list operations that are benchmarked, so that the custom lists and the
+ * {@code java.util} lists can be driven by the same benchmark code.
+ *
+ * @param <E> the type of elements in the list
+ */
+public interface BenchmarkList<E> extends Iterable<E> {
+
+    void add(E element);
+
+    void add(int index, E element);
+
+    E get(int index);
+
+    boolean remove(Object o);
+
+    E remove(int index);
+
+    void clear();
+
+    void sort(Comparator<? super E> comparator);
+
+    Object[] toArray();
+
+    /**
+     * Returns the list that is wrapped by this adapter, so that two adapters can be compared with {@code equals}.
+     *
+     * @return the wrapped list
+     */
+    Object unwrap();
+}
@@ -0,0 +1,108 @@
+package list.bench;
+
+import list.CustomList;
+import list.impl.CopyOnWriteCustomArrayList;
+import list.impl.CustomArrayList;
+import list.impl.StampedCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the thread-safe lists under a mix of reads ({@code get}) and writes ({@code set}) on a
+ * shared list, against a CustomArrayList guarded by a single monitor. Writes replace an element, so the size stays
+ * fixed. {@link #main(String[])} runs the benchmark at 1 to 64 threads and writes one JSON file per thread count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConcurrentListBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+
+    /**
+     * The thread-safe lists that take part in the benchmark.
+     */
+    public enum Implementation {
+        COPY_ON_WRITE,
+        STAMPED,
+        SYNCHRONIZED
+    }
+
+    @Param({"COPY_ON_WRITE", "STAMPED", "SYNCHRONIZED"})
+    private Implementation implementation;
+
+    @Param({"0", "1", "10", "50"})
+    private int writePercent;
+
+    @Param({"10000"})
+    private int size;
+
+    private CustomList<Integer> list;
+    private Object monitor;
+
+    @Setup
+    public void setUp() {
+        switch (implementation) {
+            case COPY_ON_WRITE:
+                list = new CopyOnWriteCustomArrayList<>();
+                break;
+            case STAMPED:
+                list = new StampedCustomArrayList<>();
+                break;
+            default:
+                list = new CustomArrayList<>();
+                monitor = new Object();
+        }
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public Integer mixed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(size);
+        boolean write = random.nextInt(100) < writePercent;
+        if (monitor == null) {
+            return write ? list.set(index, index) : list.get(index);
+        }
+        synchronized (monitor) {
+            return write ? list.set(index, index) : list.get(index);
+        }
+    }
+
+    /**
+     * Runs the benchmark once per thread count and writes the results to build/reports/jmh.
+     *
+     * @param args ignored
+     * @throws RunnerException if a benchmark run fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder()
+                    .include(ConcurrentListBenchmark.class.getName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("build/reports/jmh/concurrent-" + threads + "-threads.json")
+                    .build()).run();
+        }
+    }
+}
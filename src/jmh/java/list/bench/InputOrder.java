@@ -0,0 +1,38 @@
+package list.bench;
+
+import java.util.Random;
+
+/**
+ * The order of the input data the benchmarked lists are filled with.
+ */
+public enum InputOrder {
+    RANDOM,
+    SORTED,
+    REVERSED;
+
+    private static final long SEED = 42L;
+
+    /**
+     * Generates {@code size} distinct-ish values in this order. The same size always produces the same data.
+     *
+     * @param size the number of values to generate
+     * @return the generated values
+     */
+    public Integer[] generate(int size) {
+        Integer[] data = new Integer[size];
+        Random random = new Random(SEED);
+        for (int i = 0; i < size; i++) {
+            switch (this) {
+                case SORTED:
+                    data[i] = i;
+                    break;
+                case REVERSED:
+                    data[i] = size - i;
+                    break;
+                default:
+                    data[i] = random.nextInt();
+            }
+        }
+        return data;
+    }
+}
@@ -0,0 +1,120 @@
+package list.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the single element operations, iteration, {@code toArray} and {@code equals} of every list implementation.
+ * <p>
+ * The operations that change the size of the list are paired with a compensating operation at the end of the
+ * list ({@code add(index)} with {@code remove(size - 1)}, {@code remove} with {@code add}), so the list keeps the
+ * same size for the whole measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ListAccessBenchmark {
+    private static final int INDEX_COUNT = 1024;
+
+    @Param({"CUSTOM_ARRAY", "CUSTOM_LINKED", "CUSTOM_CHUNKED", "JDK_ARRAY", "JDK_LINKED"})
+    private ListImplementation implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED"})
+    private InputOrder order;
+
+    private Integer[] data;
+    private BenchmarkList<Integer> list;
+    private BenchmarkList<Integer> copy;
+    private int[] indexes;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = order.generate(size);
+        list = implementation.create(data);
+        copy = implementation.create(data);
+        indexes = new int[INDEX_COUNT];
+        Random random = new Random(size);
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (INDEX_COUNT - 1);
+        return indexes[cursor];
+    }
+
+    @Benchmark
+    public BenchmarkList<Integer> add() {
+        BenchmarkList<Integer> target = implementation.create();
+        for (Integer value : data) {
+            target.add(value);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public Integer addAtIndex() {
+        int index = nextIndex();
+        list.add(index, data[index]);
+        return list.remove(size);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public boolean removeObject() {
+        Integer value = list.get(nextIndex());
+        boolean removed = list.remove(value);
+        list.add(value);
+        return removed;
+    }
+
+    @Benchmark
+    public Integer removeAtIndex() {
+        Integer value = list.remove(nextIndex());
+        list.add(value);
+        return value;
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Integer value : list) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    @Benchmark
+    public boolean equalLists() {
+        return list.unwrap().equals(copy.unwrap());
+    }
+}
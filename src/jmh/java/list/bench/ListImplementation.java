@@ -0,0 +1,171 @@
+package list.bench;
+
+import list.CustomList;
+import list.impl.ChunkedCustomList;
+import list.impl.CustomArrayList;
+import list.impl.CustomLinkedList;
+import list.impl.UnrolledCustomLinkedList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The list implementations that take part in the benchmarks.
+ */
+public enum ListImplementation {
+    CUSTOM_ARRAY(() -> new CustomListAdapter<>(new CustomArrayList<>())),
+    CUSTOM_LINKED(() -> new CustomListAdapter<>(new CustomLinkedList<>())),
+    CUSTOM_CHUNKED(() -> new CustomListAdapter<>(new ChunkedCustomList<>())),
+    CUSTOM_UNROLLED(() -> new CustomListAdapter<>(new UnrolledCustomLinkedList<>())),
+    JDK_ARRAY(() -> new JdkListAdapter<>(new ArrayList<>())),
+    JDK_LINKED(() -> new JdkListAdapter<>(new LinkedList<>()));
+
+    private final Supplier<BenchmarkList<Integer>> factory;
+
+    ListImplementation(Supplier<BenchmarkList<Integer>> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a new empty list of this implementation.
+     *
+     * @return a new empty list
+     */
+    public BenchmarkList<Integer> create() {
+        return factory.get();
+    }
+
+    /**
+     * Creates a new list of this implementation filled with the given data.
+     *
+     * @param data the elements to be added to the list
+     * @return a new list containing the given data in order
+     */
+    public BenchmarkList<Integer> create(Integer[] data) {
+        BenchmarkList<Integer> list = create();
+        for (Integer value : data) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    private static final class CustomListAdapter<E> implements BenchmarkList<E> {
+        private final CustomList<E> list;
+
+        CustomListAdapter(CustomList<E> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void add(E element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public E get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return list.remove(o);
+        }
+
+        @Override
+        public E remove(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public void clear() {
+            list.clear();
+        }
+
+        @Override
+        public void sort(Comparator<? super E> comparator) {
+            list.sort(comparator);
+        }
+
+        @Override
+        public Object[] toArray() {
+            return list.toArray();
+        }
+
+        @Override
+        public Object unwrap() {
+            return list;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return list.iterator();
+        }
+    }
+
+    private static final class JdkListAdapter<E> implements BenchmarkList<E> {
+        private final List<E> list;
+
+        JdkListAdapter(List<E> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void add(E element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public E get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return list.remove(o);
+        }
+
+        @Override
+        public E remove(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public void clear() {
+            list.clear();
+        }
+
+        @Override
+        public void sort(Comparator<? super E> comparator) {
+            list.sort(comparator);
+        }
+
+        @Override
+        public Object[] toArray() {
+            return list.toArray();
+        }
+
+        @Override
+        public Object unwrap() {
+            return list;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return list.iterator();
+        }
+    }
+}
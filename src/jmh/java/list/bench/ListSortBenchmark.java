@@ -0,0 +1,80 @@
+package list.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@code sort} of every list implementation with several comparators. The list is refilled with the
+ * unsorted data before each invocation, outside the measured time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ListSortBenchmark {
+
+    /**
+     * The comparators the lists are sorted with.
+     */
+    public enum Order {
+        NATURAL(Comparator.naturalOrder()),
+        REVERSE(Comparator.reverseOrder()),
+        LAST_DIGIT(Comparator.comparingInt(value -> Math.abs(value % 10)));
+
+        private final Comparator<Integer> comparator;
+
+        Order(Comparator<Integer> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    @Param({"CUSTOM_ARRAY", "CUSTOM_LINKED", "JDK_ARRAY", "JDK_LINKED"})
+    private ListImplementation implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED"})
+    private InputOrder order;
+
+    @Param({"NATURAL", "REVERSE", "LAST_DIGIT"})
+    private Order comparator;
+
+    private Integer[] data;
+    private BenchmarkList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = order.generate(size);
+        list = implementation.create();
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        list.clear();
+        for (Integer value : data) {
+            list.add(value);
+        }
+    }
+
+    @Benchmark
+    public BenchmarkList<Integer> sort() {
+        list.sort(comparator.comparator);
+        return list;
+    }
+}
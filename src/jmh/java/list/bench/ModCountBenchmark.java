@@ -0,0 +1,79 @@
+package list.bench;
+
+import list.impl.CustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what the fail-fast modCount checks of CustomArrayList cost on iteration. The {@code plainArray} baseline
+ * sums the same elements from an {@code Object[]} with no checks at all; after JIT the checked loops should be
+ * within noise of it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModCountBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private CustomArrayList<Integer> list;
+    private Object[] plain;
+
+    @Setup
+    public void setUp() {
+        list = new CustomArrayList<>();
+        for (Integer value : InputOrder.RANDOM.generate(size)) {
+            list.add(value);
+        }
+        plain = list.toArray();
+    }
+
+    @Benchmark
+    public long plainArray() {
+        long sum = 0;
+        for (Object value : plain) {
+            sum += (Integer) value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterator() {
+        long sum = 0;
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEach() {
+        long[] sum = new long[1];
+        list.forEach(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long spliterator() {
+        long[] sum = new long[1];
+        list.spliterator().forEachRemaining(value -> sum[0] += value);
+        return sum[0];
+    }
+}
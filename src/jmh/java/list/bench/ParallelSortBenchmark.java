@@ -0,0 +1,68 @@
+package list.bench;
+
+import list.impl.CustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential {@code sort} of CustomArrayList with {@code parallelSort} at several thresholds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelSortBenchmark {
+
+    @Param({"100000", "1000000", "20000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED"})
+    private InputOrder order;
+
+    @Param({"8192", "65536"})
+    private int threshold;
+
+    private Integer[] data;
+    private CustomArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = order.generate(size);
+        list = new CustomArrayList<>();
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        list.clear();
+        for (Integer value : data) {
+            list.add(value);
+        }
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> sort() {
+        list.sort(Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> parallelSort() {
+        list.parallelSort(Comparator.naturalOrder(), threshold);
+        return list;
+    }
+}
@@ -0,0 +1,112 @@
+package list.bench;
+
+import list.impl.CustomArrayList;
+import list.impl.CustomListReader;
+import list.impl.CustomListWriter;
+import list.impl.ElementCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Java serialization of a java.util.ArrayList with the binary list format, plain and with compressed
+ * blocks, on writing and reading a list of integers in memory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private ArrayList<Integer> javaList;
+    private CustomArrayList<Integer> customList;
+    private byte[] serialized;
+    private byte[] plain;
+    private byte[] compressed;
+
+    @Setup
+    public void setUp() throws IOException {
+        Integer[] data = InputOrder.RANDOM.generate(size);
+        javaList = new ArrayList<>(Arrays.asList(data));
+        customList = new CustomArrayList<>(size);
+        customList.addAll(data);
+        serialized = javaSerialize();
+        plain = customWrite(false);
+        compressed = customWrite(true);
+    }
+
+    @Benchmark
+    public byte[] javaSerialize() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream objects = new ObjectOutputStream(out)) {
+            objects.writeObject(javaList);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Object javaDeserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return objects.readObject();
+        }
+    }
+
+    @Benchmark
+    public byte[] customWritePlain() {
+        return customWrite(false);
+    }
+
+    @Benchmark
+    public byte[] customWriteCompressed() {
+        return customWrite(true);
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customReadPlain() {
+        return customRead(plain);
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> customReadCompressed() {
+        return customRead(compressed);
+    }
+
+    private byte[] customWrite(boolean compress) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CustomListWriter<Integer> writer = new CustomListWriter<>(Channels.newChannel(out), ElementCodec.ints(),
+                compress, 1 << 16)) {
+            writer.writeAll(customList);
+        }
+        return out.toByteArray();
+    }
+
+    private static CustomArrayList<Integer> customRead(byte[] bytes) {
+        try (CustomListReader<Integer> reader = new CustomListReader<>(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), ElementCodec.ints())) {
+            return reader.readAll();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package list.bench;
+
+import list.impl.CustomArrayList;
+import list.impl.ImmutableCustomList;
+import list.impl.PersistentCustomVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what it costs to publish a snapshot of a list: copying it with {@code toArray} against handing the
+ * backing array over with {@code freeze}, and producing a changed version of a persistent vector against copying an
+ * array and changing the copy. The list to snapshot is refilled before every invocation, because freezing empties it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SnapshotBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Integer[] data;
+    private CustomArrayList<Integer> list;
+    private PersistentCustomVector<Integer> vector;
+    private int position;
+
+    @Setup
+    public void setUp() {
+        data = InputOrder.RANDOM.generate(size);
+        list = new CustomArrayList<>(size);
+        vector = PersistentCustomVector.of(fill(new CustomArrayList<>(size)));
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        if (list.size() == 0) {
+            fill(list);
+        }
+        position = (position + 7919) % size;
+    }
+
+    @Benchmark
+    public Object[] copySnapshot() {
+        return list.toArray();
+    }
+
+    @Benchmark
+    public ImmutableCustomList<Integer> freezeSnapshot() {
+        return list.freeze();
+    }
+
+    @Benchmark
+    public Object[] copyThenSet() {
+        Object[] copy = Arrays.copyOf(data, size);
+        copy[position] = -1;
+        return copy;
+    }
+
+    @Benchmark
+    public PersistentCustomVector<Integer> persistentWith() {
+        return vector.with(position, -1);
+    }
+
+    @Benchmark
+    public Object[] copyThenAppend() {
+        Object[] copy = Arrays.copyOf(data, size + 1);
+        copy[size] = -1;
+        return copy;
+    }
+
+    @Benchmark
+    public PersistentCustomVector<Integer> persistentPlus() {
+        return vector.plus(-1);
+    }
+
+    private CustomArrayList<Integer> fill(CustomArrayList<Integer> target) {
+        target.addAll(data);
+        return target;
+    }
+}
@@ -0,0 +1,71 @@
+package list.bench;
+
+import list.impl.CustomArrayList;
+import list.impl.SortedCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up an element of a sorted list with a linear {@code indexOf} scan against {@code binarySearch},
+ * and measures an ordered insert into a SortedCustomArrayList.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SortedLookupBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private CustomArrayList<Integer> list;
+    private SortedCustomArrayList<Integer> sorted;
+    private Integer[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Integer[] data = InputOrder.RANDOM.generate(size);
+        list = new CustomArrayList<>(size);
+        list.addAll(data);
+        list.sort(Comparator.naturalOrder());
+        sorted = SortedCustomArrayList.of(list, Comparator.naturalOrder());
+        keys = InputOrder.RANDOM.generate(1024);
+    }
+
+    @Benchmark
+    public int linearIndexOf() {
+        return list.indexOf(nextKey());
+    }
+
+    @Benchmark
+    public int binarySearch() {
+        return list.binarySearch(nextKey(), Comparator.naturalOrder());
+    }
+
+    @Benchmark
+    public int sortedInsertAndRemove() {
+        Integer key = nextKey();
+        sorted.add(key);
+        sorted.remove(key);
+        return sorted.size();
+    }
+
+    private Integer nextKey() {
+        return keys[next++ & 1023];
+    }
+}
@@ -0,0 +1,91 @@
+package list.bench;
+
+import list.CustomList;
+import list.Cursor;
+import list.IntObjConsumer;
+import list.impl.CustomArrayList;
+import list.impl.CustomLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways of reading a whole list: an iterator, a reused cursor, forEachIndexed and indexed get. Meant to
+ * be run with the GC profiler, which reports the bytes allocated per operation:
+ * {@code ./gradlew jmh -PjmhArgs="TraversalBenchmark -prof gc"}. The cursor and the action are created once in setup,
+ * so their loops allocate nothing; the iterator allocates one object per traversal unless escape analysis removes it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TraversalBenchmark {
+
+    @Param({"ARRAY", "LINKED"})
+    private String implementation;
+
+    @Param({"16", "10000"})
+    private int size;
+
+    private CustomList<Integer> list;
+    private Cursor<Integer> cursor;
+    private final long[] sum = new long[1];
+    private IntObjConsumer<Integer> summer;
+
+    @Setup
+    public void setUp() {
+        list = implementation.equals("ARRAY") ? new CustomArrayList<>() : new CustomLinkedList<>();
+        list.addAll(InputOrder.RANDOM.generate(size));
+        cursor = list.cursor();
+        summer = (index, element) -> sum[0] += element;
+    }
+
+    @Benchmark
+    public long iterator() {
+        long total = 0;
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            total += iterator.next();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long cursor() {
+        long total = 0;
+        cursor.reset();
+        while (cursor.advance()) {
+            total += cursor.value();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long forEachIndexed() {
+        sum[0] = 0;
+        list.forEachIndexed(summer);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long indexedGet() {
+        long total = 0;
+        for (int i = 0; i < list.size(); i++) {
+            total += list.get(i);
+        }
+        return total;
+    }
+}
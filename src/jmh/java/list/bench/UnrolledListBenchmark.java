@@ -0,0 +1,70 @@
+package list.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the unrolled linked list with CustomLinkedList on the operations that chase links: iteration,
+ * {@code toArray}, sequential insert at the end and sorting. The list is built once per trial, so its nodes are
+ * spread over the heap the way a long-lived list's would be.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UnrolledListBenchmark {
+
+    @Param({"CUSTOM_LINKED", "CUSTOM_UNROLLED"})
+    private ListImplementation implementation;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Integer[] data;
+    private BenchmarkList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        data = InputOrder.RANDOM.generate(size);
+        list = implementation.create(data);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    @Benchmark
+    public BenchmarkList<Integer> sequentialInsert() {
+        return implementation.create(data);
+    }
+
+    @Benchmark
+    public BenchmarkList<Integer> sort() {
+        BenchmarkList<Integer> copy = implementation.create(data);
+        copy.sort(Integer::compare);
+        return copy;
+    }
+}
@@ -0,0 +1,47 @@
+package list;
+
+/**
+ * A forward cursor over the elements of a CustomList, created by {@link CustomList#cursor()}.
+ * <p>
+ * Unlike an Iterator, a cursor is rewound with {@link #reset()} instead of being replaced, so a single instance can
+ * traverse its list any number of times without allocating. A traversal reads:
+ * <pre>{@code
+ * for (cursor.reset(); cursor.advance(); ) {
+ *     process(cursor.value());
+ * }
+ * }</pre>
+ * A cursor is fail-fast where its list is: a structural modification of the list after the last reset is reported by
+ * the next advance with a ConcurrentModificationException.
+ *
+ * @param <E> the type of elements in the list
+ */
+public interface Cursor<E> {
+
+    /**
+     * Moves the cursor to the next element.
+     *
+     * @return true if the cursor is now on an element, false if the traversal is over
+     * @throws java.util.ConcurrentModificationException if the list was structurally modified since the last reset
+     */
+    boolean advance();
+
+    /**
+     * Returns the element the cursor is on.
+     *
+     * @return the current element
+     * @throws java.util.NoSuchElementException if advance has not been called since the last reset or returned false
+     */
+    E value();
+
+    /**
+     * Returns the index of the element the cursor is on, -1 before the first advance.
+     *
+     * @return the current index
+     */
+    int index();
+
+    /**
+     * Moves the cursor back before the first element, so that the next advance moves it to the first element.
+     */
+    void reset();
+}
@@ -1,6 +1,21 @@
 package list;
 
+import list.impl.CustomArrayList;
+
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This interface represents a custom list data structure.
@@ -24,6 +39,81 @@ public interface CustomList<E> extends Iterable<E> {
      */
     void add(int index, E element);
 
+    /**
+     * Adds all the elements of the specified list to the end of the list, in order.
+     *
+     * @param other the list whose elements are to be added
+     * @return true if the list changed as a result of the call
+     */
+    default boolean addAll(CustomList<? extends E> other) {
+        return addAll(size(), other);
+    }
+
+    /**
+     * Adds all the elements of the specified collection to the end of the list, in iteration order.
+     *
+     * @param collection the collection whose elements are to be added
+     * @return true if the list changed as a result of the call
+     */
+    default boolean addAll(Collection<? extends E> collection) {
+        return addAll(size(), collection);
+    }
+
+    /**
+     * Adds all the elements of the specified array to the end of the list, in order.
+     *
+     * @param array the array whose elements are to be added
+     * @return true if the list changed as a result of the call
+     */
+    default boolean addAll(E[] array) {
+        return addAll(size(), array);
+    }
+
+    /**
+     * Inserts all the elements of the specified list at the specified position in the list, in order.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param other the list whose elements are to be inserted
+     * @return true if the list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    default boolean addAll(int index, CustomList<? extends E> other) {
+        return addAll(index, (E[]) other.toArray());
+    }
+
+    /**
+     * Inserts all the elements of the specified collection at the specified position in the list, in iteration order.
+     *
+     * @param index      the index at which the first element is to be inserted
+     * @param collection the collection whose elements are to be inserted
+     * @return true if the list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    default boolean addAll(int index, Collection<? extends E> collection) {
+        return addAll(index, (E[]) collection.toArray());
+    }
+
+    /**
+     * Inserts all the elements of the specified array at the specified position in the list, in order.
+     * The default implementation inserts the elements one at a time.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param array the array whose elements are to be inserted
+     * @return true if the list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    default boolean addAll(int index, E[] array) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Requested index: " + index + ", but size: " + size());
+        }
+        for (E element : array) {
+            add(index++, element);
+        }
+        return array.length > 0;
+    }
+
     /**
      * Returns the element at the specified position in the list.
      *
@@ -32,6 +122,15 @@ public interface CustomList<E> extends Iterable<E> {
      */
     E get(int index);
 
+    /**
+     * Replaces the element at the specified position in the list with the specified element.
+     *
+     * @param index   the index of the element to be replaced
+     * @param element the element to be stored at the specified position
+     * @return the element previously at the specified position
+     */
+    E set(int index, E element);
+
     /**
      * Removes the first occurrence of the specified element from the list, if it is present.
      *
@@ -48,11 +147,143 @@ public interface CustomList<E> extends Iterable<E> {
      */
     E remove(int index);
 
+    /**
+     * Returns true if the list contains the specified element, compared with {@link Objects#equals(Object, Object)}.
+     *
+     * @param o the element whose presence is to be tested
+     * @return true if the list contains the specified element, false otherwise
+     */
+    default boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list, or -1 if it is not present.
+     * The default implementation scans the list from the front with its iterator.
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, or -1 if the list does not contain it
+     */
+    default int indexOf(Object o) {
+        int index = 0;
+        for (E element : this) {
+            if (Objects.equals(o, element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list, or -1 if it is not present.
+     * The default implementation scans the list from the back with its list iterator.
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, or -1 if the list does not contain it
+     */
+    default int lastIndexOf(Object o) {
+        ListIterator<E> iterator = listIterator(size());
+        while (iterator.hasPrevious()) {
+            if (Objects.equals(o, iterator.previous())) {
+                return iterator.nextIndex();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Searches the list, which must be sorted by the specified comparator, for the specified key with a binary search.
+     * If the list holds several elements equal to the key, the index of the first of them is returned. The default
+     * implementation reads the elements with {@link #get(int)}, so it takes O(log n) reads.
+     *
+     * @param key        the element to search for
+     * @param comparator the comparator by which the list is sorted
+     * @return the index of the first element equal to the key, or (-(insertion point) - 1) if there is none, where
+     * the insertion point is the index of the first element greater than the key, or the size of the list
+     */
+    default int binarySearch(E key, Comparator<? super E> comparator) {
+        Objects.requireNonNull(comparator);
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(get(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < size() && comparator.compare(get(low), key) == 0 ? low : -(low + 1);
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive.
+     * The default implementation removes the elements one at a time.
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Requested range [" + fromIndex + ", " + toIndex + "), but size: " + size());
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    /**
+     * Removes all the elements of the list that are contained in the specified collection, in a single pass.
+     *
+     * @param collection the collection of elements to be removed
+     * @return true if the list changed as a result of the call
+     */
+    default boolean removeAll(Collection<?> collection) {
+        return removeIf(collection::contains);
+    }
+
+    /**
+     * Retains only the elements of the list that are contained in the specified collection, in a single pass.
+     *
+     * @param collection the collection of elements to be retained
+     * @return true if the list changed as a result of the call
+     */
+    default boolean retainAll(Collection<?> collection) {
+        return removeIf(element -> !collection.contains(element));
+    }
+
+    /**
+     * Removes all the elements of the list that satisfy the given predicate.
+     *
+     * @param filter a predicate which returns true for the elements to be removed
+     * @return true if any elements were removed, false otherwise
+     */
+    default boolean removeIf(Predicate<? super E> filter) {
+        boolean removed = false;
+        Iterator<E> iterator = listIterator();
+        while (iterator.hasNext()) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
     /**
      * Removes all the elements from the list.
      */
     void clear();
 
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list
+     */
+    int size();
+
     /**
      * Sorts the list according to the order induced by the specified comparator.
      */
@@ -86,4 +317,228 @@ public interface CustomList<E> extends Iterable<E> {
      * @return a string representation of the list
      */
     String toString();
+
+    /**
+     * Returns a list iterator over the elements in the list, starting at the beginning of the list.
+     * The iterator supports remove, set and add at its position.
+     *
+     * @return a list iterator over the elements in the list
+     */
+    default ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in the list, starting at the specified position.
+     * The iterator supports remove, set and add at its position; the default implementation does so through the
+     * indexed operations of the list.
+     *
+     * @param index the index of the first element to be returned by next
+     * @return a list iterator over the elements in the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    default ListIterator<E> listIterator(int index) {
+        return new IndexListIterator<>(this, index);
+    }
+
+    /**
+     * Returns a view of the elements between fromIndex, inclusive, and toIndex, exclusive. The view is backed by the
+     * list: changes made through the view, including structural ones, are made to the list, and nothing is copied to
+     * create it. A structural modification of the list that is not made through the view invalidates it, and any
+     * later use of the view throws ConcurrentModificationException. The default implementation works through the
+     * indexed operations of the list and notices changes around it by the size of the list.
+     *
+     * @param fromIndex the index of the first element of the view
+     * @param toIndex   the index after the last element of the view
+     * @return a view of the range of the list
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    default CustomList<E> subList(int fromIndex, int toIndex) {
+        return new IndexSubList<>(this, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns a lazy view over the elements of the list. The map, filter, limit, skip and flatMap stages chained on it
+     * are fused into a single loop over the list when a terminal operation runs, without intermediate lists.
+     * The default implementation reads the list with its iterator.
+     *
+     * @return a lazy view over the elements of the list
+     */
+    default ListView<E> view() {
+        return ListView.of(sink -> {
+            for (E element : this) {
+                if (!sink.accept(element)) {
+                    return;
+                }
+            }
+        }, this::size);
+    }
+
+    /**
+     * Returns a cursor positioned before the first element of the list. The cursor can be reset and reused for any
+     * number of traversals; implementations backed by an array or nodes allocate nothing after creating it.
+     * The default implementation takes a new iterator of the list on every reset.
+     *
+     * @return a cursor over the elements of the list
+     */
+    default Cursor<E> cursor() {
+        return new IteratorCursor<>(this);
+    }
+
+    /**
+     * Performs the given action for each element of the list together with its index, in order.
+     * The default implementation reads the list with its iterator.
+     *
+     * @param action the action to be performed on the indices and elements
+     */
+    default void forEachIndexed(IntObjConsumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int index = 0;
+        for (E element : this) {
+            action.accept(index++, element);
+        }
+    }
+
+    /**
+     * Returns an estimate of the heap memory the list holds, in bytes: the list object and the arrays or nodes it
+     * keeps its elements in, with their unused capacity, but not the elements themselves nor objects shared between
+     * lists. The estimate follows {@link HeapLayout}. A view, like a subList, counts only itself, as its storage
+     * belongs to the list it views. The default implementation counts a list object and one array of exactly size
+     * references; it is only right for lists stored that way, and implementations with any other storage override it.
+     *
+     * @return the estimated size of the list in bytes
+     */
+    default long memoryFootprint() {
+        return HeapLayout.objectSize(1, 1) + HeapLayout.referenceArraySize(size());
+    }
+
+    /**
+     * Performs the given action for each element of the list on new virtual threads, or on new daemon threads where
+     * the runtime has no virtual threads, with at most {@code concurrency} actions running at once. Suited to actions
+     * that block, like lookups against a store. Returns when every action has completed.
+     *
+     * @param action      the action to be performed on the elements
+     * @param concurrency the maximum number of actions running at once
+     * @throws IllegalArgumentException if concurrency is not positive
+     * @see #parallelForEach(Consumer, Executor, int)
+     */
+    default void parallelForEach(Consumer<? super E> action, int concurrency) {
+        ExecutorService executor = ParallelBatches.newThreadPerTaskExecutor();
+        try {
+            parallelForEach(action, executor, concurrency);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the list on the specified executor, with one worker per
+     * available processor. Returns when every action has completed.
+     *
+     * @param action   the action to be performed on the elements
+     * @param executor the executor that runs the actions
+     * @see #parallelForEach(Consumer, Executor, int)
+     */
+    default void parallelForEach(Consumer<? super E> action, Executor executor) {
+        parallelForEach(action, executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Performs the given action for each element of the list on the specified executor, with at most
+     * {@code concurrency} actions running at once. Returns when every action has completed.
+     * <p>
+     * The elements are read once into an array, which takes a single walk of a linked list, and the array is split
+     * into contiguous batches that the workers take in order; changes made to the list meanwhile are not seen. The
+     * order in which the actions run is not specified. If an action throws, no more batches are started, the running
+     * workers are interrupted and the exception is rethrown.
+     *
+     * @param action      the action to be performed on the elements
+     * @param executor    the executor that runs the actions
+     * @param concurrency the maximum number of actions running at once
+     * @throws IllegalArgumentException if concurrency is not positive
+     * @throws java.util.concurrent.CancellationException if the calling thread is interrupted while waiting
+     */
+    default void parallelForEach(Consumer<? super E> action, Executor executor, int concurrency) {
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(executor);
+        ParallelBatches.map(toArray(), element -> {
+            @SuppressWarnings("unchecked")
+            E e = (E) element;
+            action.accept(e);
+            return null;
+        }, concurrency, executor);
+    }
+
+    /**
+     * Applies the function to each element of the list on new virtual threads, or on new daemon threads where the
+     * runtime has no virtual threads, with at most {@code concurrency} calls running at once.
+     *
+     * @param mapper      the function to apply to the elements
+     * @param concurrency the maximum number of calls running at once
+     * @param <R>         the type of the results
+     * @return a new list holding the result of each element, in the order of the elements
+     * @throws IllegalArgumentException if concurrency is not positive
+     * @see #mapAsync(Function, int, Executor)
+     */
+    default <R> CustomArrayList<R> mapAsync(Function<? super E, ? extends R> mapper, int concurrency) {
+        ExecutorService executor = ParallelBatches.newThreadPerTaskExecutor();
+        try {
+            return mapAsync(mapper, concurrency, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Applies the function to each element of the list on the specified executor, with at most
+     * {@code concurrency} calls running at once, and collects the results in list order. Batching, snapshot and
+     * failure handling are those of {@link #parallelForEach(Consumer, Executor, int)}.
+     *
+     * @param mapper      the function to apply to the elements
+     * @param concurrency the maximum number of calls running at once
+     * @param executor    the executor that runs the calls
+     * @param <R>         the type of the results
+     * @return a new list holding the result of each element, in the order of the elements
+     * @throws IllegalArgumentException if concurrency is not positive
+     * @throws java.util.concurrent.CancellationException if the calling thread is interrupted while waiting
+     */
+    @SuppressWarnings("unchecked")
+    default <R> CustomArrayList<R> mapAsync(Function<? super E, ? extends R> mapper, int concurrency,
+                                            Executor executor) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(executor);
+        Object[] results = ParallelBatches.map(toArray(), element -> mapper.apply((E) element), concurrency, executor);
+        CustomArrayList<R> list = new CustomArrayList<>(results.length);
+        list.addAll((R[]) results);
+        return list;
+    }
+
+    /**
+     * Creates a Spliterator over the elements in the list that knows the size of the list.
+     * Implementations backed by an array should override this with a spliterator that splits.
+     *
+     * @return a Spliterator over the elements in the list
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential Stream with the list as its source.
+     *
+     * @return a sequential Stream over the elements in the list
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel Stream with the list as its source.
+     *
+     * @return a possibly parallel Stream over the elements in the list
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package list;
+
+/**
+ * The object layout the memory footprint estimates of the lists are computed with: that of a 64-bit HotSpot JVM with
+ * compressed references and compressed class pointers, which is the default for heaps below 32 GB. Objects have a
+ * 12-byte header, references take 4 bytes, arrays have a 16-byte header and every object is padded to a multiple of
+ * 8 bytes. Other layouts make the estimates too low, by up to 4 bytes per reference and 4 bytes per header.
+ */
+public final class HeapLayout {
+    /**
+     * The size of an object header in bytes.
+     */
+    public static final int OBJECT_HEADER = 12;
+    /**
+     * The size of an array header, including the length, in bytes.
+     */
+    public static final int ARRAY_HEADER = 16;
+    /**
+     * The size of a reference in bytes.
+     */
+    public static final int REFERENCE = 4;
+    /**
+     * The alignment of objects in bytes.
+     */
+    public static final int ALIGNMENT = 8;
+
+    private HeapLayout() {
+    }
+
+    /**
+     * Returns the size of an object with the specified numbers of reference and int fields.
+     *
+     * @param references the number of reference fields
+     * @param ints       the number of int fields
+     * @return the size of the object in bytes
+     */
+    public static long objectSize(int references, int ints) {
+        return align(OBJECT_HEADER + (long) references * REFERENCE + (long) ints * Integer.BYTES);
+    }
+
+    /**
+     * Returns the size of an array of references of the specified length.
+     *
+     * @param length the length of the array
+     * @return the size of the array in bytes
+     */
+    public static long referenceArraySize(int length) {
+        return align(ARRAY_HEADER + (long) length * REFERENCE);
+    }
+
+    /**
+     * Returns the size of an array of a primitive type of the specified length.
+     *
+     * @param length       the length of the array
+     * @param elementBytes the size of an element in bytes, e.g. {@link Integer#BYTES}
+     * @return the size of the array in bytes
+     */
+    public static long primitiveArraySize(int length, int elementBytes) {
+        return align(ARRAY_HEADER + (long) length * elementBytes);
+    }
+
+    /**
+     * Rounds the specified size up to the object alignment.
+     *
+     * @param size a size in bytes
+     * @return the smallest multiple of the alignment that is not less than the size
+     */
+    public static long align(long size) {
+        return (size + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+}
@@ -0,0 +1,86 @@
+package list;
+
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A ListIterator that works on any CustomList through its indexed operations.
+ * Used as the default of {@link CustomList#listIterator(int)}.
+ *
+ * @param <E> the type of elements in the list
+ */
+class IndexListIterator<E> implements ListIterator<E> {
+    private final CustomList<E> list;
+    private int cursor;
+    private int lastReturned = -1;
+
+    IndexListIterator(CustomList<E> list, int index) {
+        if (index < 0 || index > list.size()) {
+            throw new IndexOutOfBoundsException("Requested index: " + index + ", but size: " + list.size());
+        }
+        this.list = list;
+        this.cursor = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < list.size();
+    }
+
+    @Override
+    public E next() {
+        if (cursor >= list.size()) {
+            throw new NoSuchElementException();
+        }
+        lastReturned = cursor;
+        return list.get(cursor++);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return cursor > 0;
+    }
+
+    @Override
+    public E previous() {
+        if (cursor <= 0) {
+            throw new NoSuchElementException();
+        }
+        lastReturned = --cursor;
+        return list.get(cursor);
+    }
+
+    @Override
+    public int nextIndex() {
+        return cursor;
+    }
+
+    @Override
+    public int previousIndex() {
+        return cursor - 1;
+    }
+
+    @Override
+    public void remove() {
+        if (lastReturned < 0) {
+            throw new IllegalStateException();
+        }
+        list.remove(lastReturned);
+        cursor = lastReturned;
+        lastReturned = -1;
+    }
+
+    @Override
+    public void set(E element) {
+        if (lastReturned < 0) {
+            throw new IllegalStateException();
+        }
+        list.set(lastReturned, element);
+    }
+
+    @Override
+    public void add(E element) {
+        list.add(cursor++, element);
+        lastReturned = -1;
+    }
+}
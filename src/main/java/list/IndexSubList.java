@@ -0,0 +1,266 @@
+package list;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A view of a range of any CustomList that works through the indexed operations and the list iterator of the list.
+ * Used as the default of {@link CustomList#subList(int, int)}.
+ * <p>
+ * A CustomList does not expose its modCount, so the view detects changes made around it by the size of the list: a
+ * change of the size that is not made through the view invalidates it, and any later use throws
+ * ConcurrentModificationException.
+ *
+ * @param <E> the type of elements in the list
+ */
+class IndexSubList<E> implements CustomList<E> {
+    private final CustomList<E> list;
+    private final int offset;
+    private int size;
+    private int expectedListSize;
+
+    IndexSubList(CustomList<E> list, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > list.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Requested range [" + fromIndex + ", " + toIndex + "), but size: "
+                    + list.size());
+        }
+        this.list = list;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+        this.expectedListSize = list.size();
+    }
+
+    @Override
+    public void add(E element) {
+        add(size, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkForComodification();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Requested index: " + index + ", but size: " + size);
+        }
+        list.add(offset + index, element);
+        updateSize();
+    }
+
+    @Override
+    public boolean addAll(int index, E[] array) {
+        checkForComodification();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Requested index: " + index + ", but size: " + size);
+        }
+        boolean changed = list.addAll(offset + index, array);
+        updateSize();
+        return changed;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return list.get(offset + index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+        return list.set(offset + index, element);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int i = indexOf(o);
+        if (i < 0) {
+            return false;
+        }
+        remove(i);
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        E oldValue = list.remove(offset + index);
+        updateSize();
+        return oldValue;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkForComodification();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Requested range [" + fromIndex + ", " + toIndex + "), but size: " + size);
+        }
+        list.removeRange(offset + fromIndex, offset + toIndex);
+        updateSize();
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        sort((Comparator<? super E>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts the range by copying it into an array, sorting the array and writing the elements back through the list
+     * iterator of the list, which takes linear time for linked lists too.
+     *
+     * @param comparator the comparator to determine the order of the range
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        Object[] array = toArray();
+        Arrays.sort(array, (Comparator<Object>) comparator);
+        ListIterator<E> iterator = list.listIterator(offset);
+        for (Object element : array) {
+            iterator.next();
+            iterator.set((E) element);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(toArray(), ((IndexSubList<?>) o).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public long memoryFootprint() {
+        return HeapLayout.objectSize(1, 3);
+    }
+
+    @Override
+    public Object[] toArray() {
+        checkForComodification();
+        Object[] array = new Object[size];
+        Iterator<E> iterator = list.listIterator(offset);
+        for (int i = 0; i < size; i++) {
+            array[i] = iterator.next();
+        }
+        return array;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        checkForComodification();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Requested index: " + index + ", but size: " + size);
+        }
+        ListIterator<E> iterator = list.listIterator(offset + index);
+        return new ListIterator<>() {
+            @Override
+            public boolean hasNext() {
+                return nextIndex() < size;
+            }
+
+            @Override
+            public E next() {
+                checkForComodification();
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return iterator.next();
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return previousIndex() >= 0;
+            }
+
+            @Override
+            public E previous() {
+                checkForComodification();
+                if (!hasPrevious()) {
+                    throw new NoSuchElementException();
+                }
+                return iterator.previous();
+            }
+
+            @Override
+            public int nextIndex() {
+                return iterator.nextIndex() - offset;
+            }
+
+            @Override
+            public int previousIndex() {
+                return iterator.previousIndex() - offset;
+            }
+
+            @Override
+            public void remove() {
+                checkForComodification();
+                iterator.remove();
+                updateSize();
+            }
+
+            @Override
+            public void set(E element) {
+                checkForComodification();
+                iterator.set(element);
+            }
+
+            @Override
+            public void add(E element) {
+                checkForComodification();
+                iterator.add(element);
+                updateSize();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void checkIndex(int index) {
+        checkForComodification();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Requested index: " + index + ", but size: " + size);
+        }
+    }
+
+    private void checkForComodification() {
+        if (list.size() != expectedListSize) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private void updateSize() {
+        int listSize = list.size();
+        size += listSize - expectedListSize;
+        expectedListSize = listSize;
+    }
+}
@@ -0,0 +1,18 @@
+package list;
+
+/**
+ * An operation that accepts an element together with its index, without boxing the index.
+ *
+ * @param <T> the type of the element
+ */
+@FunctionalInterface
+public interface IntObjConsumer<T> {
+
+    /**
+     * Performs this operation on the specified element.
+     *
+     * @param index   the index of the element
+     * @param element the element
+     */
+    void accept(int index, T element);
+}
@@ -0,0 +1,57 @@
+package list;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A cursor over any CustomList that works through the iterator of the list. Used as the default of
+ * {@link CustomList#cursor()}; it takes a new iterator on every reset, so it is only allocation-free between resets.
+ *
+ * @param <E> the type of elements in the list
+ */
+class IteratorCursor<E> implements Cursor<E> {
+    private final CustomList<E> list;
+    private Iterator<E> iterator;
+    private E value;
+    private int index;
+    private boolean positioned;
+
+    IteratorCursor(CustomList<E> list) {
+        this.list = list;
+        reset();
+    }
+
+    @Override
+    public boolean advance() {
+        if (iterator.hasNext()) {
+            value = iterator.next();
+            index++;
+            positioned = true;
+            return true;
+        }
+        value = null;
+        positioned = false;
+        return false;
+    }
+
+    @Override
+    public E value() {
+        if (!positioned) {
+            throw new NoSuchElementException();
+        }
+        return value;
+    }
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public void reset() {
+        iterator = list.iterator();
+        value = null;
+        index = -1;
+        positioned = false;
+    }
+}
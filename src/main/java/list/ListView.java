@@ -0,0 +1,320 @@
+package list;
+
+import list.impl.CustomArrayList;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * A lazy query over the elements of a CustomList, created by {@link CustomList#view()}.
+ * <p>
+ * The intermediate operations ({@link #map}, {@link #filter}, {@link #limit}, {@link #skip} and {@link #flatMap})
+ * only describe a pipeline; nothing is read until a terminal operation runs. The stages are then fused: the list
+ * pushes its elements through one chain of sinks in a single loop over its backing array or nodes, without any
+ * intermediate list, and a stage that needs no more elements, like {@code limit}, stops the loop at once. Every
+ * terminal operation reads the list again as it is at that moment; the list must not be structurally modified while
+ * a terminal operation runs.
+ *
+ * @param <T> the type of elements produced by this view
+ */
+public final class ListView<T> {
+    private static final int UNKNOWN_SIZE = -1;
+    private final Source<T> source;
+    private final IntSupplier exactSize;
+
+    /**
+     * A receiver of the elements of a view.
+     *
+     * @param <T> the type of elements received
+     */
+    @FunctionalInterface
+    public interface Sink<T> {
+
+        /**
+         * Receives the next element.
+         *
+         * @param element the element
+         * @return true to receive more elements, false to stop the loop
+         */
+        boolean accept(T element);
+    }
+
+    /**
+     * A producer of elements that pushes them, in order, into a sink until the sink asks to stop.
+     *
+     * @param <T> the type of elements produced
+     */
+    @FunctionalInterface
+    public interface Source<T> {
+
+        /**
+         * Pushes the elements into the sink in order, stopping as soon as the sink returns false.
+         *
+         * @param sink the sink receiving the elements
+         */
+        void forEachUntil(Sink<? super T> sink);
+    }
+
+    private ListView(Source<T> source, IntSupplier exactSize) {
+        this.source = source;
+        this.exactSize = exactSize;
+    }
+
+    /**
+     * Creates a view over the specified source. Lists use this to push elements straight from their storage.
+     *
+     * @param source    the source of the elements
+     * @param exactSize supplies the exact number of elements the source produces at the time it runs
+     * @param <T>       the type of elements
+     * @return a view over the source
+     */
+    public static <T> ListView<T> of(Source<T> source, IntSupplier exactSize) {
+        return new ListView<>(Objects.requireNonNull(source), Objects.requireNonNull(exactSize));
+    }
+
+    /**
+     * Returns a view of the results of applying the specified function to the elements of this view.
+     *
+     * @param mapper the function to apply to each element
+     * @param <R>    the type of elements of the new view
+     * @return the mapped view
+     */
+    public <R> ListView<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return new ListView<>(sink -> source.forEachUntil(element -> sink.accept(mapper.apply(element))), exactSize);
+    }
+
+    /**
+     * Returns a view of the elements of this view that match the specified predicate.
+     *
+     * @param predicate the predicate an element must match to be kept
+     * @return the filtered view
+     */
+    public ListView<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return new ListView<>(sink -> source.forEachUntil(element -> !predicate.test(element) || sink.accept(element)),
+                () -> UNKNOWN_SIZE);
+    }
+
+    /**
+     * Returns a view of at most the first maxSize elements of this view. The loop stops as soon as the last of them
+     * has been produced.
+     *
+     * @param maxSize the maximum number of elements
+     * @return the truncated view
+     * @throws IllegalArgumentException if maxSize is negative
+     */
+    public ListView<T> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Max size must not be negative, but was: " + maxSize);
+        }
+        return new ListView<>(sink -> {
+            if (maxSize == 0) {
+                return;
+            }
+            source.forEachUntil(new Sink<T>() {
+                private long taken;
+
+                @Override
+                public boolean accept(T element) {
+                    return sink.accept(element) && ++taken < maxSize;
+                }
+            });
+        }, () -> {
+            int size = exactSize.getAsInt();
+            return size == UNKNOWN_SIZE ? UNKNOWN_SIZE : (int) Math.min(size, maxSize);
+        });
+    }
+
+    /**
+     * Returns a view of the elements of this view after the first n.
+     *
+     * @param n the number of leading elements to skip
+     * @return the view without its first n elements
+     * @throws IllegalArgumentException if n is negative
+     */
+    public ListView<T> skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Skip count must not be negative, but was: " + n);
+        }
+        return new ListView<>(sink -> source.forEachUntil(new Sink<T>() {
+            private long skipped;
+
+            @Override
+            public boolean accept(T element) {
+                if (skipped < n) {
+                    skipped++;
+                    return true;
+                }
+                return sink.accept(element);
+            }
+        }), () -> {
+            int size = exactSize.getAsInt();
+            return size == UNKNOWN_SIZE ? UNKNOWN_SIZE : (int) Math.max(0, size - n);
+        });
+    }
+
+    /**
+     * Returns a view of the elements of the iterables that the specified function returns for each element of this
+     * view, in order. A CustomList returned by the function is read through its own view, so it is fused into the
+     * same loop.
+     *
+     * @param mapper the function returning the elements to produce for each element
+     * @param <R>    the type of elements of the new view
+     * @return the flattened view
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ListView<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        Objects.requireNonNull(mapper);
+        return new ListView<>(sink -> source.forEachUntil(element -> {
+            Iterable<? extends R> inner = mapper.apply(element);
+            if (inner instanceof CustomList) {
+                boolean[] more = {true};
+                ((CustomList<R>) inner).view().source.forEachUntil(innerElement -> more[0] = sink.accept(innerElement));
+                return more[0];
+            }
+            for (R innerElement : inner) {
+                if (!sink.accept(innerElement)) {
+                    return false;
+                }
+            }
+            return true;
+        }), () -> UNKNOWN_SIZE);
+    }
+
+    /**
+     * Performs the specified action for each element of this view.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        source.forEachUntil(element -> {
+            action.accept(element);
+            return true;
+        });
+    }
+
+    /**
+     * Collects the elements of this view with the specified collector.
+     *
+     * @param collector the collector describing the reduction
+     * @param <A>       the intermediate accumulation type of the collector
+     * @param <R>       the type of the result
+     * @return the result of the reduction
+     */
+    @SuppressWarnings("unchecked")
+    public <A, R> R collect(Collector<? super T, A, R> collector) {
+        A container = collector.supplier().get();
+        BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        source.forEachUntil(element -> {
+            accumulator.accept(container, element);
+            return true;
+        });
+        if (collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            return (R) container;
+        }
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Reduces the elements of this view with the specified identity and associative function.
+     *
+     * @param identity    the identity value of the function
+     * @param accumulator the function combining two values
+     * @return the result of the reduction
+     */
+    @SuppressWarnings("unchecked")
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        Objects.requireNonNull(accumulator);
+        Object[] result = {identity};
+        source.forEachUntil(element -> {
+            result[0] = accumulator.apply((T) result[0], element);
+            return true;
+        });
+        return (T) result[0];
+    }
+
+    /**
+     * Reduces the elements of this view with the specified associative function.
+     *
+     * @param accumulator the function combining two values
+     * @return the result of the reduction, or an empty Optional if this view has no elements
+     * @throws NullPointerException if the result of the reduction is null
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> reduce(BinaryOperator<T> accumulator) {
+        Objects.requireNonNull(accumulator);
+        Object[] result = new Object[1];
+        boolean[] found = new boolean[1];
+        source.forEachUntil(element -> {
+            if (found[0]) {
+                result[0] = accumulator.apply((T) result[0], element);
+            } else {
+                result[0] = element;
+                found[0] = true;
+            }
+            return true;
+        });
+        return found[0] ? Optional.of((T) result[0]) : Optional.empty();
+    }
+
+    /**
+     * Returns the number of elements of this view. Does not run the pipeline if the size is known exactly.
+     *
+     * @return the number of elements
+     */
+    public long count() {
+        int size = exactSize.getAsInt();
+        if (size != UNKNOWN_SIZE) {
+            return size;
+        }
+        long[] count = new long[1];
+        source.forEachUntil(element -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Returns the first element of this view, stopping the loop right after it.
+     *
+     * @return the first element, or an empty Optional if this view has no elements
+     * @throws NullPointerException if the first element is null
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> findFirst() {
+        Object[] first = new Object[1];
+        boolean[] found = new boolean[1];
+        source.forEachUntil(element -> {
+            first[0] = element;
+            found[0] = true;
+            return false;
+        });
+        return found[0] ? Optional.of((T) first[0]) : Optional.empty();
+    }
+
+    /**
+     * Returns a new CustomArrayList with the elements of this view. When the number of elements is known exactly,
+     * i.e. the pipeline has no filter or flatMap, the backing array is allocated once at that size.
+     *
+     * @return a new list with the elements of this view
+     */
+    public CustomArrayList<T> toCustomList() {
+        int size = exactSize.getAsInt();
+        CustomArrayList<T> result = size == UNKNOWN_SIZE ? new CustomArrayList<>() : new CustomArrayList<>(size);
+        source.forEachUntil(element -> {
+            result.add(element);
+            return true;
+        });
+        return result;
+    }
+}
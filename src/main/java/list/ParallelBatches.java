@@ -0,0 +1,149 @@
+package list;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Runs a function over a snapshot of the elements of a list on an executor. Used by
+ * {@link CustomList#parallelForEach(java.util.function.Consumer, Executor, int)} and
+ * {@link CustomList#mapAsync(Function, int, Executor)}.
+ * <p>
+ * The elements are split into contiguous batches, several per worker, and a fixed number of workers pull the batches
+ * in order from a shared counter, so at most {@code concurrency} elements are processed at once and a slow batch
+ * does not hold the others back. Each result is written to the slot of its element, which keeps the results in list
+ * order. The first failure stops the workers from taking more batches, interrupts the ones still running and is
+ * rethrown to the caller.
+ */
+final class ParallelBatches {
+    private static final int BATCHES_PER_WORKER = 8;
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private ParallelBatches() {
+    }
+
+    /**
+     * Applies the function to every element and returns the results in the order of the elements.
+     *
+     * @param elements    the elements, which no one else writes while this runs
+     * @param mapper      the function to apply
+     * @param concurrency the maximum number of elements processed at once
+     * @param executor    the executor that runs the workers
+     * @return an array holding the result of each element at its index
+     */
+    static Object[] map(Object[] elements, Function<Object, Object> mapper, int concurrency, Executor executor) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be positive, but was: " + concurrency);
+        }
+        int length = elements.length;
+        Object[] results = new Object[length];
+        if (length == 0) {
+            return results;
+        }
+        int workers = Math.min(concurrency, length);
+        int batchCount = Math.min(length, workers * BATCHES_PER_WORKER);
+        int batchSize = (length + batchCount - 1) / batchCount;
+        AtomicInteger nextBatch = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(workers);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        FutureTask<Void>[] tasks = new FutureTask[workers];
+        Runnable worker = () -> {
+            int batch;
+            while (failure.get() == null && (batch = nextBatch.getAndIncrement()) < batchCount) {
+                int end = Math.min(length, (batch + 1) * batchSize);
+                for (int i = batch * batchSize; i < end; i++) {
+                    if (failure.get() != null) {
+                        return;
+                    }
+                    results[i] = mapper.apply(elements[i]);
+                }
+            }
+        };
+        for (int w = 0; w < workers; w++) {
+            tasks[w] = new FutureTask<>(worker, null) {
+                @Override
+                protected void setException(Throwable t) {
+                    if (failure.compareAndSet(null, t)) {
+                        cancelAll(tasks, this);
+                    }
+                    super.setException(t);
+                }
+
+                @Override
+                protected void done() {
+                    finished.countDown();
+                }
+            };
+        }
+        int submitted = 0;
+        try {
+            for (; submitted < workers; submitted++) {
+                executor.execute(tasks[submitted]);
+            }
+            finished.await();
+        } catch (InterruptedException e) {
+            cancelAll(tasks, null);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the batches");
+        } catch (RuntimeException | Error e) {
+            cancelAll(tasks, null);
+            throw e;
+        }
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (t instanceof Error error) {
+            throw error;
+        }
+        return results;
+    }
+
+    private static void cancelAll(FutureTask<Void>[] tasks, FutureTask<Void> except) {
+        for (FutureTask<Void> task : tasks) {
+            if (task != except) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Returns a new executor that starts a virtual thread per task where the runtime has them, and a new daemon
+     * platform thread per task otherwise. The caller must shut it down.
+     */
+    static ExecutorService newThreadPerTaskExecutor() {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // fall through to platform threads
+            }
+        }
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "custom-list-batch");
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newCachedThreadPool(factory);
+    }
+
+    /**
+     * Looks up Executors.newVirtualThreadPerTaskExecutor, which exists from Java 21 on.
+     */
+    private static Method findVirtualThreadExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,785 @@
+package list.impl;
+
+import list.CustomList;
+import list.HeapLayout;
+import list.ListView;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * This class implements the CustomList interface as a list of fixed-capacity blocks with a block-offset index.
+ * <p>
+ * The elements are kept in order in blocks of at most {@code blockCapacity} elements, and {@code offsets[b]} holds the
+ * index of the first element of block b. {@link #get(int)} and {@link #set(int, Object)} find the block with a binary
+ * search over the offsets, in O(log(n / B)). Inserting or removing in the middle shifts at most one block and updates
+ * the offsets of the blocks after it, in O(B + n / B), which is O(sqrt(n)) when B is close to sqrt(n); the default capacity of
+ * 1024 suits lists of about a million elements. A full block is split in two; a block that falls below a quarter of
+ * its capacity is merged with a neighbour if the two fit in three quarters of a block.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class ChunkedCustomList<E> implements CustomList<E> {
+    private static final String REQUEST_INDEX = "Requested index";
+    private static final String BUT_SIZE = ", but size: ";
+    private static final int DEFAULT_BLOCK_CAPACITY = 1024;
+    private static final int MIN_BLOCK_CAPACITY = 4;
+    private static final int INITIAL_BLOCK_SLOTS = 4;
+    private final int blockCapacity;
+    private Object[][] blocks;
+    private int[] blockSizes;
+    private int[] offsets;
+    private int blockCount;
+    private int size;
+    private int modCount;
+
+    /**
+     * Constructs an empty list with blocks of DEFAULT_BLOCK_CAPACITY elements.
+     */
+    public ChunkedCustomList() {
+        this(DEFAULT_BLOCK_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with blocks of the specified capacity.
+     *
+     * @param blockCapacity the maximum number of elements in a block
+     * @throws IllegalArgumentException if the block capacity is less than MIN_BLOCK_CAPACITY
+     */
+    public ChunkedCustomList(int blockCapacity) {
+        if (blockCapacity < MIN_BLOCK_CAPACITY) {
+            throw new IllegalArgumentException("Block capacity must be at least " + MIN_BLOCK_CAPACITY
+                    + ", but was: " + blockCapacity);
+        }
+        this.blockCapacity = blockCapacity;
+        this.blocks = new Object[INITIAL_BLOCK_SLOTS][];
+        this.blockSizes = new int[INITIAL_BLOCK_SLOTS];
+        this.offsets = new int[INITIAL_BLOCK_SLOTS];
+    }
+
+    /**
+     * Adds the specified element to the end of this list.
+     *
+     * @param element the element to be added to the list
+     */
+    @Override
+    public void add(E element) {
+        if (blockCount == 0 || blockSizes[blockCount - 1] == blockCapacity) {
+            insertBlock(blockCount, new Object[blockCapacity], size);
+        }
+        int last = blockCount - 1;
+        blocks[last][blockSizes[last]++] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list, shifting at most one block.
+     *
+     * @param index   the index at which the specified element is to be inserted
+     * @param element the element to be inserted into the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        if (index == size) {
+            add(element);
+            return;
+        }
+        int b = blockOf(index);
+        if (blockSizes[b] == blockCapacity) {
+            splitBlock(b, blockCapacity / 2);
+            if (index >= offsets[b + 1]) {
+                b++;
+            }
+        }
+        Object[] block = blocks[b];
+        int position = index - offsets[b];
+        System.arraycopy(block, position, block, position + 1, blockSizes[b] - position);
+        block[position] = element;
+        blockSizes[b]++;
+        shiftOffsets(b + 1, 1);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts all the elements of the specified list at the specified position in this list, in order.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param other the list whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> other) {
+        return insertAll(index, other.toArray());
+    }
+
+    /**
+     * Inserts all the elements of the specified collection at the specified position in this list, in iteration order.
+     *
+     * @param index      the index at which the first element is to be inserted
+     * @param collection the collection whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        return insertAll(index, collection.toArray());
+    }
+
+    /**
+     * Inserts all the elements of the specified array at the specified position in this list, in order.
+     * The block holding the position is split there once and the elements are inserted as new full blocks.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param array the array whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, E[] array) {
+        return insertAll(index, array);
+    }
+
+    private boolean insertAll(int index, Object[] array) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        if (array.length == 0) {
+            return false;
+        }
+        int b;
+        if (index == size) {
+            b = blockCount;
+            if (b > 0 && blockSizes[b - 1] < blockCapacity) {
+                int room = Math.min(blockCapacity - blockSizes[b - 1], array.length);
+                System.arraycopy(array, 0, blocks[b - 1], blockSizes[b - 1], room);
+                blockSizes[b - 1] += room;
+                size += room;
+                insertBlocks(b, array, room, index + room);
+                modCount++;
+                return true;
+            }
+        } else {
+            b = blockOf(index);
+            int position = index - offsets[b];
+            if (position > 0) {
+                splitBlock(b, position);
+                b++;
+            }
+        }
+        insertBlocks(b, array, 0, index);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts array[from..] as new full blocks before block b, whose first element is at the specified index.
+     */
+    private void insertBlocks(int b, Object[] array, int from, int index) {
+        int count = array.length - from;
+        int newBlocks = (count + blockCapacity - 1) / blockCapacity;
+        ensureBlockSlots(blockCount + newBlocks);
+        System.arraycopy(blocks, b, blocks, b + newBlocks, blockCount - b);
+        System.arraycopy(blockSizes, b, blockSizes, b + newBlocks, blockCount - b);
+        System.arraycopy(offsets, b, offsets, b + newBlocks, blockCount - b);
+        blockCount += newBlocks;
+        for (int i = 0; i < newBlocks; i++) {
+            int length = Math.min(blockCapacity, count - i * blockCapacity);
+            Object[] block = new Object[blockCapacity];
+            System.arraycopy(array, from + i * blockCapacity, block, 0, length);
+            blocks[b + i] = block;
+            blockSizes[b + i] = length;
+            offsets[b + i] = index + i * blockCapacity;
+        }
+        shiftOffsets(b + newBlocks, count);
+        size += count;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        int b = blockOf(index);
+        return (E) blocks[b][index - offsets[b]];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   the index of the element to be replaced
+     * @param element the element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        int b = blockOf(index);
+        Object[] block = blocks[b];
+        int position = index - offsets[b];
+        E oldValue = (E) block[position];
+        block[position] = element;
+        return oldValue;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list if it is present.
+     *
+     * @param o the element to be removed from this list, if present
+     * @return true if this list contained the specified element, false otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes the element at the specified position in this list, shifting at most one block.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        int b = blockOf(index);
+        Object[] block = blocks[b];
+        int position = index - offsets[b];
+        E oldValue = (E) block[position];
+        int newBlockSize = --blockSizes[b];
+        System.arraycopy(block, position + 1, block, position, newBlockSize - position);
+        block[newBlockSize] = null;
+        shiftOffsets(b + 1, -1);
+        size--;
+        modCount++;
+        if (newBlockSize == 0) {
+            removeBlocks(b, b + 1);
+        } else if (newBlockSize < blockCapacity / 4) {
+            mergeWithNeighbour(b);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive. Only the two blocks
+     * at the ends of the range are shifted; the blocks entirely inside it are dropped.
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Requested range [" + fromIndex + ", " + toIndex + ")" + BUT_SIZE + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        int first = blockOf(fromIndex);
+        int last = blockOf(toIndex - 1);
+        int removed = toIndex - fromIndex;
+        int head = fromIndex - offsets[first];
+        int tail = offsets[last] + blockSizes[last] - toIndex;
+        if (first == last) {
+            Object[] block = blocks[first];
+            System.arraycopy(block, toIndex - offsets[first], block, head, tail);
+            Arrays.fill(block, head + tail, blockSizes[first], null);
+            blockSizes[first] = head + tail;
+            shiftOffsets(first + 1, -removed);
+        } else {
+            Arrays.fill(blocks[first], head, blockSizes[first], null);
+            blockSizes[first] = head;
+            Object[] block = blocks[last];
+            System.arraycopy(block, blockSizes[last] - tail, block, 0, tail);
+            Arrays.fill(block, tail, blockSizes[last], null);
+            blockSizes[last] = tail;
+            offsets[last] = fromIndex;
+            removeBlocks(first + 1, last);
+            shiftOffsets(first + 2, -removed);
+        }
+        size -= removed;
+        modCount++;
+        dropEmptyBlocks(first, Math.min(first + 2, blockCount));
+    }
+
+    /**
+     * Removes all the elements of this list that satisfy the given predicate. Each block is compacted in place,
+     * emptied blocks are dropped and the offsets are recomputed in one pass. If the predicate throws, the list is
+     * left unchanged.
+     *
+     * @param filter a predicate which returns true for the elements to be removed
+     * @return true if any elements were removed, false otherwise
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean[] removed = new boolean[size];
+        boolean any = false;
+        int index = 0;
+        for (int b = 0; b < blockCount; b++) {
+            Object[] block = blocks[b];
+            for (int i = 0; i < blockSizes[b]; i++, index++) {
+                if (filter.test((E) block[i])) {
+                    removed[index] = true;
+                    any = true;
+                }
+            }
+        }
+        if (!any) {
+            return false;
+        }
+        index = 0;
+        int kept = 0;
+        int blocksKept = 0;
+        for (int b = 0; b < blockCount; b++) {
+            Object[] block = blocks[b];
+            int blockKept = 0;
+            for (int i = 0; i < blockSizes[b]; i++, index++) {
+                if (!removed[index]) {
+                    block[blockKept++] = block[i];
+                }
+            }
+            Arrays.fill(block, blockKept, blockSizes[b], null);
+            if (blockKept > 0) {
+                blocks[blocksKept] = block;
+                blockSizes[blocksKept] = blockKept;
+                offsets[blocksKept] = kept;
+                blocksKept++;
+                kept += blockKept;
+            }
+        }
+        Arrays.fill(blocks, blocksKept, blockCount, null);
+        blockCount = blocksKept;
+        size = kept;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes all the elements from this list. The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(blocks, 0, blockCount, null);
+        blockCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int indexOf(Object o) {
+        for (int b = 0; b < blockCount; b++) {
+            Object[] block = blocks[b];
+            for (int i = 0; i < blockSizes[b]; i++) {
+                if (Objects.equals(o, block[i])) {
+                    return offsets[b] + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int b = blockCount - 1; b >= 0; b--) {
+            Object[] block = blocks[b];
+            for (int i = blockSizes[b] - 1; i >= 0; i--) {
+                if (Objects.equals(o, block[i])) {
+                    return offsets[b] + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts this list according to the natural order of its elements.
+     * This implementation uses a stable sort.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        Comparator<E> naturalOrder = (Comparator<E>) Comparator.naturalOrder();
+        sort(naturalOrder);
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator. The elements are copied into one
+     * array, sorted with a stable sort and written back into the same blocks.
+     *
+     * @param comparator the comparator to determine the order of the list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        Object[] array = toArray();
+        Arrays.sort(array, (Comparator<Object>) comparator);
+        int index = 0;
+        for (int b = 0; b < blockCount; b++) {
+            System.arraycopy(array, index, blocks[b], 0, blockSizes[b]);
+            index += blockSizes[b];
+        }
+        modCount++;
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ChunkedCustomList<?> other = (ChunkedCustomList<?>) o;
+        if (size != other.size) {
+            return false;
+        }
+        Iterator<?> otherIterator = other.iterator();
+        for (E element : this) {
+            if (!Objects.equals(element, otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (E element : this) {
+            hash = 31 * hash + Objects.hashCode(element);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns an estimate of the heap memory this list holds, in bytes: the list object, its block table and every
+     * block with its empty slots. The elements are not counted. Each block has blockCapacity slots however few
+     * elements it holds, so a small list costs a whole block.
+     *
+     * @return the estimated size of this list in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        long footprint = HeapLayout.objectSize(3, 4)
+                + HeapLayout.referenceArraySize(blocks.length)
+                + HeapLayout.primitiveArraySize(blockSizes.length, Integer.BYTES)
+                + HeapLayout.primitiveArraySize(offsets.length, Integer.BYTES);
+        for (int b = 0; b < blockCount; b++) {
+            footprint += HeapLayout.referenceArraySize(blocks[b].length);
+        }
+        return footprint;
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in a proper sequence, copied block by block.
+     *
+     * @return an array containing all the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int b = 0; b < blockCount; b++) {
+            System.arraycopy(blocks[b], 0, array, offsets[b], blockSizes[b]);
+        }
+        return array;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list that walks the blocks in order.
+     *
+     * @return an iterator over the elements in this list
+     * @throws ConcurrentModificationException if the list is structurally modified during iteration
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int block = 0;
+            private int position = 0;
+            private int remaining = size;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                if (position == blockSizes[block]) {
+                    block++;
+                    position = 0;
+                }
+                remaining--;
+                return (E) blocks[block][position++];
+            }
+        };
+    }
+
+    /**
+     * Performs the given action for each element of the list, block by block.
+     *
+     * @param action the action to be performed on the elements
+     * @throws ConcurrentModificationException if the action structurally modifies the list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int b = 0; b < blockCount && modCount == expectedModCount; b++) {
+            Object[] block = blocks[b];
+            for (int i = 0; i < blockSizes[b] && modCount == expectedModCount; i++) {
+                action.accept((E) block[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a lazy view over the elements of this list whose fused stages run in a single loop over the blocks.
+     *
+     * @return a lazy view over the elements of this list
+     * @throws ConcurrentModificationException if the list is structurally modified while a terminal operation runs
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListView<E> view() {
+        return ListView.of(sink -> {
+            int expectedModCount = modCount;
+            outer:
+            for (int b = 0; b < blockCount && modCount == expectedModCount; b++) {
+                Object[] block = blocks[b];
+                for (int i = 0; i < blockSizes[b] && modCount == expectedModCount; i++) {
+                    if (!sink.accept((E) block[i])) {
+                        break outer;
+                    }
+                }
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }, this::size);
+    }
+
+    /**
+     * Returns a string representation of the list.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int b = 0; b < blockCount; b++) {
+            Object[] block = blocks[b];
+            for (int i = 0; i < blockSizes[b]; i++) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+                sb.append(block[i]);
+            }
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * Finds the block holding the element at the specified index with a binary search over the offsets.
+     *
+     * @param index an index between 0, inclusive, and size, exclusive
+     * @return the index of the block holding the element
+     */
+    private int blockOf(int index) {
+        int lo = 0;
+        int hi = blockCount - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (offsets[mid] <= index) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Adds delta to the offsets of the blocks from the specified one to the last.
+     */
+    private void shiftOffsets(int fromBlock, int delta) {
+        for (int b = fromBlock; b < blockCount; b++) {
+            offsets[b] += delta;
+        }
+    }
+
+    /**
+     * Moves the elements of block b from the specified position on into a new block right after it.
+     */
+    private void splitBlock(int b, int position) {
+        Object[] block = blocks[b];
+        Object[] upper = new Object[blockCapacity];
+        int moved = blockSizes[b] - position;
+        System.arraycopy(block, position, upper, 0, moved);
+        Arrays.fill(block, position, blockSizes[b], null);
+        blockSizes[b] = position;
+        insertBlock(b + 1, upper, offsets[b] + position);
+        blockSizes[b + 1] = moved;
+    }
+
+    /**
+     * Inserts an empty block at position b of the block index, with its first element at the specified offset.
+     */
+    private void insertBlock(int b, Object[] block, int offset) {
+        ensureBlockSlots(blockCount + 1);
+        System.arraycopy(blocks, b, blocks, b + 1, blockCount - b);
+        System.arraycopy(blockSizes, b, blockSizes, b + 1, blockCount - b);
+        System.arraycopy(offsets, b, offsets, b + 1, blockCount - b);
+        blocks[b] = block;
+        blockSizes[b] = 0;
+        offsets[b] = offset;
+        blockCount++;
+    }
+
+    /**
+     * Removes the blocks from fromBlock, inclusive, to toBlock, exclusive, from the block index.
+     */
+    private void removeBlocks(int fromBlock, int toBlock) {
+        int count = toBlock - fromBlock;
+        if (count == 0) {
+            return;
+        }
+        System.arraycopy(blocks, toBlock, blocks, fromBlock, blockCount - toBlock);
+        System.arraycopy(blockSizes, toBlock, blockSizes, fromBlock, blockCount - toBlock);
+        System.arraycopy(offsets, toBlock, offsets, fromBlock, blockCount - toBlock);
+        Arrays.fill(blocks, blockCount - count, blockCount, null);
+        blockCount -= count;
+    }
+
+    /**
+     * Drops the empty blocks between fromBlock, inclusive, and toBlock, exclusive, and merges an underfull block
+     * left there with a neighbour.
+     */
+    private void dropEmptyBlocks(int fromBlock, int toBlock) {
+        for (int b = toBlock - 1; b >= fromBlock; b--) {
+            if (blockSizes[b] == 0) {
+                removeBlocks(b, b + 1);
+            }
+        }
+        if (fromBlock < blockCount && blockSizes[fromBlock] < blockCapacity / 4) {
+            mergeWithNeighbour(fromBlock);
+        }
+    }
+
+    /**
+     * Merges block b into its previous or next block if the two fit in three quarters of a block, so that the
+     * merged block still has room for inserts.
+     */
+    private void mergeWithNeighbour(int b) {
+        int limit = blockCapacity - blockCapacity / 4;
+        if (b + 1 < blockCount && blockSizes[b] + blockSizes[b + 1] <= limit) {
+            appendBlockTo(b + 1, b);
+        } else if (b > 0 && blockSizes[b - 1] + blockSizes[b] <= limit) {
+            appendBlockTo(b, b - 1);
+        }
+    }
+
+    /**
+     * Appends the elements of block source to block target, which is right before it, and removes block source.
+     */
+    private void appendBlockTo(int source, int target) {
+        System.arraycopy(blocks[source], 0, blocks[target], blockSizes[target], blockSizes[source]);
+        blockSizes[target] += blockSizes[source];
+        removeBlocks(source, source + 1);
+    }
+
+    private void ensureBlockSlots(int minSlots) {
+        if (minSlots > blocks.length) {
+            int newLength = Math.max(minSlots, blocks.length * 2);
+            blocks = Arrays.copyOf(blocks, newLength);
+            blockSizes = Arrays.copyOf(blockSizes, newLength);
+            offsets = Arrays.copyOf(offsets, newLength);
+        }
+    }
+}
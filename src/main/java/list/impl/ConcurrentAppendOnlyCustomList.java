@@ -0,0 +1,430 @@
+package list.impl;
+
+import list.CustomList;
+import list.HeapLayout;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * This class implements the CustomList interface as a lock-free, append-only list for many producer threads.
+ * <p>
+ * {@link #add(Object)} claims a slot with a single fetch-and-add on the size and then publishes the element into that
+ * slot, so producers never wait for each other. Slots live in chunks of 32, 64, 128, ... elements that are allocated
+ * on demand and never copied, so growing the list does not move the elements already added. {@link #get(int)} is
+ * wait-free. {@link #drainTo(Consumer)} atomically detaches everything added so far and hands it to a consumer.
+ * <p>
+ * A slot is claimed before its element is published, so a reader racing with a producer can see the size include a
+ * slot whose element is not visible yet; {@code get} returns null for such a slot. Null elements are not allowed, so a
+ * null from {@code get} always means the add is still in flight. Insertion, removal, replacement and sorting are not
+ * supported. The list holds at most 2^30 - 1 elements between drains.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class ConcurrentAppendOnlyCustomList<E> implements CustomList<E> {
+    private static final String REQUEST_INDEX = "Requested index";
+    private static final String BUT_SIZE = ", but size: ";
+    private static final String APPEND_ONLY = "This list is append-only";
+    private static final int FIRST_CHUNK_SHIFT = 5;
+    private static final int FIRST_CHUNK_SIZE = 1 << FIRST_CHUNK_SHIFT;
+    private static final int SEALED = 1 << 30;
+    private static final int MAX_SIZE = SEALED - 1;
+    private static final int CHUNK_COUNT = 31 - FIRST_CHUNK_SHIFT;
+
+    private final AtomicReference<Storage<E>> storage = new AtomicReference<>(new Storage<>());
+
+    /**
+     * The chunks and the slot counter of one generation of the list. A drain replaces the storage and seals the old
+     * one by adding SEALED to its counter, so late producers see a claimed slot of at least SEALED and retry on the
+     * new storage.
+     *
+     * @param <E> the type of elements stored
+     */
+    private static final class Storage<E> {
+        final AtomicInteger claimed = new AtomicInteger();
+        final AtomicReferenceArray<AtomicReferenceArray<E>> chunks = new AtomicReferenceArray<>(CHUNK_COUNT);
+
+        int size() {
+            return Math.min(claimed.get(), MAX_SIZE);
+        }
+
+        E get(int index) {
+            int position = index + FIRST_CHUNK_SIZE;
+            int highestBit = 31 - Integer.numberOfLeadingZeros(position);
+            AtomicReferenceArray<E> chunk = chunks.get(highestBit - FIRST_CHUNK_SHIFT);
+            return chunk == null ? null : chunk.getAcquire(position - (1 << highestBit));
+        }
+
+        void set(int index, E element) {
+            int position = index + FIRST_CHUNK_SIZE;
+            int highestBit = 31 - Integer.numberOfLeadingZeros(position);
+            int chunkIndex = highestBit - FIRST_CHUNK_SHIFT;
+            AtomicReferenceArray<E> chunk = chunks.get(chunkIndex);
+            if (chunk == null) {
+                chunk = new AtomicReferenceArray<>(1 << highestBit);
+                if (!chunks.compareAndSet(chunkIndex, null, chunk)) {
+                    chunk = chunks.get(chunkIndex);
+                }
+            }
+            chunk.setRelease(position - (1 << highestBit), element);
+        }
+
+        /**
+         * Returns the element of a slot that is known to be claimed, waiting for its producer to publish it.
+         *
+         * @param index the index of a claimed slot
+         * @return the element in the slot
+         */
+        E await(int index) {
+            E element;
+            while ((element = get(index)) == null) {
+                Thread.onSpinWait();
+            }
+            return element;
+        }
+    }
+
+    /**
+     * Adds the specified element to the end of this list. Lock-free: it claims a slot with one atomic increment.
+     *
+     * @param element the element to be added to the list
+     * @throws NullPointerException  if the element is null
+     * @throws IllegalStateException if the list already holds the maximum number of elements
+     */
+    @Override
+    public void add(E element) {
+        Objects.requireNonNull(element);
+        while (true) {
+            Storage<E> current = storage.get();
+            if (current.claimed.get() < MAX_SIZE) {
+                int slot = current.claimed.getAndIncrement();
+                if (slot < MAX_SIZE) {
+                    current.set(slot, element);
+                    return;
+                }
+            }
+            if (storage.get() == current) {
+                throw new IllegalStateException("List is full: " + MAX_SIZE + " elements");
+            }
+        }
+    }
+
+    /**
+     * Not supported: this list is append-only.
+     *
+     * @param index   ignored
+     * @param element ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException(APPEND_ONLY);
+    }
+
+    /**
+     * Adds all the elements of the specified list to the end of this list, one by one, so elements of concurrent
+     * producers may be interleaved with them.
+     *
+     * @param other the list whose elements are to be added
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if an element is null
+     */
+    @Override
+    public boolean addAll(CustomList<? extends E> other) {
+        boolean changed = false;
+        for (E element : other) {
+            add(element);
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Adds all the elements of the specified collection to the end of this list, one by one, so elements of
+     * concurrent producers may be interleaved with them.
+     *
+     * @param collection the collection whose elements are to be added
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if an element is null
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        boolean changed = false;
+        for (E element : collection) {
+            add(element);
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Adds all the elements of the specified array to the end of this list, one by one, so elements of concurrent
+     * producers may be interleaved with them.
+     *
+     * @param array the array whose elements are to be added
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if an element is null
+     */
+    @Override
+    public boolean addAll(E[] array) {
+        for (E element : array) {
+            add(element);
+        }
+        return array.length > 0;
+    }
+
+    /**
+     * Adds all the elements of the specified array to the end of this list, like {@link #addAll(Object[])}. An explicit
+     * index must be the current size: another producer may have appended since it was read, and then the call fails.
+     *
+     * @param index the index at which the first element is to be inserted, which must be the size of the list
+     * @param array the array whose elements are to be added
+     * @return true if this list changed as a result of the call
+     * @throws UnsupportedOperationException if the index is not the size of the list
+     */
+    @Override
+    public boolean addAll(int index, E[] array) {
+        if (index != size()) {
+            throw new UnsupportedOperationException(APPEND_ONLY);
+        }
+        for (E element : array) {
+            add(element);
+        }
+        return array.length > 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list. Wait-free.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position, or null if the slot is claimed but its add is still in flight
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E get(int index) {
+        Storage<E> current = storage.get();
+        int size = current.size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        return current.get(index);
+    }
+
+    /**
+     * Not supported: this list is append-only.
+     *
+     * @param index   ignored
+     * @param element ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException(APPEND_ONLY);
+    }
+
+    /**
+     * Not supported: this list is append-only.
+     *
+     * @param o ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException(APPEND_ONLY);
+    }
+
+    /**
+     * Not supported: this list is append-only.
+     *
+     * @param index ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException(APPEND_ONLY);
+    }
+
+    /**
+     * Removes all the elements from this list by draining them into nothing.
+     */
+    @Override
+    public void clear() {
+        drainTo(element -> {
+        });
+    }
+
+    /**
+     * Atomically detaches all the elements added so far and passes them, in order, to the specified consumer.
+     * Producers are not blocked: adds that start after the detach go to the emptied list. The drain waits for the
+     * adds that had already claimed a slot to publish their elements.
+     *
+     * @param consumer the consumer receiving the drained elements
+     * @return the number of drained elements
+     */
+    public int drainTo(Consumer<? super E> consumer) {
+        Objects.requireNonNull(consumer);
+        Storage<E> drained = storage.getAndSet(new Storage<>());
+        int claimed = drained.claimed.getAndUpdate(count -> count >= SEALED ? count : count + SEALED);
+        int count = Math.min(claimed, MAX_SIZE);
+        for (int i = 0; i < count; i++) {
+            consumer.accept(drained.await(i));
+        }
+        return count;
+    }
+
+    /**
+     * Atomically detaches all the elements added so far and adds them, in order, to the specified collection.
+     *
+     * @param target the collection receiving the drained elements
+     * @return the number of drained elements
+     */
+    public int drainTo(Collection<? super E> target) {
+        return drainTo((Consumer<? super E>) target::add);
+    }
+
+    /**
+     * Returns the number of slots claimed in this list, including adds that are still in flight.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return storage.get().size();
+    }
+
+    /**
+     * Not supported: this list is append-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void sort() {
+        throw new UnsupportedOperationException(APPEND_ONLY);
+    }
+
+    /**
+     * Not supported: this list is append-only.
+     *
+     * @param comparator ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException(APPEND_ONLY);
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(toArray(), ((ConcurrentAppendOnlyCustomList<?>) o).toArray());
+    }
+
+    /**
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Returns an estimate of the heap memory this list holds, in bytes: the list object, its storage with the chunk
+     * table, and every chunk allocated so far. Chunks double in size, so up to half of the last one is unused.
+     * The elements are not counted.
+     *
+     * @return the estimated size of this list in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        long atomicObject = HeapLayout.objectSize(1, 0);
+        Storage<E> current = storage.get();
+        // this list, the AtomicReference, the Storage, its AtomicInteger and its chunk table
+        long footprint = atomicObject + atomicObject + HeapLayout.objectSize(2, 0) + HeapLayout.objectSize(0, 1)
+                + atomicObject + HeapLayout.referenceArraySize(current.chunks.length());
+        for (int i = 0; i < current.chunks.length(); i++) {
+            AtomicReferenceArray<E> chunk = current.chunks.get(i);
+            if (chunk != null) {
+                footprint += atomicObject + HeapLayout.referenceArraySize(chunk.length());
+            }
+        }
+        return footprint;
+    }
+
+    /**
+     * Returns an array containing the elements added before this call, in order. Waits for the adds in flight
+     * among them to publish their elements.
+     *
+     * @return an array containing all the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        Storage<E> current = storage.get();
+        Object[] array = new Object[current.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = current.await(i);
+        }
+        return array;
+    }
+
+    /**
+     * Returns an iterator over the elements added before this call. Elements added later are not visited; the iterator
+     * waits for the adds in flight among the visited ones to publish their elements. It does not support remove.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        Storage<E> current = storage.get();
+        int end = current.size();
+        return new Iterator<>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < end;
+            }
+
+            @Override
+            public E next() {
+                if (currentIndex >= end) {
+                    throw new NoSuchElementException();
+                }
+                return current.await(currentIndex++);
+            }
+        };
+    }
+
+    /**
+     * Returns a string representation of the list.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
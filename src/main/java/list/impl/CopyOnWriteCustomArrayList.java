@@ -0,0 +1,564 @@
+package list.impl;
+
+import list.CustomList;
+import list.HeapLayout;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * This class implements the CustomList interface as a thread-safe array list for read-mostly workloads.
+ * Every mutation copies the backing array under a lock and publishes the copy, so reads never block and never see a
+ * partially applied change. Iterators, spliterators and {@code forEach} work on the snapshot taken when they start and
+ * do not support modification.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class CopyOnWriteCustomArrayList<E> implements CustomList<E> {
+    private static final String REQUEST_INDEX = "Requested index";
+    private static final String BUT_SIZE = ", but size: ";
+    private final Object lock = new Object();
+    private volatile Object[] elements;
+
+    /**
+     * Constructs an empty list.
+     */
+    public CopyOnWriteCustomArrayList() {
+        this.elements = new Object[0];
+    }
+
+    /**
+     * Adds the specified element to the end of this list.
+     *
+     * @param element the element to be added to the list
+     */
+    @Override
+    public void add(E element) {
+        synchronized (lock) {
+            Object[] current = elements;
+            Object[] copy = Arrays.copyOf(current, current.length + 1);
+            copy[current.length] = element;
+            elements = copy;
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index   the index at which the specified element is to be inserted
+     * @param element the element to be inserted into the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, E element) {
+        synchronized (lock) {
+            Object[] current = elements;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + current.length);
+            }
+            Object[] copy = new Object[current.length + 1];
+            System.arraycopy(current, 0, copy, 0, index);
+            System.arraycopy(current, index, copy, index + 1, current.length - index);
+            copy[index] = element;
+            elements = copy;
+        }
+    }
+
+    /**
+     * Adds all the elements of the specified list to the end of this list with a single copy. The end is read under
+     * the lock, so concurrent appends never interleave with the batch.
+     *
+     * @param other the list whose elements are to be added
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(CustomList<? extends E> other) {
+        return appendAll(other.toArray());
+    }
+
+    /**
+     * Adds all the elements of the specified collection to the end of this list with a single copy. The end is read
+     * under the lock, so concurrent appends never interleave with the batch.
+     *
+     * @param collection the collection whose elements are to be added
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        return appendAll(collection.toArray());
+    }
+
+    /**
+     * Adds all the elements of the specified array to the end of this list with a single copy. The end is read under
+     * the lock, so concurrent appends never interleave with the batch.
+     *
+     * @param array the array whose elements are to be added
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(E[] array) {
+        return appendAll(array);
+    }
+
+    /**
+     * Inserts all the elements of the specified array at the specified position in this list with a single copy.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param array the array whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, E[] array) {
+        return insertAll(index, array);
+    }
+
+    /**
+     * Inserts all the elements of the specified list at the specified position in this list with a single copy.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param other the list whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> other) {
+        return insertAll(index, other.toArray());
+    }
+
+    /**
+     * Inserts all the elements of the specified collection at the specified position in this list with a single copy.
+     *
+     * @param index      the index at which the first element is to be inserted
+     * @param collection the collection whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        return insertAll(index, collection.toArray());
+    }
+
+    private boolean appendAll(Object[] array) {
+        synchronized (lock) {
+            return insertAll(elements.length, array);
+        }
+    }
+
+    private boolean insertAll(int index, Object[] array) {
+        synchronized (lock) {
+            Object[] current = elements;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + current.length);
+            }
+            if (array.length == 0) {
+                return false;
+            }
+            Object[] copy = new Object[current.length + array.length];
+            System.arraycopy(current, 0, copy, 0, index);
+            System.arraycopy(array, 0, copy, index, array.length);
+            System.arraycopy(current, index, copy, index + array.length, current.length - index);
+            elements = copy;
+            return true;
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this list. Never blocks.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        Object[] current = elements;
+        if (index < 0 || index >= current.length) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + current.length);
+        }
+        return (E) current[index];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   the index of the element to be replaced
+     * @param element the element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E set(int index, E element) {
+        synchronized (lock) {
+            E oldValue = get(index);
+            Object[] copy = elements.clone();
+            copy[index] = element;
+            elements = copy;
+            return oldValue;
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list if it is present.
+     *
+     * @param o the element to be removed from this list, if present
+     * @return true if this list contained the specified element, false otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        synchronized (lock) {
+            Object[] current = elements;
+            int index = indexOf(current, o);
+            if (index < 0) {
+                return false;
+            }
+            removeAtIndex(current, index);
+            return true;
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the current snapshot, or -1.
+     * Does not lock.
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int indexOf(Object o) {
+        return indexOf(elements, o);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the current snapshot, or -1.
+     * Does not lock.
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        Object[] snapshot = elements;
+        for (int i = snapshot.length - 1; i >= 0; i--) {
+            if (Objects.equals(o, snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(Object[] snapshot, Object o) {
+        for (int i = 0; i < snapshot.length; i++) {
+            if (Objects.equals(o, snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E remove(int index) {
+        synchronized (lock) {
+            E oldValue = get(index);
+            removeAtIndex(elements, index);
+            return oldValue;
+        }
+    }
+
+    private void removeAtIndex(Object[] current, int index) {
+        Object[] copy = new Object[current.length - 1];
+        System.arraycopy(current, 0, copy, 0, index);
+        System.arraycopy(current, index + 1, copy, index, current.length - index - 1);
+        elements = copy;
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive, with a single copy.
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        synchronized (lock) {
+            Object[] current = elements;
+            if (fromIndex < 0 || toIndex > current.length || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("Requested range [" + fromIndex + ", " + toIndex + ")" + BUT_SIZE + current.length);
+            }
+            Object[] copy = new Object[current.length - (toIndex - fromIndex)];
+            System.arraycopy(current, 0, copy, 0, fromIndex);
+            System.arraycopy(current, toIndex, copy, fromIndex, current.length - toIndex);
+            elements = copy;
+        }
+    }
+
+    /**
+     * Removes all the elements of this list that satisfy the given predicate, atomically and with a single copy.
+     *
+     * @param filter a predicate which returns true for the elements to be removed
+     * @return true if any elements were removed, false otherwise
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        synchronized (lock) {
+            Object[] current = elements;
+            Object[] kept = new Object[current.length];
+            int count = 0;
+            for (Object element : current) {
+                if (!filter.test((E) element)) {
+                    kept[count++] = element;
+                }
+            }
+            if (count == current.length) {
+                return false;
+            }
+            elements = Arrays.copyOf(kept, count);
+            return true;
+        }
+    }
+
+    /**
+     * Removes all the elements from this list.
+     */
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            elements = new Object[0];
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list. Never blocks.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Sorts this list according to the natural order of its elements.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        Comparator<E> naturalOrder = (Comparator<E>) Comparator.naturalOrder();
+        sort(naturalOrder);
+    }
+
+    /**
+     * Sorts a copy of this list according to the order induced by the specified comparator and publishes it.
+     * The sort is stable.
+     *
+     * @param comparator the comparator to determine the order of the list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        synchronized (lock) {
+            Object[] copy = elements.clone();
+            Arrays.sort(copy, (a, b) -> comparator.compare((E) a, (E) b));
+            elements = copy;
+        }
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(elements, ((CopyOnWriteCustomArrayList<?>) o).elements);
+    }
+
+    /**
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(elements);
+    }
+
+    /**
+     * Returns an estimate of the heap memory this list holds, in bytes: the list object, its lock and the current
+     * array, which always has exactly size slots. Snapshots still held by iterators are not counted.
+     *
+     * @return the estimated size of this list in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return HeapLayout.objectSize(2, 0) + HeapLayout.objectSize(0, 0)
+                + HeapLayout.referenceArraySize(elements.length);
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in a proper sequence.
+     *
+     * @return an array containing all the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    /**
+     * Returns an iterator over the snapshot of this list taken when the iterator is created.
+     * The iterator does not support remove.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SnapshotIterator<>(elements, 0);
+    }
+
+    /**
+     * Returns a list iterator over the snapshot of this list taken when the iterator is created.
+     * The iterator does not support remove, set or add.
+     *
+     * @param index the index of the first element to be returned by next
+     * @return a list iterator over the elements in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        Object[] snapshot = elements;
+        if (index < 0 || index > snapshot.length) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + snapshot.length);
+        }
+        return new SnapshotIterator<>(snapshot, index);
+    }
+
+    /**
+     * Returns a Spliterator over the snapshot of this list taken when the spliterator is created.
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(elements, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    /**
+     * Performs the given action for each element of the snapshot of this list taken when the call starts.
+     *
+     * @param action the action to be performed on the elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Object element : elements) {
+            action.accept((E) element);
+        }
+    }
+
+    /**
+     * Returns a string representation of the list.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(elements);
+    }
+
+    /**
+     * A read-only ListIterator over an array snapshot.
+     *
+     * @param <E> the type of elements in the snapshot
+     */
+    private static final class SnapshotIterator<E> implements ListIterator<E> {
+        private final Object[] snapshot;
+        private int cursor;
+
+        SnapshotIterator(Object[] snapshot, int index) {
+            this.snapshot = snapshot;
+            this.cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (cursor >= snapshot.length) {
+                throw new NoSuchElementException();
+            }
+            return (E) snapshot[cursor++];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E previous() {
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+            return (E) snapshot[--cursor];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(E element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(E element) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -1,12 +1,23 @@
 package list.impl;
 
 import list.CustomList;
+import list.Cursor;
+import list.HeapLayout;
+import list.IntObjConsumer;
+import list.ListView;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.Objects;
 import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  This class implements the CustomList interface and provides a custom implementation of an ArrayList.
@@ -16,17 +27,72 @@ public class CustomArrayList<E> implements CustomList<E> {
     private static final String REQUEST_INDEX = "Requested index";
     private static final String BUT_SIZE = ", but size: ";
     private static final int DEFAULT_CAPACITY = 7;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int MIN_RUN = 32;
+    /**
+     * The default length of a range below which {@link #parallelSort(Comparator)} sorts sequentially.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+    /**
+     * The backing array of every list with no capacity. It has no slots, so it is never written.
+     */
+    private static final Object[] EMPTY_ELEMENTS = {};
+    private static final GrowthPolicy DEFAULT_GROWTH_POLICY = GrowthPolicy.doubling();
+    private final GrowthPolicy growthPolicy;
     private Object[] elements;
     private int size;
+    private int modCount;
+    private Object[] sortBuffer;
+    private ElementIndex index;
+    private ListProbe probe;
 
     /**
-     * Constructs an empty list with an initial capacity of DEFAULT_CAPACITY.
+     * Constructs an empty list that allocates a backing array of DEFAULT_CAPACITY on the first add, so lists that
+     * stay empty hold no array.
      */
     public CustomArrayList() {
-        this.elements = new Object[DEFAULT_CAPACITY];
+        this(0);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity, which doubles when it is exhausted.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public CustomArrayList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity and growth policy.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @param growthPolicy    the policy that decides the new capacity when the list is full
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public CustomArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        this.elements = initialCapacity == 0 ? EMPTY_ELEMENTS : new Object[initialCapacity];
         this.size = 0;
     }
 
+    /**
+     * Constructs a list that takes ownership of the specified array, whose first size slots hold the elements.
+     * The caller must not keep or write the array afterwards.
+     *
+     * @param elements the array to use as the backing array
+     * @param size     the number of elements
+     */
+    CustomArrayList(Object[] elements, int size) {
+        this.growthPolicy = DEFAULT_GROWTH_POLICY;
+        this.elements = elements.length == 0 ? EMPTY_ELEMENTS : elements;
+        this.size = size;
+    }
+
     /**
      * Adds the specified element to the end of this list.
      *
@@ -38,7 +104,11 @@ public class CustomArrayList<E> implements CustomList<E> {
             increaseCapacity();
         }
         elements[size] = element;
+        if (index != null) {
+            index.appended(element, size);
+        }
         size++;
+        modCount++;
     }
 
     /**
@@ -51,14 +121,98 @@ public class CustomArrayList<E> implements CustomList<E> {
     @Override
     public void add(int index, E element) {
         if (index < 0 || index > size) {
-            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+            throw outOfBounds(index, size);
         }
         if (size == elements.length) {
             increaseCapacity();
         }
+        if (probe != null) {
+            probe.shifted(size - index);
+        }
         System.arraycopy(elements, index, elements, index + 1, size - index);
         elements[index] = element;
+        if (this.index != null) {
+            if (index == size) {
+                this.index.appended(element, index);
+            } else {
+                this.index.inserted(element);
+            }
+        }
         size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts all the elements of the specified list at the specified position in this list, in order.
+     * The backing array grows at most once and its tail is shifted once.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param other the list whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> other) {
+        return insertAll(index, other.toArray());
+    }
+
+    /**
+     * Inserts all the elements of the specified collection at the specified position in this list, in iteration order.
+     * The backing array grows at most once and its tail is shifted once.
+     *
+     * @param index      the index at which the first element is to be inserted
+     * @param collection the collection whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        return insertAll(index, collection.toArray());
+    }
+
+    /**
+     * Inserts all the elements of the specified array at the specified position in this list, in order.
+     * The backing array grows at most once and its tail is shifted once.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param array the array whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, E[] array) {
+        return insertAll(index, array);
+    }
+
+    private boolean insertAll(int index, Object[] array) {
+        if (index < 0 || index > size) {
+            throw outOfBounds(index, size);
+        }
+        int count = array.length;
+        if (count == 0) {
+            return false;
+        }
+        int required = size + count;
+        if (required < 0 || required > elements.length) {
+            grow(required);
+        }
+        if (probe != null) {
+            probe.shifted(size - index);
+        }
+        System.arraycopy(elements, index, elements, index + count, size - index);
+        System.arraycopy(array, 0, elements, index, count);
+        if (this.index != null) {
+            for (int i = 0; i < count; i++) {
+                if (index == size) {
+                    this.index.appended(array[i], index + i);
+                } else {
+                    this.index.inserted(array[i]);
+                }
+            }
+        }
+        size += count;
+        modCount++;
+        return true;
     }
 
     /**
@@ -72,26 +226,198 @@ public class CustomArrayList<E> implements CustomList<E> {
     @Override
     public E get(int index) {
         if (index < 0 || index >= size) {
-            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+            throw outOfBounds(index, size);
         }
         return (E) elements[index];
     }
 
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   the index of the element to be replaced
+     * @param element the element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E set(int index, E element) {
+        E oldValue = get(index);
+        elements[index] = element;
+        if (this.index != null) {
+            this.index.removed(oldValue);
+            this.index.inserted(element);
+        }
+        return oldValue;
+    }
+
     /**
      * Removes the first occurrence of the specified element from this list if it is present.
+     * In indexed mode an absent element is rejected in expected O(1) time.
      *
      * @param o the element to be removed from this list, if present
      * @return true if this list contained the specified element, false otherwise
      */
     @Override
     public boolean remove(Object o) {
+        int i;
+        if (index == null) {
+            i = scanIndexOf(o);
+        } else if (!index.contains(o)) {
+            return false;
+        } else {
+            // a removal makes the positions stale again, so a rebuild would not pay off
+            i = index.hasValidPositions() ? index.indexOf(o, elements, size) : scanIndexOf(o);
+        }
+        if (i < 0) {
+            return false;
+        }
+        removeAtIndex(i);
+        return true;
+    }
+
+    /**
+     * Returns true if this list contains the specified element. Expected O(1) in indexed mode.
+     *
+     * @param o the element whose presence is to be tested
+     * @return true if this list contains the specified element, false otherwise
+     */
+    @Override
+    public boolean contains(Object o) {
+        return index != null ? index.contains(o) : scanIndexOf(o) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if it is not present.
+     * Expected O(1) in indexed mode while the list is only appended to; after any other change queries scan the list
+     * until a few in a row find it unchanged, and then one of them rebuilds the positions in O(n).
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int indexOf(Object o) {
+        return index != null ? index.indexOf(o, elements, size) : scanIndexOf(o);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if it is not present.
+     * Expected O(1) in indexed mode while the list is only appended to; after any other change queries scan the list
+     * until a few in a row find it unchanged, and then one of them rebuilds the positions in O(n).
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (index != null) {
+            return index.lastIndexOf(o, elements, size);
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int scanIndexOf(Object o) {
         for (int i = 0; i < size; i++) {
-            if (o.equals(elements[i])) {
-                removeAtIndex(i);
-                return true;
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Searches this list, which must be sorted by the specified comparator, for the specified key with a binary
+     * search over the backing array. If the list holds several elements equal to the key, the index of the first of
+     * them is returned.
+     *
+     * @param key        the element to search for
+     * @param comparator the comparator by which this list is sorted
+     * @return the index of the first element equal to the key, or (-(insertion point) - 1) if there is none
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int binarySearch(E key, Comparator<? super E> comparator) {
+        Objects.requireNonNull(comparator);
+        int low = lowerBound(elements, size, key, comparator);
+        return low < size && comparator.compare((E) elements[low], key) == 0 ? low : -(low + 1);
+    }
+
+    /**
+     * Returns the index of the first of the first size elements of the sorted array that is not less than the key.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> int lowerBound(Object[] array, int size, E key, Comparator<? super E> comparator) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare((E) array[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first of the first size elements of the sorted array that is greater than the key.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> int upperBound(Object[] array, int size, E key, Comparator<? super E> comparator) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare((E) array[mid], key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-        return false;
+        return low;
+    }
+
+    /**
+     * Switches this list to indexed mode, building a hash index over its current elements in O(n).
+     * <p>
+     * In indexed mode {@link #contains(Object)} and rejecting an absent element in {@link #remove(Object)} are
+     * expected O(1), and {@link #indexOf(Object)} and {@link #lastIndexOf(Object)} are expected O(1) as long as the
+     * list was only appended to since the positions were last built. After any other change they scan like in plain
+     * mode, and rebuild the positions in O(n) once a few queries in a row found the list unchanged, so interleaving
+     * changes and queries costs no more than plain mode. Every add, remove, replacement and sort also updates the
+     * index, which costs a hash lookup per element touched. The elements must have hashCode consistent with equals
+     * and must not change it while they are in the list.
+     * <p>
+     * The memory trade-off: the index holds a HashMap entry and a small counter object for every distinct element,
+     * about 60 bytes each on a 64-bit JVM with compressed references, against the 4 bytes per element of the
+     * backing array. For a list of distinct elements that is roughly fifteen times the size of the list itself.
+     * Does nothing if the list is already indexed.
+     */
+    public void enableIndex() {
+        if (index == null) {
+            index = new ElementIndex(elements, size);
+        }
+    }
+
+    /**
+     * Switches this list back to plain mode and releases the hash index. Searches scan the list again.
+     */
+    public void disableIndex() {
+        index = null;
+    }
+
+    /**
+     * Returns true if this list is in indexed mode.
+     *
+     * @return true if this list keeps a hash index of its elements
+     */
+    public boolean isIndexEnabled() {
+        return index != null;
     }
 
     /**
@@ -104,13 +430,95 @@ public class CustomArrayList<E> implements CustomList<E> {
     @Override
     public E remove(int index) {
         if (index < 0 || index >= size) {
-            throw new IndexOutOfBoundsException("Requested index: " + index + ", but size: " + size);
+            throw outOfBounds(index, size);
         }
-        E oldValue = get(index);
+        @SuppressWarnings("unchecked")
+        E oldValue = (E) elements[index];
         removeAtIndex(index);
         return oldValue;
     }
 
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive,
+     * shifting the tail of the backing array once.
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw outOfRange(fromIndex, toIndex, size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        if (index != null) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                index.removed(elements[i]);
+            }
+        }
+        if (probe != null) {
+            probe.shifted(size - toIndex);
+        }
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Removes all the elements of this list that satisfy the given predicate.
+     * The surviving elements are compacted towards the front of the backing array in a single pass. If the
+     * predicate throws, the elements it has not seen yet are kept.
+     *
+     * @param filter a predicate which returns true for the elements to be removed
+     * @return true if any elements were removed, false otherwise
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return removeIf(filter, 0, size) > 0;
+    }
+
+    /**
+     * Removes the elements between fromIndex, inclusive, and toIndex, exclusive, that satisfy the given predicate,
+     * compacting the survivors and shifting the tail of the backing array once.
+     *
+     * @return the number of elements removed
+     */
+    @SuppressWarnings("unchecked")
+    private int removeIf(Predicate<? super E> filter, int fromIndex, int toIndex) {
+        Objects.requireNonNull(filter);
+        int kept = fromIndex;
+        int i = fromIndex;
+        try {
+            for (; i < toIndex; i++) {
+                Object element = elements[i];
+                if (!filter.test((E) element)) {
+                    elements[kept++] = element;
+                } else if (index != null) {
+                    index.removed(element);
+                }
+            }
+        } finally {
+            int newSize = kept + size - i;
+            if (i < size && kept != i) {
+                if (probe != null) {
+                    probe.shifted(size - i);
+                }
+                System.arraycopy(elements, i, elements, kept, size - i);
+            }
+            Arrays.fill(elements, newSize, size, null);
+            if (newSize != size) {
+                size = newSize;
+                modCount++;
+            }
+        }
+        return i - kept;
+    }
+
     /**
      * Removes all the elements from this list. The list will be empty after this call returns.
      */
@@ -120,6 +528,30 @@ public class CustomArrayList<E> implements CustomList<E> {
             elements[i] = null;
         }
         size = 0;
+        if (index != null) {
+            index.clear();
+        }
+        modCount++;
+    }
+
+    /**
+     * Removes all the elements from this list and, if requested, releases the backing array and the sort buffer,
+     * so the list holds no more memory than a new empty list.
+     *
+     * @param releaseStorage true to release the backing array, false to keep its capacity for reuse
+     */
+    public void clear(boolean releaseStorage) {
+        if (releaseStorage) {
+            elements = EMPTY_ELEMENTS;
+            sortBuffer = null;
+            size = 0;
+            if (index != null) {
+                index.clear();
+            }
+            modCount++;
+        } else {
+            clear();
+        }
     }
 
     /**
@@ -127,10 +559,121 @@ public class CustomArrayList<E> implements CustomList<E> {
      *
      * @return the number of elements in this list
      */
+    @Override
     public int size() {
         return size;
     }
 
+    /**
+     * Returns the length of the backing array, i.e. how many elements this list can hold before it grows.
+     *
+     * @return the capacity of this list
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Returns an estimate of the heap memory this list holds, in bytes: the list object, the backing array with its
+     * spare capacity and the sort buffer kept from previous sorts. The elements, the element index and the growth
+     * policy are not counted. {@link #trimToSize()} reduces it to the list object and an array of exactly size
+     * slots.
+     *
+     * @return the estimated size of this list in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        long footprint = HeapLayout.objectSize(5, 2);
+        if (elements != EMPTY_ELEMENTS) {
+            footprint += HeapLayout.referenceArraySize(elements.length);
+        }
+        if (sortBuffer != null) {
+            footprint += HeapLayout.referenceArraySize(sortBuffer.length);
+        }
+        return footprint;
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, so that it can hold at least minCapacity elements
+     * without growing again. Call it before loading a dataset of known size to avoid repeated copies.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to its current size, and drops the sort buffer kept from previous sorts.
+     * Call it once a list is loaded and will not grow much more: the spare capacity left by the last growth is up to
+     * half of the backing array with the default growth policy, and a small list keeps most of its DEFAULT_CAPACITY
+     * slots empty.
+     */
+    public void trimToSize() {
+        if (elements.length > size) {
+            elements = size == 0 ? EMPTY_ELEMENTS : Arrays.copyOf(elements, size);
+        }
+        sortBuffer = null;
+    }
+
+    /**
+     * Returns an immutable list with the elements of this list, transferring the backing array to it instead of
+     * copying it, and leaves this list empty with new storage. Freezing is O(1), and the frozen list can be handed
+     * to other threads without a defensive copy. The frozen list keeps the spare capacity of the array; call
+     * {@link #trimToSize()} first to drop it.
+     *
+     * @return an immutable list with the elements this list had
+     */
+    public ImmutableCustomList<E> freeze() {
+        ImmutableCustomList<E> frozen = new ImmutableCustomList<>(elements, size);
+        elements = EMPTY_ELEMENTS;
+        size = 0;
+        if (index != null) {
+            index.clear();
+        }
+        modCount++;
+        return frozen;
+    }
+
+    /**
+     * Returns the backing array, whose first size slots hold the elements, so that code in this package can read the
+     * elements without copying them. The array must not be written.
+     *
+     * @return the backing array of this list
+     */
+    Object[] elementData() {
+        return elements;
+    }
+
+    /**
+     * Attaches the specified probe to this list, or detaches the current one if the probe is null.
+     *
+     * @param probe the probe to notify of resizes and shifts, or null
+     */
+    void setProbe(ListProbe probe) {
+        this.probe = probe;
+    }
+
+    /**
+     * Replaces the elements of this list with the first size slots of the specified array, taking ownership of it.
+     *
+     * @param array the array to use as the backing array
+     * @param size  the number of elements
+     */
+    void replaceElements(Object[] array, int size) {
+        elements = array;
+        this.size = size;
+        if (index != null) {
+            index.clear();
+            for (int i = 0; i < size; i++) {
+                index.appended(array[i], i);
+            }
+        }
+        modCount++;
+    }
+
 
     /**
      * Returns an array containing all the elements in this list in a proper sequence.
@@ -169,83 +712,737 @@ public class CustomArrayList<E> implements CustomList<E> {
     }
 
     /**
-     * Returns an iterator over the elements in this list.
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Objects.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list. The iterator supports remove and is fail-fast: a structural
+     * modification of the list that is not made through the iterator is reported with a ConcurrentModificationException.
      *
      * @return an iterator over the elements in this list
      */
     @Override
     public Iterator<E> iterator() {
-        return new Iterator<>() {
-            private int currentIndex = 0;
-
-            @Override
-            public boolean hasNext() {
-                return currentIndex < size;
-            }
-
-            @SuppressWarnings("unchecked")
-            @Override
-            public E next() {
-                return (E) elements[currentIndex++];
-            }
-        };
+        return new ArrayListIterator(0);
     }
 
     /**
-     * Performs the given action for each element of the list until all elements have been processed or the action throws an exception.
+     * Returns a list iterator over the elements in this list, starting at the specified position.
      *
-     * @param action the action to be performed on the elements
+     * @param index the index of the first element to be returned by next
+     * @return a list iterator over the elements in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
      */
     @Override
-    public void forEach(Consumer<? super E> action) {
-        for (int i = 0; i < size; i++) {
-            @SuppressWarnings("unchecked")
-            E element = (E) elements[i];
-            action.accept(element);
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw outOfBounds(index, size);
         }
+        return new ArrayListIterator(index);
     }
 
-
     /**
-     * Creates a late-binding and fail-fast Spliterator over the elements in this list.
-     *
-     * @return a Spliterator over the elements in this list
+     * A ListIterator over the backing array. Removing or adding at the cursor shifts the tail of the array once.
      */
-    @Override
-    public Spliterator<E> spliterator() {
-        return new Spliterator<>() {
-            private int currentIndex = 0;
+    private final class ArrayListIterator implements ListIterator<E> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
 
-            @SuppressWarnings("unchecked")
-            @Override
-            public boolean tryAdvance(Consumer<? super E> action) {
-                if (currentIndex < size) {
-                    action.accept((E) elements[currentIndex++]);
-                    return true;
-                }
-                return false;
-            }
+        ArrayListIterator(int index) {
+            this.cursor = index;
+        }
 
-            @Override
-            public Spliterator<E> trySplit() {
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor;
+            return (E) elements[cursor++];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = --cursor;
+            return (E) elements[cursor];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removeAtIndex(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            CustomArrayList.this.set(lastReturned, element);
+        }
+
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            CustomArrayList.this.add(cursor++, element);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the list until all elements have been processed or the action throws an exception.
+     *
+     * @param action the action to be performed on the elements
+     * @throws ConcurrentModificationException if the action structurally modifies the list
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int i = 0; modCount == expectedModCount && i < size; i++) {
+            @SuppressWarnings("unchecked")
+            E element = (E) elements[i];
+            action.accept(element);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the list together with its index, reading the backing array
+     * directly.
+     *
+     * @param action the action to be performed on the indices and elements
+     * @throws ConcurrentModificationException if the action structurally modifies the list
+     */
+    @Override
+    public void forEachIndexed(IntObjConsumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int i = 0; modCount == expectedModCount && i < size; i++) {
+            @SuppressWarnings("unchecked")
+            E element = (E) elements[i];
+            action.accept(i, element);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a cursor over the backing array. Advancing and resetting it allocate nothing, so one cursor can be
+     * kept and reused for every traversal of this list.
+     *
+     * @return a cursor over the elements of this list
+     */
+    @Override
+    public Cursor<E> cursor() {
+        return new ArrayCursor();
+    }
+
+    /**
+     * A Cursor over the backing array, fail-fast from its last reset.
+     */
+    private final class ArrayCursor implements Cursor<E> {
+        private int cursor = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean advance() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor + 1 < size) {
+                cursor++;
+                return true;
+            }
+            cursor = size;
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E value() {
+            if (cursor < 0 || cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            return (E) elements[cursor];
+        }
+
+        @Override
+        public int index() {
+            return cursor;
+        }
+
+        @Override
+        public void reset() {
+            cursor = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Returns a lazy view over the elements of this list whose fused stages run in a single loop over the backing array.
+     *
+     * @return a lazy view over the elements of this list
+     * @throws ConcurrentModificationException if the list is structurally modified while a terminal operation runs
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListView<E> view() {
+        return ListView.of(sink -> {
+            int expectedModCount = modCount;
+            for (int i = 0; modCount == expectedModCount && i < size; i++) {
+                if (!sink.accept((E) elements[i])) {
+                    break;
+                }
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }, this::size);
+    }
+
+
+    /**
+     * Creates a late-binding and fail-fast Spliterator over the elements in this list.
+     * The spliterator splits its range of the backing array in half, so parallel streams use every core.
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
+
+    /**
+     * A Spliterator over a range of the backing array. The end of the range is bound on first use, and a
+     * structural modification of the list after that is reported with a ConcurrentModificationException.
+     * It does not report IMMUTABLE or NONNULL: the list can be modified and may contain null elements.
+     */
+    private final class ArraySpliterator implements Spliterator<E> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        /**
+         * Creates a spliterator covering the given range.
+         *
+         * @param origin           the first index of the range
+         * @param fence            one past the last index of the range, or -1 to bind to the size on first use
+         * @param expectedModCount the modCount the range was bound with
+         */
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
                 return null;
             }
+            index = mid;
+            return new ArraySpliterator(lo, mid, expectedModCount);
+        }
 
-            @Override
-            public long estimateSize() {
-                return size - currentIndex;
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            if (index < hi) {
+                E element = (E) elements[index++];
+                action.accept(element);
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return true;
             }
+            return false;
+        }
 
-            @Override
-            public int characteristics() {
-                return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            Object[] array = elements;
+            for (int i = index; i < hi; i++) {
+                action.accept((E) array[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
             }
-        };
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 
     /**
-     * Sorts this list according to the order induced by the specified comparator.
-     * This implementation uses a variation of the merge sort algorithm to achieve stable sorting.
+     * Returns a view of the elements between fromIndex, inclusive, and toIndex, exclusive, backed by the array of
+     * this list. Nothing is copied: reading, replacing, sorting, streaming and clearing the view work on the backing
+     * array in place, and changes made through the view, including structural ones, are made to this list. A
+     * structural modification of this list that is not made through the view invalidates it, and any later use of
+     * the view throws ConcurrentModificationException.
+     *
+     * @param fromIndex the index of the first element of the view
+     * @param toIndex   the index after the last element of the view
+     * @return a view of the range of this list
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    @Override
+    public CustomList<E> subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex, size);
+        return new SubList(null, fromIndex, toIndex);
+    }
+
+    private static void checkRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw outOfRange(fromIndex, toIndex, size);
+        }
+    }
+
+    /**
+     * Builds the exception for an index out of range. Kept out of the callers so that their bytecode stays small
+     * enough to be inlined, and the message is only concatenated on the failing path.
+     */
+    private static IndexOutOfBoundsException outOfBounds(int index, int size) {
+        return new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+    }
+
+    /**
+     * Builds the exception for a range out of bounds, see {@link #outOfBounds(int, int)}.
+     */
+    private static IndexOutOfBoundsException outOfRange(int fromIndex, int toIndex, int size) {
+        return new IndexOutOfBoundsException("Requested range [" + fromIndex + ", " + toIndex + ")" + BUT_SIZE + size);
+    }
+
+    /**
+     * A view of a range of the backing array. Structural changes go through the list, and then update the size and
+     * the expected modCount of this view and of the views it was created from.
+     */
+    private final class SubList implements CustomList<E> {
+        private final SubList parent;
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        SubList(SubList parent, int fromIndex, int toIndex) {
+            this.parent = parent;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public void add(E element) {
+            add(size, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkForComodification();
+            if (index < 0 || index > size) {
+                throw outOfBounds(index, size);
+            }
+            CustomArrayList.this.add(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public boolean addAll(int index, E[] array) {
+            checkForComodification();
+            if (index < 0 || index > size) {
+                throw outOfBounds(index, size);
+            }
+            if (!insertAll(offset + index, array)) {
+                return false;
+            }
+            updateSizeAndModCount(array.length);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E get(int index) {
+            checkIndex(index);
+            return (E) elements[offset + index];
+        }
+
+        @Override
+        public E set(int index, E element) {
+            checkIndex(index);
+            return CustomArrayList.this.set(offset + index, element);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int i = indexOf(o);
+            if (i < 0) {
+                return false;
+            }
+            remove(i);
+            return true;
+        }
+
+        @Override
+        public E remove(int index) {
+            checkIndex(index);
+            E oldValue = CustomArrayList.this.remove(offset + index);
+            updateSizeAndModCount(-1);
+            return oldValue;
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            checkForComodification();
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(o, elements[offset + i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            checkForComodification();
+            for (int i = size - 1; i >= 0; i--) {
+                if (Objects.equals(o, elements[offset + i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public int binarySearch(E key, Comparator<? super E> comparator) {
+            checkForComodification();
+            Objects.requireNonNull(comparator);
+            int low = offset;
+            int high = offset + size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (comparator.compare((E) elements[mid], key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            low -= offset;
+            return low < size && comparator.compare((E) elements[offset + low], key) == 0 ? low : -(low + 1);
+        }
+
+        @Override
+        public void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            checkRange(fromIndex, toIndex, size);
+            if (fromIndex == toIndex) {
+                return;
+            }
+            CustomArrayList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            checkForComodification();
+            int removed = CustomArrayList.this.removeIf(filter, offset, offset + size);
+            updateSizeAndModCount(-removed);
+            return removed > 0;
+        }
+
+        @Override
+        public void clear() {
+            removeRange(0, size);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void sort() {
+            Comparator<E> naturalOrder = (Comparator<E>) Comparator.naturalOrder();
+            sort(naturalOrder);
+        }
+
+        @Override
+        public void sort(Comparator<? super E> comparator) {
+            checkForComodification();
+            CustomArrayList.this.sort(comparator, offset, offset + size);
+            updateSizeAndModCount(0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            checkForComodification();
+            CustomArrayList<?>.SubList other = (CustomArrayList<?>.SubList) o;
+            other.checkForComodification();
+            return Arrays.equals(elements, offset, offset + size, other.root().elements, other.offset,
+                    other.offset + other.size);
+        }
+
+        @Override
+        public int hashCode() {
+            checkForComodification();
+            int hash = 1;
+            for (int i = offset; i < offset + size; i++) {
+                hash = 31 * hash + Objects.hashCode(elements[i]);
+            }
+            return hash;
+        }
+
+        @Override
+        public long memoryFootprint() {
+            return HeapLayout.objectSize(2, 3);
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(elements, offset, offset + size);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            checkForComodification();
+            if (index < 0 || index > size) {
+                throw outOfBounds(index, size);
+            }
+            ListIterator<E> iterator = new ArrayListIterator(offset + index);
+            return new ListIterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return nextIndex() < size;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        checkForComodification();
+                        throw new NoSuchElementException();
+                    }
+                    return iterator.next();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return previousIndex() >= 0;
+                }
+
+                @Override
+                public E previous() {
+                    if (!hasPrevious()) {
+                        checkForComodification();
+                        throw new NoSuchElementException();
+                    }
+                    return iterator.previous();
+                }
+
+                @Override
+                public int nextIndex() {
+                    return iterator.nextIndex() - offset;
+                }
+
+                @Override
+                public int previousIndex() {
+                    return iterator.previousIndex() - offset;
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    updateSizeAndModCount(-1);
+                }
+
+                @Override
+                public void set(E element) {
+                    iterator.set(element);
+                }
+
+                @Override
+                public void add(E element) {
+                    iterator.add(element);
+                    updateSizeAndModCount(1);
+                }
+            };
+        }
+
+        @Override
+        public void forEach(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            checkForComodification();
+            int end = offset + size;
+            for (int i = offset; modCount == expectedModCount && i < end; i++) {
+                @SuppressWarnings("unchecked")
+                E element = (E) elements[i];
+                action.accept(element);
+            }
+            checkForComodification();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ListView<E> view() {
+            return ListView.of(sink -> {
+                checkForComodification();
+                int end = offset + size;
+                for (int i = offset; modCount == expectedModCount && i < end; i++) {
+                    if (!sink.accept((E) elements[i])) {
+                        break;
+                    }
+                }
+                checkForComodification();
+            }, this::size);
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            checkForComodification();
+            return new ArraySpliterator(offset, offset + size, modCount);
+        }
+
+        @Override
+        public CustomList<E> subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            checkRange(fromIndex, toIndex, size);
+            return new SubList(this, offset + fromIndex, offset + toIndex);
+        }
+
+        @Override
+        public String toString() {
+            checkForComodification();
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(elements[offset + i]);
+            }
+            sb.append(']');
+            return sb.toString();
+        }
+
+        private CustomArrayList<E> root() {
+            return CustomArrayList.this;
+        }
+
+        private void checkIndex(int index) {
+            checkForComodification();
+            if (index < 0 || index >= size) {
+                throw outOfBounds(index, size);
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private void updateSizeAndModCount(int sizeChange) {
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += sizeChange;
+                view.expectedModCount = modCount;
+            }
+        }
+    }
+
+    /**
+     * Sorts this list according to the natural order of its elements.
+     * This implementation uses a natural merge sort to achieve stable sorting.
      */
     @Override
     @SuppressWarnings("unchecked")
@@ -256,51 +1453,254 @@ public class CustomArrayList<E> implements CustomList<E> {
 
     /**
      * Sorts this list according to the order induced by the specified comparator.
-     * This implementation uses a variation of the merge sort algorithm to achieve stable sorting.
+     * This implementation uses a natural merge sort to achieve stable sorting: it merges the ascending and
+     * descending runs already present in the list, so sorting nearly-sorted data is close to linear.
+     * Short runs are extended with a binary insertion sort.
      *
      * @param comparator the comparator to determine the order of the list
      */
     @Override
     public void sort(Comparator<? super E> comparator) {
-        if (size <= 1) {
+        sort(comparator, 0, size);
+    }
+
+    /**
+     * Sorts the elements between fromIndex, inclusive, and toIndex, exclusive, in place.
+     */
+    private void sort(Comparator<? super E> comparator, int fromIndex, int toIndex) {
+        if (toIndex - fromIndex > 1) {
+            Object[] buffer = acquireSortBuffer();
+            sortRange(elements, buffer, fromIndex, toIndex, comparator);
+            Arrays.fill(buffer, fromIndex, toIndex, null);
+        }
+        if (index != null) {
+            index.moved();
+        }
+        modCount++;
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator, using the common
+     * ForkJoinPool. The sort is stable.
+     *
+     * @param comparator the comparator to determine the order of the list
+     */
+    public void parallelSort(Comparator<? super E> comparator) {
+        parallelSort(comparator, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator, using the common
+     * ForkJoinPool. Ranges no longer than the threshold are sorted sequentially by a single task.
+     * The sort is stable.
+     *
+     * @param comparator the comparator to determine the order of the list
+     * @param threshold  the length of a range below which it is sorted sequentially
+     * @throws IllegalArgumentException if the threshold is less than MIN_RUN
+     */
+    public void parallelSort(Comparator<? super E> comparator, int threshold) {
+        if (threshold < MIN_RUN) {
+            throw new IllegalArgumentException("Threshold must be at least " + MIN_RUN + ", but was: " + threshold);
+        }
+        if (size <= threshold) {
+            sort(comparator);
             return;
         }
+        if (countRunAndMakeAscending(elements, 0, size, comparator) < size) {
+            Object[] buffer = acquireSortBuffer();
+            ForkJoinPool.commonPool().invoke(new SortTask<>(elements, buffer, 0, size, threshold, comparator));
+            Arrays.fill(buffer, 0, size, null);
+        }
+        if (index != null) {
+            index.moved();
+        }
+        modCount++;
+    }
 
-        Object[] inputArray = this.elements;
-        Object[] outputArray = new Object[size];
-        Object[] tempArray;
+    /**
+     * Returns the scratch buffer used by the merges, allocating it only if the one kept from a previous
+     * sort is too small. The caller clears the used part afterwards so the buffer does not retain elements.
+     *
+     * @return a buffer at least as long as the list
+     */
+    private Object[] acquireSortBuffer() {
+        if (sortBuffer == null || sortBuffer.length < size) {
+            sortBuffer = new Object[size];
+        }
+        return sortBuffer;
+    }
 
-        for (int width = 1; width < size; width *= 2) {
-            splitAndMerge(inputArray, outputArray, width, comparator);
-            tempArray = inputArray;
-            inputArray = outputArray;
-            outputArray = tempArray;
+    /**
+     * Sorts a range of the array: it splits the range into natural runs of at least MIN_RUN elements, then
+     * merges neighbouring runs pairwise until one run is left.
+     *
+     * @param array      the array to be sorted
+     * @param buffer     the scratch buffer, at least as long as hi
+     * @param lo         the first index of the range
+     * @param hi         one past the last index of the range
+     * @param comparator the comparator to determine the order
+     */
+    private static <E> void sortRange(Object[] array, Object[] buffer, int lo, int hi, Comparator<? super E> comparator) {
+        int[] runEnds = new int[(hi - lo) / MIN_RUN + 1];
+        int runCount = 0;
+        for (int start = lo; start < hi; ) {
+            int runLength = countRunAndMakeAscending(array, start, hi, comparator);
+            if (runLength < MIN_RUN) {
+                int forced = Math.min(MIN_RUN, hi - start);
+                binaryInsertionSort(array, start, start + forced, start + runLength, comparator);
+                runLength = forced;
+            }
+            start += runLength;
+            runEnds[runCount++] = start;
         }
-        if (inputArray != this.elements) {
-            System.arraycopy(inputArray, 0, this.elements, 0, size);
+        while (runCount > 1) {
+            int merged = 0;
+            int runStart = lo;
+            for (int i = 0; i < runCount; i += 2) {
+                if (i + 1 < runCount) {
+                    merge(array, buffer, runStart, runEnds[i], runEnds[i + 1], comparator);
+                    runStart = runEnds[i + 1];
+                    runEnds[merged++] = runEnds[i + 1];
+                } else {
+                    runEnds[merged++] = runEnds[i];
+                }
+            }
+            runCount = merged;
         }
     }
 
-    private void splitAndMerge(Object[] inputArray, Object[] outputArray, int width, Comparator<? super E> comparator){
-        for (int currentLeft = 0; currentLeft < size; currentLeft += 2 * width) {
-            int rightEnd = Math.min(currentLeft + 2 * width, size);
-            int leftEnd = Math.min(currentLeft + width, size);
-            merge(inputArray, outputArray, currentLeft, leftEnd, rightEnd, comparator);
+    /**
+     * Returns the length of the run starting at lo. A strictly descending run is reversed in place, so the
+     * run is ascending when this method returns; equal elements never start a descending run, which keeps
+     * the sort stable.
+     *
+     * @param array      the array containing the run
+     * @param lo         the first index of the run
+     * @param hi         one past the last index that may belong to the run
+     * @param comparator the comparator to determine the order
+     * @return the length of the run
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> int countRunAndMakeAscending(Object[] array, int lo, int hi, Comparator<? super E> comparator) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+        if (comparator.compare((E) array[runHi++], (E) array[lo]) < 0) {
+            while (runHi < hi && comparator.compare((E) array[runHi], (E) array[runHi - 1]) < 0) {
+                runHi++;
+            }
+            reverseRange(array, lo, runHi);
+        } else {
+            while (runHi < hi && comparator.compare((E) array[runHi], (E) array[runHi - 1]) >= 0) {
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    private static void reverseRange(Object[] array, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            Object temp = array[lo];
+            array[lo++] = array[hi];
+            array[hi--] = temp;
         }
     }
 
+    /**
+     * Sorts a range of the array whose first part is already sorted, inserting each remaining element at
+     * the position found by a binary search. An element is inserted after all elements equal to it.
+     *
+     * @param array      the array to be sorted
+     * @param lo         the first index of the range
+     * @param hi         one past the last index of the range
+     * @param start      the first index that is not known to be sorted
+     * @param comparator the comparator to determine the order
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> void binaryInsertionSort(Object[] array, int lo, int hi, int start, Comparator<? super E> comparator) {
+        for (; start < hi; start++) {
+            Object pivot = array[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comparator.compare((E) pivot, (E) array[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(array, left, array, left + 1, start - left);
+            array[left] = pivot;
+        }
+    }
 
+    /**
+     * Merges the sorted ranges [left, right) and [right, end) of the array in place. The left range is copied
+     * into the same positions of the buffer first; if the ranges are already in order nothing is copied.
+     *
+     * @param array      the array containing both ranges
+     * @param buffer     the scratch buffer, at least as long as right
+     * @param left       the first index of the left range
+     * @param right      the first index of the right range
+     * @param end        one past the last index of the right range
+     * @param comparator the comparator to determine the order
+     */
     @SuppressWarnings("unchecked")
-    private void merge(Object[] inputArray, Object[] outputArray, int left, int right, int end, Comparator<? super E> comparator) {
+    private static <E> void merge(Object[] array, Object[] buffer, int left, int right, int end, Comparator<? super E> comparator) {
+        if (comparator.compare((E) array[right - 1], (E) array[right]) <= 0) {
+            return;
+        }
+        System.arraycopy(array, left, buffer, left, right - left);
         int leftIndex = left;
         int rightIndex = right;
-        for (int currentInd = left; currentInd < end; currentInd++) {
-            if (leftIndex < right && (rightIndex >= end || comparator.compare((E) inputArray[leftIndex], (E) inputArray[rightIndex]) <= 0)) {
-                outputArray[currentInd] = inputArray[leftIndex++];
+        int currentInd = left;
+        while (leftIndex < right && rightIndex < end) {
+            if (comparator.compare((E) array[rightIndex], (E) buffer[leftIndex]) < 0) {
+                array[currentInd++] = array[rightIndex++];
             } else {
-                outputArray[currentInd] = inputArray[rightIndex++];
+                array[currentInd++] = buffer[leftIndex++];
             }
         }
+        System.arraycopy(buffer, leftIndex, array, currentInd, right - leftIndex);
+    }
+
+    /**
+     * A fork-join task that sorts both halves of its range in parallel and then merges them.
+     *
+     * @param <E> the type of elements being sorted
+     */
+    private static final class SortTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Object[] array;
+        private final Object[] buffer;
+        private final int lo;
+        private final int hi;
+        private final int threshold;
+        private final Comparator<? super E> comparator;
+
+        SortTask(Object[] array, Object[] buffer, int lo, int hi, int threshold, Comparator<? super E> comparator) {
+            this.array = array;
+            this.buffer = buffer;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                sortRange(array, buffer, lo, hi, comparator);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask<>(array, buffer, lo, mid, threshold, comparator),
+                    new SortTask<>(array, buffer, mid, hi, threshold, comparator));
+            merge(array, buffer, lo, mid, hi, comparator);
+        }
     }
 
     /**
@@ -317,8 +1717,7 @@ public class CustomArrayList<E> implements CustomList<E> {
         StringBuilder sb = new StringBuilder();
         sb.append('[');
         for (int i = 0; i < size; i++) {
-            E element = get(i);
-            sb.append(element);
+            sb.append(elements[i]);
             if (i < size - 1) {
                 sb.append(", ");
             }
@@ -333,20 +1732,47 @@ public class CustomArrayList<E> implements CustomList<E> {
      * @param index the index of the element to be removed
      */
     private void removeAtIndex(int index) {
+        if (this.index != null) {
+            this.index.removed(elements[index]);
+        }
         int numMoved = size - index - 1;
         if (numMoved > 0) {
+            if (probe != null) {
+                probe.shifted(numMoved);
+            }
             System.arraycopy(elements, index + 1, elements, index, numMoved);
         }
         elements[--size] = null;
+        modCount++;
     }
 
     /**
      * Increases the capacity of the internal array when it is full.
      */
     private void increaseCapacity() {
-        int newCapacity = elements.length * 2;
-        Object[] newElements = new Object[newCapacity];
-        System.arraycopy(elements, 0, newElements, 0, elements.length);
-        elements = newElements;
+        grow(size + 1);
+    }
+
+    /**
+     * Grows the internal array to the capacity chosen by the growth policy, but to at least minCapacity.
+     *
+     * @param minCapacity the number of elements the internal array must hold
+     * @throws OutOfMemoryError if minCapacity is beyond the maximum array size
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required capacity " + (minCapacity & 0xffffffffL) + " is too large");
+        }
+        int newCapacity = growthPolicy.newCapacity(elements.length, minCapacity);
+        if (newCapacity < minCapacity) {
+            newCapacity = Math.max(minCapacity, DEFAULT_CAPACITY);
+        } else if (newCapacity > MAX_ARRAY_SIZE) {
+            newCapacity = MAX_ARRAY_SIZE;
+        }
+        int oldCapacity = elements.length;
+        elements = Arrays.copyOf(elements, newCapacity);
+        if (probe != null) {
+            probe.resized(oldCapacity, newCapacity);
+        }
     }
 }
\ No newline at end of file
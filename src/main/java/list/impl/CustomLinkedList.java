@@ -1,13 +1,24 @@
 package list.impl;
 
 import list.CustomList;
+import list.Cursor;
+import list.HeapLayout;
+import list.IntObjConsumer;
+import list.ListView;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
- * This class implements the CustomList interface and provides a custom implementation of a LinkedList.
+ * This class implements the CustomList interface and provides a custom implementation of a doubly-linked LinkedList.
+ * Adding and removing at either end takes constant time, and indexed access walks from whichever end is closer.
  *
  * @param <E> the type of elements in this list
  */
@@ -15,7 +26,10 @@ public class CustomLinkedList<E> implements CustomList<E> {
     private static final String REQUEST_INDEX = "Requested index";
     private static final String BUT_SIZE = ", but size: ";
     private Node<E> head;
+    private Node<E> tail;
     private int size;
+    private int modCount;
+    private ListProbe probe;
 
     /**
      * This class represents a node in the linked list.
@@ -24,10 +38,12 @@ public class CustomLinkedList<E> implements CustomList<E> {
      */
     private static class Node<E> {
         E data;
+        Node<E> prev;
         Node<E> next;
 
         Node(E data) {
             this.data = data;
+            this.prev = null;
             this.next = null;
         }
     }
@@ -39,7 +55,7 @@ public class CustomLinkedList<E> implements CustomList<E> {
      */
     @Override
     public void add(E element) {
-        add(size, element);
+        linkLast(element);
     }
 
     /**
@@ -52,34 +68,181 @@ public class CustomLinkedList<E> implements CustomList<E> {
     @Override
     public void add(int index, E element) {
         if (index < 0 || index > size) {
-            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+            throw outOfBounds(index, size);
         }
-        if (index == 0) {
-            Node<E> newNode = new Node<>(element);
-            newNode.next = head;
-            head = newNode;
+        if (index == size) {
+            linkLast(element);
         } else {
-            Node<E> current = head;
-            for (int i = 0; i < index - 1; i++) {
-                current = current.next;
+            linkBefore(element, node(index));
+        }
+    }
+
+    /**
+     * Inserts all the elements of the specified list at the specified position in this list, in order.
+     * The new nodes are linked into a chain first and spliced in at the position with a single walk.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param other the list whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> other) {
+        return spliceAll(index, other, other.size());
+    }
+
+    /**
+     * Inserts all the elements of the specified collection at the specified position in this list, in iteration order.
+     * The new nodes are linked into a chain first and spliced in at the position with a single walk.
+     *
+     * @param index      the index at which the first element is to be inserted
+     * @param collection the collection whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        return spliceAll(index, collection, collection.size());
+    }
+
+    /**
+     * Inserts all the elements of the specified array at the specified position in this list, in order.
+     * The new nodes are linked into a chain first and spliced in at the position with a single walk.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param array the array whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, E[] array) {
+        return spliceAll(index, Arrays.asList(array), array.length);
+    }
+
+    /**
+     * Builds a detached chain from the given elements and links it in front of the node at the given index.
+     * The chain is complete before it is linked, so adding a list to itself is safe.
+     *
+     * @param index  the index at which the first element is to be inserted
+     * @param source the elements to be inserted
+     * @param count  the number of elements in the source
+     * @return true if this list changed as a result of the call
+     */
+    private boolean spliceAll(int index, Iterable<? extends E> source, int count) {
+        if (index < 0 || index > size) {
+            throw outOfBounds(index, size);
+        }
+        if (count == 0) {
+            return false;
+        }
+        Node<E> first = null;
+        Node<E> last = null;
+        int linked = 0;
+        for (E element : source) {
+            if (linked == count) {
+                break;
             }
             Node<E> newNode = new Node<>(element);
-            newNode.next = current.next;
-            current.next = newNode;
+            if (last == null) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+                newNode.prev = last;
+            }
+            last = newNode;
+            linked++;
         }
-        size++;
+        Node<E> successor = (index == size) ? null : node(index);
+        Node<E> predecessor = (successor == null) ? tail : successor.prev;
+        first.prev = predecessor;
+        last.next = successor;
+        if (predecessor == null) {
+            head = first;
+        } else {
+            predecessor.next = first;
+        }
+        if (successor == null) {
+            tail = last;
+        } else {
+            successor.prev = last;
+        }
+        size += linked;
+        modCount++;
+        return true;
     }
 
+    /**
+     * Inserts the specified element at the beginning of this list.
+     *
+     * @param element the element to be added to this list
+     */
+    public void addFirst(E element) {
+        if (head == null) {
+            linkLast(element);
+        } else {
+            linkBefore(element, head);
+        }
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element the element to be added to this list
+     */
+    public void addLast(E element) {
+        linkLast(element);
+    }
+
+    /**
+     * Retrieves and removes the first element of this list, or returns null if this list is empty.
+     *
+     * @return the first element of this list, or null if this list is empty
+     */
+    public E pollFirst() {
+        return head == null ? null : unlink(head);
+    }
+
+    /**
+     * Retrieves and removes the last element of this list, or returns null if this list is empty.
+     *
+     * @return the last element of this list, or null if this list is empty
+     */
+    public E pollLast() {
+        return tail == null ? null : unlink(tail);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
     @Override
     public E get(int index) {
         if (index < 0 || index >= size) {
-            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+            throw outOfBounds(index, size);
         }
-        Node<E> current = head;
-        for (int i = 0; i < index; i++) {
-            current = current.next;
+        return node(index).data;
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   the index of the element to be replaced
+     * @param element the element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E set(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw outOfBounds(index, size);
         }
-        return current.data;
+        Node<E> target = node(index);
+        E oldValue = target.data;
+        target.data = element;
+        return oldValue;
     }
 
     /**
@@ -90,26 +253,53 @@ public class CustomLinkedList<E> implements CustomList<E> {
      */
     @Override
     public boolean remove(Object o) {
-        if (head == null) {
-            return false;
-        }
-        if (head.data.equals(o)) {
-            head = head.next;
-            size--;
-            return true;
-        }
-        Node<E> current = head;
-        while (current.next != null) {
-            if (current.next.data.equals(o)) {
-                current.next = current.next.next;
-                size--;
+        for (Node<E> current = head; current != null; current = current.next) {
+            if (Objects.equals(o, current.data)) {
+                unlink(current);
                 return true;
             }
-            current = current.next;
         }
         return false;
     }
 
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, walking from the head,
+     * or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (Node<E> current = head; current != null; current = current.next) {
+            if (Objects.equals(o, current.data)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, walking from the tail,
+     * or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = size - 1;
+        for (Node<E> current = tail; current != null; current = current.prev) {
+            if (Objects.equals(o, current.data)) {
+                return index;
+            }
+            index--;
+        }
+        return -1;
+    }
+
     /**
      * Removes the element at the specified position in this list.
      *
@@ -120,22 +310,70 @@ public class CustomLinkedList<E> implements CustomList<E> {
     @Override
     public E remove(int index) {
         if (index < 0 || index >= size) {
-            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+            throw outOfBounds(index, size);
         }
-        E removedData;
-        if (index == 0) {
-            removedData = head.data;
-            head = head.next;
+        return unlink(node(index));
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive,
+     * by cutting the whole segment out of the chain.
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw outOfRange(fromIndex, toIndex, size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        Node<E> first = node(fromIndex);
+        Node<E> last = first;
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            last = last.next;
+        }
+        Node<E> predecessor = first.prev;
+        Node<E> successor = last.next;
+        if (predecessor == null) {
+            head = successor;
         } else {
-            Node<E> current = head;
-            for (int i = 0; i < index - 1; i++) {
-                current = current.next;
+            predecessor.next = successor;
+        }
+        if (successor == null) {
+            tail = predecessor;
+        } else {
+            successor.prev = predecessor;
+        }
+        first.prev = null;
+        last.next = null;
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    /**
+     * Removes all the elements of this list that satisfy the given predicate, unlinking each match in constant time.
+     *
+     * @param filter a predicate which returns true for the elements to be removed
+     * @return true if any elements were removed, otherwise false
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        Node<E> current = head;
+        while (current != null) {
+            Node<E> next = current.next;
+            if (filter.test(current.data)) {
+                unlink(current);
+                removed = true;
             }
-            removedData = current.next.data;
-            current.next = current.next.next;
+            current = next;
         }
-        size--;
-        return removedData;
+        return removed;
     }
 
     /**
@@ -144,7 +382,9 @@ public class CustomLinkedList<E> implements CustomList<E> {
     @Override
     public void clear() {
         head = null;
+        tail = null;
         size = 0;
+        modCount++;
     }
 
     /**
@@ -175,6 +415,44 @@ public class CustomLinkedList<E> implements CustomList<E> {
         return true;
     }
 
+    /**
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (Node<E> current = head; current != null; current = current.next) {
+            hash = 31 * hash + Objects.hashCode(current.data);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns an estimate of the heap memory this list holds, in bytes: the list object and one node per element.
+     * The elements are not counted. A node costs six times the reference it holds, which is why a list that is no
+     * longer modified in the middle is better kept as {@link #toCompactList()}.
+     *
+     * @return the estimated size of this list in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return HeapLayout.objectSize(3, 2) + size * HeapLayout.objectSize(3, 0);
+    }
+
+    /**
+     * Returns an array-backed list with the elements of this list, in order, whose backing array has exactly size
+     * slots. It is built with a single walk of the nodes and no growth. Use it when the list becomes read-mostly:
+     * indexed access no longer walks the chain, and the footprint drops from a node of 24 bytes per element to
+     * 4 bytes per element. This list is left unchanged.
+     *
+     * @return a new compact list holding the elements of this list
+     */
+    public CustomArrayList<E> toCompactList() {
+        return new CustomArrayList<>(toArray(), size);
+    }
+
     /**
      * Returns an array containing all the elements in this list in a proper sequence.
      *
@@ -192,30 +470,585 @@ public class CustomLinkedList<E> implements CustomList<E> {
     }
 
     /**
-     * Returns an iterator over the elements in this list.
+     * Returns an iterator over the elements in this list. The iterator supports remove and is fail-fast: a structural
+     * modification of the list that is not made through the iterator is reported with a ConcurrentModificationException.
      *
      * @return an iterator over the elements in this list
      */
     @Override
     public Iterator<E> iterator() {
-        return new Iterator<>() {
-            private Node<E> current = head;
+        return new LinkedListIterator(0);
+    }
+
+    /**
+     * Returns a lazy view over the elements of this list whose fused stages run in a single loop over the node chain.
+     *
+     * @return a lazy view over the elements of this list
+     * @throws ConcurrentModificationException if the list is structurally modified while a terminal operation runs
+     */
+    @Override
+    public ListView<E> view() {
+        return ListView.of(sink -> {
+            int expectedModCount = modCount;
+            for (Node<E> current = head; current != null && modCount == expectedModCount; current = current.next) {
+                if (!sink.accept(current.data)) {
+                    break;
+                }
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }, this::size);
+    }
 
-            @Override
-            public boolean hasNext() {
-                return current != null;
+    /**
+     * Returns a list iterator over the elements in this list, starting at the specified position.
+     * Removing, replacing and adding at the position of the iterator take constant time.
+     *
+     * @param index the index of the first element to be returned by next
+     * @return a list iterator over the elements in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw outOfBounds(index, size);
+        }
+        return new LinkedListIterator(index);
+    }
+
+    /**
+     * Performs the given action for each element of the list together with its index, walking the node chain
+     * directly.
+     *
+     * @param action the action to be performed on the indices and elements
+     * @throws ConcurrentModificationException if the action structurally modifies the list
+     */
+    @Override
+    public void forEachIndexed(IntObjConsumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        int index = 0;
+        for (Node<E> current = head; current != null && modCount == expectedModCount; current = current.next) {
+            action.accept(index++, current.data);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a cursor over the node chain. Advancing and resetting it allocate nothing, so one cursor can be kept
+     * and reused for every traversal of this list.
+     *
+     * @return a cursor over the elements of this list
+     */
+    @Override
+    public Cursor<E> cursor() {
+        return new NodeCursor();
+    }
+
+    /**
+     * A Cursor that follows the links from the head, fail-fast from its last reset.
+     */
+    private final class NodeCursor implements Cursor<E> {
+        private Node<E> current;
+        private int cursor = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean advance() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
             }
+            Node<E> next = cursor < 0 ? head : current == null ? null : current.next;
+            if (next == null) {
+                current = null;
+                cursor = size;
+                return false;
+            }
+            current = next;
+            cursor++;
+            return true;
+        }
+
+        @Override
+        public E value() {
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            return current.data;
+        }
+
+        @Override
+        public int index() {
+            return cursor;
+        }
+
+        @Override
+        public void reset() {
+            current = null;
+            cursor = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * A ListIterator that keeps a reference to the next node, so it works on the links directly.
+     */
+    private final class LinkedListIterator implements ListIterator<E> {
+        private Node<E> next;
+        private Node<E> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        LinkedListIterator(int index) {
+            this.next = (index == size) ? null : node(index);
+            this.nextIndex = index;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
 
-            @Override
-            public E next() {
-                if (!hasNext()) {
-                    throw new NoSuchElementException();
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            next = (next == null) ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            Node<E> lastNext = lastReturned.next;
+            unlink(lastReturned);
+            if (next == lastReturned) {
+                next = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount++;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            lastReturned.data = element;
+        }
+
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            lastReturned = null;
+            if (next == null) {
+                linkLast(element);
+            } else {
+                linkBefore(element, next);
+            }
+            nextIndex++;
+            expectedModCount++;
+        }
+    }
+
+    /**
+     * Returns a view of the elements between fromIndex, inclusive, and toIndex, exclusive, backed by the node chain of
+     * this list. Nothing is copied: iterating, replacing and clearing the view walk and relink the nodes of the range,
+     * and sorting it merge sorts the segment of the chain in place. Changes made through the view, including
+     * structural ones, are made to this list. A structural modification of this list that is not made through the
+     * view invalidates it, and any later use of the view throws ConcurrentModificationException.
+     *
+     * @param fromIndex the index of the first element of the view
+     * @param toIndex   the index after the last element of the view
+     * @return a view of the range of this list
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    @Override
+    public CustomList<E> subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex, size);
+        return new SubList(null, fromIndex, toIndex);
+    }
+
+    private static void checkRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw outOfRange(fromIndex, toIndex, size);
+        }
+    }
+
+    /**
+     * Builds the exception for an index out of range.
+     */
+    private static IndexOutOfBoundsException outOfBounds(int index, int size) {
+        return new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+    }
+
+    /**
+     * Builds the exception for a range out of bounds, see {@link #outOfBounds(int, int)}.
+     */
+    private static IndexOutOfBoundsException outOfRange(int fromIndex, int toIndex, int size) {
+        return new IndexOutOfBoundsException("Requested range [" + fromIndex + ", " + toIndex + ")" + BUT_SIZE + size);
+    }
+
+    /**
+     * A view of a segment of the node chain. Structural changes go through the list, and then update the size and the
+     * expected modCount of this view and of the views it was created from.
+     */
+    private final class SubList implements CustomList<E> {
+        private final SubList parent;
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        SubList(SubList parent, int fromIndex, int toIndex) {
+            this.parent = parent;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public void add(E element) {
+            add(size, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkForComodification();
+            if (index < 0 || index > size) {
+                throw outOfBounds(index, size);
+            }
+            CustomLinkedList.this.add(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public boolean addAll(int index, E[] array) {
+            checkForComodification();
+            if (index < 0 || index > size) {
+                throw outOfBounds(index, size);
+            }
+            if (!CustomLinkedList.this.addAll(offset + index, array)) {
+                return false;
+            }
+            updateSizeAndModCount(array.length);
+            return true;
+        }
+
+        @Override
+        public E get(int index) {
+            checkIndex(index);
+            return node(offset + index).data;
+        }
+
+        @Override
+        public E set(int index, E element) {
+            checkIndex(index);
+            Node<E> target = node(offset + index);
+            E oldValue = target.data;
+            target.data = element;
+            return oldValue;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int i = indexOf(o);
+            if (i < 0) {
+                return false;
+            }
+            remove(i);
+            return true;
+        }
+
+        @Override
+        public E remove(int index) {
+            checkIndex(index);
+            E oldValue = unlink(node(offset + index));
+            updateSizeAndModCount(-1);
+            return oldValue;
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            checkForComodification();
+            Node<E> current = first();
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(o, current.data)) {
+                    return i;
                 }
-                E data = current.data;
                 current = current.next;
-                return data;
             }
-        };
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            checkForComodification();
+            if (size == 0) {
+                return -1;
+            }
+            Node<E> current = node(offset + size - 1);
+            for (int i = size - 1; i >= 0; i--) {
+                if (Objects.equals(o, current.data)) {
+                    return i;
+                }
+                current = current.prev;
+            }
+            return -1;
+        }
+
+        @Override
+        public void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            checkRange(fromIndex, toIndex, size);
+            if (fromIndex == toIndex) {
+                return;
+            }
+            CustomLinkedList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            Objects.requireNonNull(filter);
+            checkForComodification();
+            int removed = 0;
+            Node<E> current = first();
+            for (int i = 0; i < size; i++) {
+                Node<E> next = current.next;
+                if (filter.test(current.data)) {
+                    unlink(current);
+                    removed++;
+                }
+                current = next;
+            }
+            updateSizeAndModCount(-removed);
+            return removed > 0;
+        }
+
+        @Override
+        public void clear() {
+            removeRange(0, size);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void sort() {
+            Comparator<E> naturalOrder = (Comparator<E>) Comparator.naturalOrder();
+            sort(naturalOrder);
+        }
+
+        @Override
+        public void sort(Comparator<? super E> comparator) {
+            checkForComodification();
+            sortRange(offset, size, comparator);
+            updateSizeAndModCount(0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return Arrays.equals(toArray(), ((CustomLinkedList<?>.SubList) o).toArray());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(toArray());
+        }
+
+        @Override
+        public long memoryFootprint() {
+            return HeapLayout.objectSize(2, 3);
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            Object[] array = new Object[size];
+            Node<E> current = first();
+            for (int i = 0; i < size; i++) {
+                array[i] = current.data;
+                current = current.next;
+            }
+            return array;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            checkForComodification();
+            if (index < 0 || index > size) {
+                throw outOfBounds(index, size);
+            }
+            ListIterator<E> iterator = new LinkedListIterator(offset + index);
+            return new ListIterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return nextIndex() < size;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        checkForComodification();
+                        throw new NoSuchElementException();
+                    }
+                    return iterator.next();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return previousIndex() >= 0;
+                }
+
+                @Override
+                public E previous() {
+                    if (!hasPrevious()) {
+                        checkForComodification();
+                        throw new NoSuchElementException();
+                    }
+                    return iterator.previous();
+                }
+
+                @Override
+                public int nextIndex() {
+                    return iterator.nextIndex() - offset;
+                }
+
+                @Override
+                public int previousIndex() {
+                    return iterator.previousIndex() - offset;
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    updateSizeAndModCount(-1);
+                }
+
+                @Override
+                public void set(E element) {
+                    iterator.set(element);
+                }
+
+                @Override
+                public void add(E element) {
+                    iterator.add(element);
+                    updateSizeAndModCount(1);
+                }
+            };
+        }
+
+        @Override
+        public ListView<E> view() {
+            return ListView.of(sink -> {
+                checkForComodification();
+                Node<E> current = first();
+                for (int i = 0; i < size && modCount == expectedModCount; i++) {
+                    if (!sink.accept(current.data)) {
+                        break;
+                    }
+                    current = current.next;
+                }
+                checkForComodification();
+            }, this::size);
+        }
+
+        @Override
+        public CustomList<E> subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            checkRange(fromIndex, toIndex, size);
+            return new SubList(this, offset + fromIndex, offset + toIndex);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(toArray());
+        }
+
+        private Node<E> first() {
+            return size == 0 ? null : node(offset);
+        }
+
+        private void checkIndex(int index) {
+            checkForComodification();
+            if (index < 0 || index >= size) {
+                throw outOfBounds(index, size);
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private void updateSizeAndModCount(int sizeChange) {
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += sizeChange;
+                view.expectedModCount = modCount;
+            }
+        }
     }
 
     /**
@@ -237,24 +1070,176 @@ public class CustomLinkedList<E> implements CustomList<E> {
      */
     @Override
     public void sort(Comparator<? super E> comparator) {
-        int blockSize = 1;
-        Node<E> dummy = new Node<>(null);
-        dummy.next = head;
+        sortRange(0, size, comparator);
+    }
+
+    /**
+     * Sorts the count elements starting at fromIndex by cutting their segment out of the chain, merge sorting it and
+     * linking it back in between the same neighbours.
+     *
+     * @param fromIndex  the index of the first element of the segment
+     * @param count      the number of elements in the segment
+     * @param comparator the comparator to determine the order of the segment
+     */
+    private void sortRange(int fromIndex, int count, Comparator<? super E> comparator) {
+        if (count > 1) {
+            Node<E> first = node(fromIndex);
+            Node<E> predecessor = first.prev;
+            Node<E> last = first;
+            for (int i = 1; i < count; i++) {
+                last = last.next;
+            }
+            Node<E> successor = last.next;
+            last.next = null;
+
+            int blockSize = 1;
+            Node<E> dummy = new Node<>(null);
+            dummy.next = first;
+
+            while (blockSize < count) {
+                Node<E> current = dummy.next;
+                Node<E> tail = dummy;
+
+                while (current != null) {
+                    Node<E> left = current;
+                    Node<E> right = split(left, blockSize);
+                    current = split(right, blockSize);
+                    tail = merge(left, right, tail, current, comparator);
+                }
+                blockSize *= 2;
+            }
+
+            relinkBackwards(predecessor, dummy.next, successor);
+        }
+        modCount++;
+    }
 
-        while (blockSize < size) {
-            Node<E> current = dummy.next;
-            Node<E> tail = dummy;
+    /**
+     * Links a sorted segment back in between its neighbours and restores its prev links, which the merge sort does
+     * not maintain.
+     *
+     * @param predecessor the node before the segment, or null if the segment starts the list
+     * @param first       the first node of the segment
+     * @param successor   the node after the segment, or null if the segment ends the list
+     */
+    private void relinkBackwards(Node<E> predecessor, Node<E> first, Node<E> successor) {
+        if (predecessor == null) {
+            head = first;
+        } else {
+            predecessor.next = first;
+        }
+        Node<E> previous = predecessor;
+        for (Node<E> current = first; current != null; current = current.next) {
+            current.prev = previous;
+            previous = current;
+        }
+        previous.next = successor;
+        if (successor == null) {
+            tail = previous;
+        } else {
+            successor.prev = previous;
+        }
+    }
 
-            while (current != null) {
-                Node<E> left = current;
-                Node<E> right = split(left, blockSize);
-                current = split(right, blockSize);
-                tail = merge(left, right, tail, current, comparator);
+    /**
+     * Returns the node at the specified position, walking from the head or from the tail, whichever is closer.
+     *
+     * @param index the index of the node, which must be in range
+     * @return the node at the specified position
+     */
+    private Node<E> node(int index) {
+        if (probe != null) {
+            probe.traversed(Math.min(index, size - 1 - index));
+        }
+        Node<E> current;
+        if (index < (size >> 1)) {
+            current = head;
+            for (int i = 0; i < index; i++) {
+                current = current.next;
+            }
+        } else {
+            current = tail;
+            for (int i = size - 1; i > index; i--) {
+                current = current.prev;
             }
-            blockSize *= 2;
         }
+        return current;
+    }
 
-        head = dummy.next;
+    /**
+     * Attaches the specified probe to this list, or detaches the current one if the probe is null.
+     *
+     * @param probe the probe to notify of node traversals, or null
+     */
+    void setProbe(ListProbe probe) {
+        this.probe = probe;
+    }
+
+    /**
+     * Links the specified element as the last element of this list.
+     *
+     * @param element the element to be linked
+     */
+    private void linkLast(E element) {
+        Node<E> newNode = new Node<>(element);
+        newNode.prev = tail;
+        if (tail == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Links the specified element in front of the specified node.
+     *
+     * @param element   the element to be linked
+     * @param successor the node the element is inserted in front of
+     */
+    private void linkBefore(E element, Node<E> successor) {
+        Node<E> newNode = new Node<>(element);
+        Node<E> predecessor = successor.prev;
+        newNode.prev = predecessor;
+        newNode.next = successor;
+        successor.prev = newNode;
+        if (predecessor == null) {
+            head = newNode;
+        } else {
+            predecessor.next = newNode;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Unlinks the specified node from this list.
+     *
+     * @param node the node to be unlinked
+     * @return the element of the unlinked node
+     */
+    private E unlink(Node<E> node) {
+        E data = node.data;
+        Node<E> predecessor = node.prev;
+        Node<E> successor = node.next;
+        if (predecessor == null) {
+            head = successor;
+        } else {
+            predecessor.next = successor;
+            node.prev = null;
+        }
+        if (successor == null) {
+            tail = predecessor;
+        } else {
+            successor.prev = predecessor;
+            node.next = null;
+        }
+        node.data = null;
+        size--;
+        modCount++;
+        return data;
     }
 
     /**
@@ -310,6 +1295,7 @@ public class CustomLinkedList<E> implements CustomList<E> {
      *
      * @return the number of elements in this list
      */
+    @Override
     public int size() {
         return size;
     }
@@ -0,0 +1,322 @@
+package list.impl;
+
+import list.CustomList;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static list.impl.CustomListWriter.BLOCK_HEADER_SIZE;
+import static list.impl.CustomListWriter.FLAG_DEFLATE;
+import static list.impl.CustomListWriter.HEADER_SIZE;
+import static list.impl.CustomListWriter.MAGIC;
+import static list.impl.CustomListWriter.UNKNOWN_SIZE;
+import static list.impl.CustomListWriter.VERSION;
+
+/**
+ * This class reads elements from a channel in the binary list format written by {@link CustomListWriter}.
+ * <p>
+ * Only one block is held in memory at a time, so a stream larger than the heap can be processed element by element
+ * through {@link #next()} or chunk by chunk through {@link #readChunk(CustomList, int)}. {@link #readAll()} reads the
+ * rest of the stream into a CustomArrayList whose backing array is allocated once at the size recorded in the header.
+ *
+ * @param <E> the type of elements being read
+ */
+public class CustomListReader<E> implements Iterator<E>, AutoCloseable {
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ReadableByteChannel channel;
+    private final ElementCodec<E> codec;
+    private final long size;
+    private final Inflater inflater;
+    private final ByteBuffer blockHeader;
+    private ByteBuffer block;
+    private byte[] stored;
+    private int remainingInBlock;
+    private long count;
+    private boolean finished;
+    private boolean closed;
+
+    /**
+     * Constructs a reader and reads the header of the stream.
+     *
+     * @param channel the channel to read from, closed by {@link #close()}
+     * @param codec   the codec used to decode the elements
+     * @throws IllegalArgumentException if the channel does not hold a list stream of a supported version
+     * @throws UncheckedIOException     if the header cannot be read
+     */
+    public CustomListReader(ReadableByteChannel channel, ElementCodec<E> codec) {
+        this.channel = Objects.requireNonNull(channel);
+        this.codec = Objects.requireNonNull(codec);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        try {
+            readFully(header);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Channel does not hold a list stream");
+        }
+        byte version = header.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported list stream version: " + version);
+        }
+        boolean compressed = (header.get() & FLAG_DEFLATE) != 0;
+        header.getShort();
+        this.size = header.getLong();
+        this.inflater = compressed ? new Inflater() : null;
+        this.blockHeader = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+        this.block = ByteBuffer.allocate(0);
+        this.stored = new byte[0];
+    }
+
+    /**
+     * Opens the specified file and returns a reader of it.
+     *
+     * @param file  the file to read
+     * @param codec the codec used to decode the elements
+     * @param <E>   the type of elements
+     * @return a reader of the file
+     * @throws IllegalArgumentException if the file does not hold a list stream of a supported version
+     * @throws UncheckedIOException     if the file cannot be opened or its header cannot be read
+     */
+    public static <E> CustomListReader<E> open(Path file, ElementCodec<E> codec) {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            return new CustomListReader<>(channel, codec);
+        } catch (RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the original failure is more useful to the caller
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the stream as recorded in the header, or -1 if the writer could not record
+     * it.
+     *
+     * @return the number of elements in the stream, or -1 if it is unknown
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of elements read so far.
+     *
+     * @return the number of elements read
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns true if the stream has more elements, reading the next block if the current one is used up.
+     *
+     * @return true if the stream has more elements
+     * @throws UncheckedIOException if the next block cannot be read or is corrupt
+     */
+    @Override
+    public boolean hasNext() {
+        return remainingInBlock > 0 || nextBlock();
+    }
+
+    /**
+     * Returns the next element of the stream.
+     *
+     * @return the next element
+     * @throws NoSuchElementException if the stream has no more elements
+     * @throws UncheckedIOException   if the next block cannot be read or is corrupt
+     */
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        remainingInBlock--;
+        count++;
+        return codec.decode(block);
+    }
+
+    /**
+     * Reads at most maxElements of the next elements of the stream and adds them to the end of the specified list.
+     * Clearing the list between chunks keeps memory use bounded however long the stream is.
+     *
+     * @param target      the list the elements are added to
+     * @param maxElements the maximum number of elements to read
+     * @return the number of elements read, 0 only at the end of the stream or if maxElements is 0
+     * @throws IllegalArgumentException if maxElements is negative
+     * @throws UncheckedIOException     if a block cannot be read or is corrupt
+     */
+    public int readChunk(CustomList<? super E> target, int maxElements) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Max elements must not be negative, but was: " + maxElements);
+        }
+        int read = 0;
+        while (read < maxElements && hasNext()) {
+            int n = Math.min(remainingInBlock, maxElements - read);
+            for (int i = 0; i < n; i++) {
+                target.add(codec.decode(block));
+            }
+            remainingInBlock -= n;
+            count += n;
+            read += n;
+        }
+        return read;
+    }
+
+    /**
+     * Reads the rest of the stream into a new list. When the header records the number of elements, the elements are
+     * decoded straight into a backing array of exactly that size.
+     *
+     * @return a new list with the remaining elements of the stream
+     * @throws IllegalStateException if the remaining elements do not fit in a list
+     * @throws UncheckedIOException  if a block cannot be read or is corrupt
+     */
+    public CustomArrayList<E> readAll() {
+        long expected = size == UNKNOWN_SIZE ? UNKNOWN_SIZE : size - count;
+        if (expected > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Stream of " + expected + " elements does not fit in a list; use readChunk");
+        }
+        Object[] elements = new Object[expected == UNKNOWN_SIZE ? INITIAL_CAPACITY : (int) expected];
+        int read = 0;
+        while (hasNext()) {
+            int n = remainingInBlock;
+            if (elements.length - read < n) {
+                if (expected != UNKNOWN_SIZE) {
+                    throw corrupt("Stream holds more elements than its header records: " + size);
+                }
+                if ((long) read + n > MAX_ARRAY_SIZE) {
+                    throw new IllegalStateException("Stream does not fit in a list; use readChunk");
+                }
+                elements = Arrays.copyOf(elements, (int) Math.min(MAX_ARRAY_SIZE,
+                        Math.max((long) read + n, (long) elements.length << 1)));
+            }
+            for (int i = 0; i < n; i++) {
+                elements[read++] = codec.decode(block);
+            }
+            remainingInBlock = 0;
+            count += n;
+        }
+        if (expected != UNKNOWN_SIZE && read != expected) {
+            throw corrupt("Stream holds fewer elements than its header records: " + size);
+        }
+        return new CustomArrayList<>(elements, read);
+    }
+
+    /**
+     * Closes the channel. Closing a closed reader has no effect.
+     *
+     * @throws UncheckedIOException if the channel cannot be closed
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        finished = true;
+        remainingInBlock = 0;
+        if (inflater != null) {
+            inflater.end();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean nextBlock() {
+        if (finished) {
+            return false;
+        }
+        try {
+            blockHeader.clear();
+            readFully(blockHeader);
+            int elementCount = blockHeader.getInt(0);
+            int rawLength = blockHeader.getInt(4);
+            int storedLength = blockHeader.getInt(8);
+            if (elementCount == 0) {
+                finished = true;
+                return false;
+            }
+            if (elementCount < 0 || storedLength < 0 || storedLength > rawLength
+                    || (storedLength < rawLength && inflater == null)) {
+                throw corrupt("Corrupt block header after element " + count);
+            }
+            if (block.capacity() < rawLength) {
+                block = ByteBuffer.allocate(rawLength);
+            }
+            block.clear().limit(rawLength);
+            if (storedLength == rawLength) {
+                readFully(block);
+            } else {
+                inflate(storedLength, rawLength);
+            }
+            block.flip();
+            remainingInBlock = elementCount;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void inflate(int storedLength, int rawLength) throws IOException {
+        if (stored.length < storedLength) {
+            stored = new byte[storedLength];
+        }
+        readFully(ByteBuffer.wrap(stored, 0, storedLength));
+        inflater.reset();
+        inflater.setInput(stored, 0, storedLength);
+        int inflated = 0;
+        try {
+            while (inflated < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(block.array(), inflated, rawLength - inflated);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += n;
+            }
+        } catch (DataFormatException e) {
+            throw new StreamCorruptedException("Corrupt compressed block after element " + count);
+        }
+        if (inflated != rawLength) {
+            throw new StreamCorruptedException("Truncated compressed block after element " + count);
+        }
+        block.position(rawLength);
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("List stream ended after element " + count);
+            }
+        }
+    }
+
+    private static UncheckedIOException corrupt(String message) {
+        return new UncheckedIOException(new StreamCorruptedException(message));
+    }
+}
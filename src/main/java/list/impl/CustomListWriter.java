@@ -0,0 +1,266 @@
+package list.impl;
+
+import list.CustomList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+/**
+ * This class writes elements to a channel in the binary list format that {@link CustomListReader} reads.
+ * <p>
+ * The stream starts with a 16-byte header: a magic number, the format version, flags telling whether blocks may be
+ * compressed, and the number of elements. The elements follow in blocks of about {@code blockSize} bytes, each
+ * prefixed with its element count, its encoded length and its stored length; a block whose stored length is smaller
+ * than its encoded length is compressed with Deflater. A block with no elements ends the stream. Elements are encoded
+ * with an {@link ElementCodec} and written as they arrive, so a list never has to be in memory as a whole. The number
+ * of elements in the header is filled in on {@link #close()} when the channel is seekable, and is -1 otherwise.
+ *
+ * @param <E> the type of elements being written
+ */
+public class CustomListWriter<E> implements AutoCloseable {
+    static final int MAGIC = 0x434C5354;
+    static final byte VERSION = 1;
+    static final byte FLAG_DEFLATE = 1;
+    static final int HEADER_SIZE = 16;
+    static final int SIZE_OFFSET = 8;
+    static final int BLOCK_HEADER_SIZE = 12;
+    static final long UNKNOWN_SIZE = -1;
+    private static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ElementCodec<E> codec;
+    private final int blockSize;
+    private final Deflater deflater;
+    private final long start;
+    private ByteBuffer block;
+    private byte[] compressed;
+    private int blockCount;
+    private long count;
+    private boolean closed;
+
+    /**
+     * Constructs a writer of uncompressed blocks of DEFAULT_BLOCK_SIZE bytes and writes the header.
+     *
+     * @param channel the channel to write to, closed by {@link #close()}
+     * @param codec   the codec used to encode the elements
+     * @throws UncheckedIOException if the header cannot be written
+     */
+    public CustomListWriter(WritableByteChannel channel, ElementCodec<E> codec) {
+        this(channel, codec, false, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs a writer of blocks of the specified size and writes the header.
+     *
+     * @param channel   the channel to write to, closed by {@link #close()}
+     * @param codec     the codec used to encode the elements
+     * @param compress  true to compress every block that Deflater makes smaller
+     * @param blockSize the maximum number of encoded bytes in a block, unless a single element is larger
+     * @throws IllegalArgumentException if the block size is not positive
+     * @throws UncheckedIOException     if the header cannot be written
+     */
+    public CustomListWriter(WritableByteChannel channel, ElementCodec<E> codec, boolean compress, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive, but was: " + blockSize);
+        }
+        this.channel = Objects.requireNonNull(channel);
+        this.codec = Objects.requireNonNull(codec);
+        this.blockSize = blockSize;
+        this.deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+        this.compressed = new byte[0];
+        this.block = newBlock(blockSize);
+        try {
+            this.start = channel instanceof SeekableByteChannel ? ((SeekableByteChannel) channel).position() : -1;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).put(VERSION).put(compress ? FLAG_DEFLATE : 0).putShort((short) 0).putLong(UNKNOWN_SIZE);
+            writeFully(header.flip());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates or truncates the specified file and returns a writer to it.
+     *
+     * @param file     the file to write
+     * @param codec    the codec used to encode the elements
+     * @param compress true to compress every block that Deflater makes smaller
+     * @param <E>      the type of elements
+     * @return a writer to the file
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public static <E> CustomListWriter<E> create(Path file, ElementCodec<E> codec, boolean compress) {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            return new CustomListWriter<>(channel, codec, compress, DEFAULT_BLOCK_SIZE);
+        } catch (RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the original failure is more useful to the caller
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the specified element to the stream.
+     *
+     * @param element the element to write
+     * @throws IllegalStateException if the writer is closed
+     * @throws UncheckedIOException  if a block cannot be written
+     */
+    public void write(E element) {
+        ensureOpen();
+        append(element);
+    }
+
+    /**
+     * Appends all the elements of the specified list to the stream, in order. A CustomArrayList is encoded straight
+     * from its backing array. The list must not be modified while it is written.
+     *
+     * @param list the list whose elements are to be written
+     * @throws IllegalStateException if the writer is closed
+     * @throws UncheckedIOException  if a block cannot be written
+     */
+    @SuppressWarnings("unchecked")
+    public void writeAll(CustomList<? extends E> list) {
+        ensureOpen();
+        if (list instanceof CustomArrayList) {
+            CustomArrayList<? extends E> arrayList = (CustomArrayList<? extends E>) list;
+            Object[] elements = arrayList.elementData();
+            int size = arrayList.size();
+            for (int i = 0; i < size; i++) {
+                append((E) elements[i]);
+            }
+        } else {
+            list.forEach(this::append);
+        }
+    }
+
+    /**
+     * Returns the number of elements written so far.
+     *
+     * @return the number of elements written
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Writes the pending block and the end of the stream, fills in the number of elements in the header when the
+     * channel is seekable, and closes the channel. Closing a closed writer has no effect.
+     *
+     * @throws UncheckedIOException if the stream cannot be completed or the channel cannot be closed
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            try {
+                if (blockCount > 0) {
+                    flushBlock();
+                }
+                writeFully(ByteBuffer.allocate(BLOCK_HEADER_SIZE));
+                if (start >= 0) {
+                    SeekableByteChannel seekable = (SeekableByteChannel) channel;
+                    long end = seekable.position();
+                    seekable.position(start + SIZE_OFFSET);
+                    writeFully(ByteBuffer.allocate(Long.BYTES).putLong(0, count));
+                    seekable.position(end);
+                }
+            } finally {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    private void append(E element) {
+        int length = codec.encodedSize(element);
+        if (block.remaining() < length) {
+            if (blockCount > 0) {
+                flushBlock();
+            }
+            if (block.remaining() < length) {
+                block = newBlock(length);
+            }
+        }
+        codec.encode(element, block);
+        blockCount++;
+        count++;
+    }
+
+    private void flushBlock() {
+        int rawLength = block.position() - BLOCK_HEADER_SIZE;
+        ByteBuffer out = block;
+        int storedLength = rawLength;
+        if (deflater != null) {
+            if (compressed.length < block.capacity()) {
+                compressed = new byte[block.capacity()];
+            }
+            deflater.reset();
+            deflater.setInput(block.array(), BLOCK_HEADER_SIZE, rawLength);
+            deflater.finish();
+            int deflated = 0;
+            while (!deflater.finished() && deflated < rawLength) {
+                deflated += deflater.deflate(compressed, BLOCK_HEADER_SIZE + deflated, rawLength - deflated);
+            }
+            if (deflater.finished() && deflated < rawLength) {
+                out = ByteBuffer.wrap(compressed, 0, BLOCK_HEADER_SIZE + deflated);
+                storedLength = deflated;
+            }
+        }
+        out.putInt(0, blockCount).putInt(4, rawLength).putInt(8, storedLength);
+        out.position(0).limit(BLOCK_HEADER_SIZE + storedLength);
+        try {
+            writeFully(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (block.capacity() > BLOCK_HEADER_SIZE + blockSize) {
+            block = newBlock(blockSize);
+        } else {
+            block.clear().position(BLOCK_HEADER_SIZE);
+        }
+        blockCount = 0;
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+    }
+
+    private static ByteBuffer newBlock(int payloadSize) {
+        return ByteBuffer.allocate(BLOCK_HEADER_SIZE + payloadSize).position(BLOCK_HEADER_SIZE);
+    }
+}
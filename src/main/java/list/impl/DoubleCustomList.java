@@ -0,0 +1,471 @@
+package list.impl;
+
+import list.CustomList;
+import list.HeapLayout;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * This class implements the CustomList interface for {@code double} values and stores them unboxed in a {@code double[]}.
+ * The unboxed methods ({@link #add(double)}, {@link #getDouble(int)}, {@link #removeDouble(int)}, {@link #forEachDouble(DoubleConsumer)},
+ * {@link #toDoubleArray()}) never allocate a wrapper object; the methods inherited from CustomList box on the way out.
+ */
+public class DoubleCustomList implements CustomList<Double> {
+    private static final String REQUEST_INDEX = "Requested index";
+    private static final String BUT_SIZE = ", but size: ";
+    private static final int DEFAULT_CAPACITY = 7;
+    private double[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty list with an initial capacity of DEFAULT_CAPACITY.
+     */
+    public DoubleCustomList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public DoubleCustomList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.elements = new double[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Adds the specified value to the end of this list.
+     *
+     * @param value the value to be added to the list
+     */
+    public void add(double value) {
+        if (size == elements.length) {
+            increaseCapacity();
+        }
+        elements[size] = value;
+        size++;
+    }
+
+    /**
+     * Adds the specified element to the end of this list.
+     *
+     * @param element the element to be added to the list
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void add(Double element) {
+        add(element.doubleValue());
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     *
+     * @param index the index at which the specified value is to be inserted
+     * @param value the value to be inserted into the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void add(int index, double value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        if (size == elements.length) {
+            increaseCapacity();
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index   the index at which the specified element is to be inserted
+     * @param element the element to be inserted into the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException      if the element is null
+     */
+    @Override
+    public void add(int index, Double element) {
+        add(index, element.doubleValue());
+    }
+
+    /**
+     * Returns the value at the specified position in this list without boxing it.
+     *
+     * @param index the index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getDouble(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        return elements[index];
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    /**
+     * Replaces the value at the specified position in this list without boxing it.
+     *
+     * @param index the index of the value to be replaced
+     * @param value the value to be stored at the specified position
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double setDouble(int index, double value) {
+        double oldValue = getDouble(index);
+        elements[index] = value;
+        return oldValue;
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   the index of the element to be replaced
+     * @param element the element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException      if the element is null
+     */
+    @Override
+    public Double set(int index, Double element) {
+        return setDouble(index, element.doubleValue());
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from this list if it is present.
+     * Values are compared like {@link Double#equals(Object)}, so NaN matches NaN and 0.0 does not match -0.0.
+     *
+     * @param value the value to be removed from this list, if present
+     * @return true if this list contained the specified value, false otherwise
+     */
+    public boolean removeValue(double value) {
+        int index = indexOfValue(value);
+        if (index < 0) {
+            return false;
+        }
+        removeAtIndex(index);
+        return true;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in this list without boxing, or -1.
+     * Values are compared like {@link Double#equals(Object)}, so NaN matches NaN and 0.0 does not match -0.0.
+     *
+     * @param value the value to search for
+     * @return the index of the first occurrence of the value, or -1 if this list does not contain it
+     */
+    public int indexOfValue(double value) {
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(elements[i]) == Double.doubleToLongBits(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value in this list without boxing, or -1.
+     * Values are compared like {@link Double#equals(Object)}, so NaN matches NaN and 0.0 does not match -0.0.
+     *
+     * @param value the value to search for
+     * @return the index of the last occurrence of the value, or -1 if this list does not contain it
+     */
+    public int lastIndexOfValue(double value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Double.doubleToLongBits(elements[i]) == Double.doubleToLongBits(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Double ? indexOfValue((Double) o) : -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        return o instanceof Double ? lastIndexOfValue((Double) o) : -1;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list if it is present.
+     *
+     * @param o the element to be removed from this list, if present
+     * @return true if this list contained the specified element, false otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Double && removeValue((Double) o);
+    }
+
+    /**
+     * Removes the value at the specified position in this list without boxing it.
+     *
+     * @param index the index of the value to be removed
+     * @return the value that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double removeDouble(int index) {
+        double oldValue = getDouble(index);
+        removeAtIndex(index);
+        return oldValue;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public Double remove(int index) {
+        return removeDouble(index);
+    }
+
+    /**
+     * Removes all the elements from this list. The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts this list into ascending numerical order, with -0.0 before 0.0 and NaN values at the end.
+     * This implementation uses the dual-pivot quicksort of {@link Arrays#sort(double[], int, int)} directly on the
+     * backing array, so no element is boxed.
+     */
+    @Override
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator.
+     * The comparator works on boxed values, so this method boxes every element once; use {@link #sort()} for
+     * the natural order. The sort is stable.
+     *
+     * @param comparator the comparator to determine the order of the list, or null for the natural order
+     */
+    @Override
+    public void sort(Comparator<? super Double> comparator) {
+        if (comparator == null) {
+            sort();
+            return;
+        }
+        Double[] boxed = new Double[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = elements[i];
+        }
+        Arrays.sort(boxed, comparator);
+        for (int i = 0; i < size; i++) {
+            elements[i] = boxed[i];
+        }
+    }
+
+    /**
+     * Returns an array containing all the values in this list in a proper sequence.
+     *
+     * @return an array containing all the values in this list
+     */
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns an estimate of the heap memory this list holds, in bytes: the list object and its {@code double[]} with
+     * its spare capacity. There are no element objects to add, as the values are stored unboxed.
+     *
+     * @return the estimated size of this list in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return HeapLayout.objectSize(1, 1) + HeapLayout.primitiveArraySize(elements.length, Double.BYTES);
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in a proper sequence, boxed.
+     *
+     * @return an array containing all the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = elements[i];
+        }
+        return array;
+    }
+
+    /**
+     * Performs the given action for each value of the list without boxing it.
+     *
+     * @param action the action to be performed on the values
+     */
+    public void forEachDouble(DoubleConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the list, boxing every element.
+     *
+     * @param action the action to be performed on the elements
+     */
+    @Override
+    public void forEach(Consumer<? super Double> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements in this list. Use {@link PrimitiveIterator.OfDouble#nextDouble()} to read the
+     * values without boxing them.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (currentIndex >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elements[currentIndex++];
+            }
+        };
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DoubleCustomList that = (DoubleCustomList) o;
+        return Arrays.equals(elements, 0, size, that.elements, 0, that.size);
+    }
+
+    /**
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Double.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns a string representation of the list.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < size; i++) {
+            sb.append(elements[i]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * Removes the value at the specified index and shifts any subsequent values to the left.
+     *
+     * @param index the index of the value to be removed
+     */
+    private void removeAtIndex(int index) {
+        int numMoved = size - index - 1;
+        if (numMoved > 0) {
+            System.arraycopy(elements, index + 1, elements, index, numMoved);
+        }
+        size--;
+    }
+
+    /**
+     * Increases the capacity of the internal array when it is full.
+     */
+    private void increaseCapacity() {
+        int newCapacity = Math.max(elements.length * 2, DEFAULT_CAPACITY);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+}
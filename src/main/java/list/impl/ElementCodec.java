@@ -0,0 +1,166 @@
+package list.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * This interface converts elements to and from a variable number of bytes, so that lists can be written to and read
+ * from channels by {@link CustomListWriter} and {@link CustomListReader}.
+ *
+ * @param <E> the type of elements being encoded
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Returns the exact number of bytes {@link #encode(Object, ByteBuffer)} writes for the specified element.
+     *
+     * @param element the element to be encoded
+     * @return the size of the encoded element in bytes
+     */
+    int encodedSize(E element);
+
+    /**
+     * Writes the specified element at the position of the buffer and advances the position past it. The buffer has at
+     * least {@link #encodedSize(Object)} bytes remaining.
+     *
+     * @param element the element to be encoded
+     * @param buffer  the buffer to write into
+     */
+    void encode(E element, ByteBuffer buffer);
+
+    /**
+     * Reads an element at the position of the buffer and advances the position past it.
+     *
+     * @param buffer the buffer to read from
+     * @return the decoded element
+     */
+    E decode(ByteBuffer buffer);
+
+    /**
+     * Returns a codec that stores an Integer in 4 bytes. Null elements are not supported.
+     *
+     * @return a codec for integers
+     */
+    static ElementCodec<Integer> ints() {
+        return of(FixedSizeCodec.ints());
+    }
+
+    /**
+     * Returns a codec that stores a Long in 8 bytes. Null elements are not supported.
+     *
+     * @return a codec for longs
+     */
+    static ElementCodec<Long> longs() {
+        return of(FixedSizeCodec.longs());
+    }
+
+    /**
+     * Returns a codec that stores a Double in 8 bytes. Null elements are not supported.
+     *
+     * @return a codec for doubles
+     */
+    static ElementCodec<Double> doubles() {
+        return of(FixedSizeCodec.doubles());
+    }
+
+    /**
+     * Returns a codec that stores a String as its length in UTF-8 bytes followed by the bytes. A null element is
+     * stored as the length -1.
+     *
+     * @return a codec for strings
+     */
+    static ElementCodec<String> strings() {
+        return new ElementCodec<>() {
+            @Override
+            public int encodedSize(String element) {
+                return element == null ? Integer.BYTES : Integer.BYTES + utf8Length(element);
+            }
+
+            @Override
+            public void encode(String element, ByteBuffer buffer) {
+                if (element == null) {
+                    buffer.putInt(-1);
+                    return;
+                }
+                byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+                buffer.putInt(bytes.length);
+                buffer.put(bytes);
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer) {
+                int length = buffer.getInt();
+                if (length < 0) {
+                    return null;
+                }
+                String element;
+                if (buffer.hasArray()) {
+                    element = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                            StandardCharsets.UTF_8);
+                    buffer.position(buffer.position() + length);
+                } else {
+                    byte[] bytes = new byte[length];
+                    buffer.get(bytes);
+                    element = new String(bytes, StandardCharsets.UTF_8);
+                }
+                return element;
+            }
+
+            private int utf8Length(String element) {
+                int length = 0;
+                for (int i = 0; i < element.length(); i++) {
+                    char c = element.charAt(i);
+                    if (c < 0x80) {
+                        length++;
+                    } else if (c < 0x800) {
+                        length += 2;
+                    } else if (Character.isHighSurrogate(c) && i + 1 < element.length()
+                            && Character.isLowSurrogate(element.charAt(i + 1))) {
+                        length += 4;
+                        i++;
+                    } else if (Character.isSurrogate(c)) {
+                        // getBytes replaces an unpaired surrogate with '?'
+                        length++;
+                    } else {
+                        length += 3;
+                    }
+                }
+                return length;
+            }
+        };
+    }
+
+    /**
+     * Returns a codec that stores every element in the fixed number of bytes of the specified codec.
+     *
+     * @param codec the fixed size codec to adapt
+     * @param <E>   the type of elements
+     * @return a codec that delegates to the fixed size codec
+     */
+    static <E> ElementCodec<E> of(FixedSizeCodec<E> codec) {
+        Objects.requireNonNull(codec);
+        int size = codec.size();
+        return new ElementCodec<>() {
+            @Override
+            public int encodedSize(E element) {
+                return size;
+            }
+
+            @Override
+            public void encode(E element, ByteBuffer buffer) {
+                int position = buffer.position();
+                codec.encode(element, buffer, position);
+                buffer.position(position + size);
+            }
+
+            @Override
+            public E decode(ByteBuffer buffer) {
+                int position = buffer.position();
+                E element = codec.decode(buffer, position);
+                buffer.position(position + size);
+                return element;
+            }
+        };
+    }
+}
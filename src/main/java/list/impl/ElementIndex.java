@@ -0,0 +1,188 @@
+package list.impl;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * A hash index from the elements of a list to their number of occurrences and to the positions of their first and
+ * last occurrence. The counts are kept exact on every change, so {@link #contains(Object)} is always expected O(1).
+ * Appending at the end keeps the positions exact as well; every other change can shift the positions of many
+ * elements at once, so it only marks them stale. While they are stale, positional queries scan the list like a plain
+ * list would, and the positions are rebuilt in one pass only once several queries in a row found the list unchanged,
+ * so a change between every two queries never pays for a rebuild.
+ * Elements are matched with {@code equals} and {@code hashCode}; null is a valid element.
+ */
+final class ElementIndex {
+    private static final int QUERIES_BEFORE_REBUILD = 4;
+    private final HashMap<Object, Entry> entries = new HashMap<>();
+    private boolean positionsValid = true;
+    private int staleQueries;
+
+    /**
+     * The occurrences of one distinct element.
+     */
+    private static final class Entry {
+        int count;
+        int first;
+        int last;
+    }
+
+    /**
+     * Builds an index over the first size elements of the specified array.
+     *
+     * @param elements the backing array of the list
+     * @param size     the number of elements in the list
+     */
+    ElementIndex(Object[] elements, int size) {
+        for (int i = 0; i < size; i++) {
+            appended(elements[i], i);
+        }
+    }
+
+    /**
+     * Records an element appended at the end of the list.
+     *
+     * @param element the element added
+     * @param index   the position of the element, which is the old size of the list
+     */
+    void appended(Object element, int index) {
+        Entry entry = entries.computeIfAbsent(element, key -> new Entry());
+        if (entry.count++ == 0) {
+            entry.first = index;
+        }
+        entry.last = index;
+    }
+
+    /**
+     * Records an element inserted before the end of the list, which shifts the elements after it.
+     *
+     * @param element the element added
+     */
+    void inserted(Object element) {
+        entries.computeIfAbsent(element, key -> new Entry()).count++;
+        invalidate();
+    }
+
+    /**
+     * Records the removal of one occurrence of an element.
+     *
+     * @param element the element removed
+     */
+    void removed(Object element) {
+        Entry entry = entries.get(element);
+        if (--entry.count == 0) {
+            entries.remove(element);
+        }
+        invalidate();
+    }
+
+    /**
+     * Records that elements were moved without being added or removed, e.g. by a sort.
+     */
+    void moved() {
+        invalidate();
+    }
+
+    /**
+     * Forgets all the elements.
+     */
+    void clear() {
+        entries.clear();
+        positionsValid = true;
+        staleQueries = 0;
+    }
+
+    /**
+     * Returns true if the list contains the specified element.
+     *
+     * @param o the element whose presence is to be tested
+     * @return true if the list contains the element
+     */
+    boolean contains(Object o) {
+        return entries.containsKey(o);
+    }
+
+    /**
+     * Returns true if the first and last positions are exact, i.e. a positional query does not need a rebuild.
+     *
+     * @return true if the positions are exact
+     */
+    boolean hasValidPositions() {
+        return positionsValid;
+    }
+
+    /**
+     * Returns the position of the first occurrence of the specified element. If the positions are stale, the list is
+     * scanned from the front, or the positions are rebuilt if enough queries in a row found the list unchanged.
+     *
+     * @param o        the element to search for
+     * @param elements the backing array of the list
+     * @param size     the number of elements in the list
+     * @return the index of the first occurrence, or -1 if the list does not contain the element
+     */
+    int indexOf(Object o, Object[] elements, int size) {
+        Entry entry = entries.get(o);
+        if (entry == null) {
+            return -1;
+        }
+        if (!positionsValid) {
+            if (++staleQueries < QUERIES_BEFORE_REBUILD) {
+                for (int i = 0; i < size; i++) {
+                    if (Objects.equals(o, elements[i])) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            rebuildPositions(elements, size);
+        }
+        return entry.first;
+    }
+
+    /**
+     * Returns the position of the last occurrence of the specified element. If the positions are stale, the list is
+     * scanned from the back, or the positions are rebuilt if enough queries in a row found the list unchanged.
+     *
+     * @param o        the element to search for
+     * @param elements the backing array of the list
+     * @param size     the number of elements in the list
+     * @return the index of the last occurrence, or -1 if the list does not contain the element
+     */
+    int lastIndexOf(Object o, Object[] elements, int size) {
+        Entry entry = entries.get(o);
+        if (entry == null) {
+            return -1;
+        }
+        if (!positionsValid) {
+            if (++staleQueries < QUERIES_BEFORE_REBUILD) {
+                for (int i = size - 1; i >= 0; i--) {
+                    if (Objects.equals(o, elements[i])) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            rebuildPositions(elements, size);
+        }
+        return entry.last;
+    }
+
+    private void invalidate() {
+        positionsValid = false;
+        staleQueries = 0;
+    }
+
+    private void rebuildPositions(Object[] elements, int size) {
+        for (Entry entry : entries.values()) {
+            entry.first = -1;
+        }
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries.get(elements[i]);
+            if (entry.first < 0) {
+                entry.first = i;
+            }
+            entry.last = i;
+        }
+        positionsValid = true;
+    }
+}
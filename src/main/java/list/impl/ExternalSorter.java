@@ -0,0 +1,321 @@
+package list.impl;
+
+import list.CustomList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * This class sorts more elements than fit in the heap with an external merge sort.
+ * <p>
+ * The input is read into a CustomArrayList until the weight of its elements reaches the memory budget. The run is
+ * then sorted with the stable merge sort of {@link CustomArrayList#sort(Comparator)} and spilled to a temporary file
+ * in the format of {@link CustomListWriter}, and the list is cleared and reused for the next run. The runs are finally
+ * merged with a heap of one cursor per run; ties are broken by run number, so the sort as a whole is stable. At most
+ * MAX_FAN_IN runs are merged at once; if there are more, consecutive groups are first merged into longer runs. Input
+ * that fits in the budget is sorted in memory without touching the disk.
+ *
+ * @param <E> the type of elements being sorted
+ */
+public class ExternalSorter<E> {
+    private static final long DEFAULT_ELEMENT_OVERHEAD = 32;
+    private static final int MAX_FAN_IN = 64;
+    private static final String RUN_PREFIX = "custom-list-run";
+    private static final String RUN_SUFFIX = ".bin";
+
+    private final ElementCodec<E> codec;
+    private final Comparator<? super E> comparator;
+    private final long memoryBudget;
+    private final ToLongFunction<? super E> weigher;
+    private final Path tempDirectory;
+    private final boolean compressRuns;
+
+    /**
+     * Constructs a sorter that weighs every element as its encoded size plus DEFAULT_ELEMENT_OVERHEAD bytes for the
+     * object header and the references from the run and its sort buffer, and spills uncompressed runs to the default
+     * temporary directory.
+     *
+     * @param codec        the codec used to spill and read back the elements
+     * @param comparator   the comparator that determines the order of the elements
+     * @param memoryBudget the maximum total weight of the elements of a run, in bytes
+     * @throws IllegalArgumentException if the memory budget is not positive
+     */
+    public ExternalSorter(ElementCodec<E> codec, Comparator<? super E> comparator, long memoryBudget) {
+        this(codec, comparator, memoryBudget, element -> DEFAULT_ELEMENT_OVERHEAD + codec.encodedSize(element), null,
+                false);
+    }
+
+    /**
+     * Constructs a sorter with the specified weigher and spill settings.
+     *
+     * @param codec         the codec used to spill and read back the elements
+     * @param comparator    the comparator that determines the order of the elements
+     * @param memoryBudget  the maximum total weight of the elements of a run
+     * @param weigher       the function estimating the memory an element occupies while its run is sorted
+     * @param tempDirectory the directory for the run files, or null for the default temporary directory
+     * @param compressRuns  true to compress the blocks of the run files
+     * @throws IllegalArgumentException if the memory budget is not positive
+     */
+    public ExternalSorter(ElementCodec<E> codec, Comparator<? super E> comparator, long memoryBudget,
+                          ToLongFunction<? super E> weigher, Path tempDirectory, boolean compressRuns) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive, but was: " + memoryBudget);
+        }
+        this.codec = Objects.requireNonNull(codec);
+        this.comparator = Objects.requireNonNull(comparator);
+        this.memoryBudget = memoryBudget;
+        this.weigher = Objects.requireNonNull(weigher);
+        this.tempDirectory = tempDirectory;
+        this.compressRuns = compressRuns;
+    }
+
+    /**
+     * Sorts the elements of the specified list without modifying it.
+     *
+     * @param list the list whose elements are to be sorted
+     * @return an iterator over the sorted elements, which must be closed to delete the run files
+     * @throws UncheckedIOException if a run file cannot be written or read
+     */
+    public SortedIterator<E> sort(CustomList<? extends E> list) {
+        return sort(list.iterator());
+    }
+
+    /**
+     * Sorts the elements produced by the specified iterator, for example a {@link CustomListReader}. The input is
+     * consumed before this method returns.
+     *
+     * @param input the iterator producing the elements to be sorted
+     * @return an iterator over the sorted elements, which must be closed to delete the run files
+     * @throws UncheckedIOException if a run file cannot be written or read
+     */
+    public SortedIterator<E> sort(Iterator<? extends E> input) {
+        CustomArrayList<Path> runs = new CustomArrayList<>();
+        try {
+            CustomArrayList<E> run = new CustomArrayList<>();
+            long weight = 0;
+            while (input.hasNext()) {
+                E element = input.next();
+                long elementWeight = weigher.applyAsLong(element);
+                if (weight + elementWeight > memoryBudget && run.size() > 0) {
+                    runs.add(spill(run));
+                    weight = 0;
+                }
+                run.add(element);
+                weight += elementWeight;
+            }
+            if (runs.size() == 0) {
+                run.sort(comparator);
+                CustomArrayList<Iterator<E>> sources = new CustomArrayList<>(1);
+                sources.add(run.iterator());
+                return new SortedIterator<>(sources, comparator, () -> run.clear(true));
+            }
+            if (run.size() > 0) {
+                runs.add(spill(run));
+            }
+            run.clear(true);
+            while (runs.size() > MAX_FAN_IN) {
+                runs = mergePass(runs);
+            }
+            return open(runs, 0, runs.size());
+        } catch (RuntimeException e) {
+            deleteAll(runs, 0, runs.size());
+            throw e;
+        }
+    }
+
+    /**
+     * Sorts the elements produced by the specified iterator into the specified file, in the format that
+     * {@link CustomListReader} reads.
+     *
+     * @param input  the iterator producing the elements to be sorted
+     * @param output the file to write the sorted elements to
+     * @return the number of elements written
+     * @throws UncheckedIOException if a run file or the output cannot be written or read
+     */
+    public long sortTo(Iterator<? extends E> input, Path output) {
+        try (SortedIterator<E> sorted = sort(input);
+             CustomListWriter<E> writer = CustomListWriter.create(output, codec, compressRuns)) {
+            while (sorted.hasNext()) {
+                writer.write(sorted.next());
+            }
+            return writer.count();
+        }
+    }
+
+    private Path spill(CustomArrayList<E> run) {
+        run.sort(comparator);
+        Path file = createRunFile();
+        try (CustomListWriter<E> writer = CustomListWriter.create(file, codec, compressRuns)) {
+            writer.writeAll(run);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+        run.clear();
+        return file;
+    }
+
+    private CustomArrayList<Path> mergePass(CustomArrayList<Path> runs) {
+        CustomArrayList<Path> merged = new CustomArrayList<>(runs.size() / MAX_FAN_IN + 1);
+        try {
+            for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+                int to = Math.min(from + MAX_FAN_IN, runs.size());
+                if (to - from == 1) {
+                    merged.add(runs.get(from));
+                    continue;
+                }
+                Path file = createRunFile();
+                merged.add(file);
+                try (SortedIterator<E> group = open(runs, from, to);
+                     CustomListWriter<E> writer = CustomListWriter.create(file, codec, compressRuns)) {
+                    while (group.hasNext()) {
+                        writer.write(group.next());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            deleteAll(merged, 0, merged.size());
+            throw e;
+        }
+        return merged;
+    }
+
+    private SortedIterator<E> open(CustomArrayList<Path> runs, int from, int to) {
+        CustomArrayList<CustomListReader<E>> readers = new CustomArrayList<>(to - from);
+        Runnable cleanup = () -> {
+            try {
+                for (CustomListReader<E> reader : readers) {
+                    reader.close();
+                }
+            } finally {
+                deleteAll(runs, from, to);
+            }
+        };
+        try {
+            for (int i = from; i < to; i++) {
+                readers.add(CustomListReader.open(runs.get(i), codec));
+            }
+            CustomArrayList<Iterator<E>> sources = new CustomArrayList<>(to - from);
+            sources.addAll(readers);
+            return new SortedIterator<>(sources, comparator, cleanup);
+        } catch (RuntimeException e) {
+            cleanup.run();
+            throw e;
+        }
+    }
+
+    private Path createRunFile() {
+        try {
+            return tempDirectory == null ? Files.createTempFile(RUN_PREFIX, RUN_SUFFIX)
+                    : Files.createTempFile(tempDirectory, RUN_PREFIX, RUN_SUFFIX);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteAll(CustomArrayList<Path> files, int from, int to) {
+        for (int i = from; i < to; i++) {
+            deleteQuietly(files.get(i));
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // a leftover temporary file must not hide the original failure
+        }
+    }
+
+    /**
+     * An iterator over sorted elements that merges the sorted runs with a heap. Closing it closes the run files and
+     * deletes them.
+     *
+     * @param <E> the type of elements
+     */
+    public static final class SortedIterator<E> implements Iterator<E>, AutoCloseable {
+        private final PriorityQueue<Cursor<E>> heap;
+        private final int runCount;
+        private final Runnable cleanup;
+        private boolean closed;
+
+        private SortedIterator(CustomArrayList<Iterator<E>> sources, Comparator<? super E> comparator,
+                               Runnable cleanup) {
+            this.runCount = sources.size();
+            this.cleanup = cleanup;
+            this.heap = new PriorityQueue<>(Math.max(1, runCount), (a, b) -> {
+                int order = comparator.compare(a.head, b.head);
+                return order != 0 ? order : Integer.compare(a.run, b.run);
+            });
+            for (int i = 0; i < runCount; i++) {
+                Iterator<E> source = sources.get(i);
+                if (source.hasNext()) {
+                    heap.add(new Cursor<>(source, i));
+                }
+            }
+        }
+
+        /**
+         * Returns the number of sorted runs this iterator merges: 1 if the input was sorted in memory.
+         *
+         * @return the number of runs being merged
+         */
+        public int runCount() {
+            return runCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heap.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            Cursor<E> cursor = heap.poll();
+            if (cursor == null) {
+                throw new NoSuchElementException();
+            }
+            E element = cursor.head;
+            if (cursor.source.hasNext()) {
+                cursor.head = cursor.source.next();
+                heap.add(cursor);
+            }
+            return element;
+        }
+
+        /**
+         * Closes and deletes the run files. Closing a closed iterator has no effect.
+         *
+         * @throws UncheckedIOException if a run file cannot be closed
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            heap.clear();
+            cleanup.run();
+        }
+    }
+
+    private static final class Cursor<E> {
+        private final Iterator<E> source;
+        private final int run;
+        private E head;
+
+        private Cursor(Iterator<E> source, int run) {
+            this.source = source;
+            this.run = run;
+            this.head = source.next();
+        }
+    }
+}
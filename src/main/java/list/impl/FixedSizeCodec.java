@@ -0,0 +1,109 @@
+package list.impl;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface converts elements to and from a fixed number of bytes, so that they can be stored outside the heap.
+ *
+ * @param <E> the type of elements being encoded
+ */
+public interface FixedSizeCodec<E> {
+
+    /**
+     * Returns the number of bytes every encoded element occupies.
+     *
+     * @return the size of an encoded element in bytes
+     */
+    int size();
+
+    /**
+     * Writes the specified element into the buffer at the specified offset, using exactly {@link #size()} bytes.
+     * The position of the buffer is not changed.
+     *
+     * @param element the element to be encoded, never null
+     * @param buffer  the buffer to write into
+     * @param offset  the absolute offset of the first byte
+     */
+    void encode(E element, ByteBuffer buffer, int offset);
+
+    /**
+     * Reads an element from the buffer at the specified offset. The position of the buffer is not changed.
+     *
+     * @param buffer the buffer to read from
+     * @param offset the absolute offset of the first byte
+     * @return the decoded element
+     */
+    E decode(ByteBuffer buffer, int offset);
+
+    /**
+     * Returns a codec that stores an Integer in 4 bytes.
+     *
+     * @return a codec for integers
+     */
+    static FixedSizeCodec<Integer> ints() {
+        return new FixedSizeCodec<>() {
+            @Override
+            public int size() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void encode(Integer element, ByteBuffer buffer, int offset) {
+                buffer.putInt(offset, element);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    /**
+     * Returns a codec that stores a Long in 8 bytes.
+     *
+     * @return a codec for longs
+     */
+    static FixedSizeCodec<Long> longs() {
+        return new FixedSizeCodec<>() {
+            @Override
+            public int size() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void encode(Long element, ByteBuffer buffer, int offset) {
+                buffer.putLong(offset, element);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+
+    /**
+     * Returns a codec that stores a Double in 8 bytes.
+     *
+     * @return a codec for doubles
+     */
+    static FixedSizeCodec<Double> doubles() {
+        return new FixedSizeCodec<>() {
+            @Override
+            public int size() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void encode(Double element, ByteBuffer buffer, int offset) {
+                buffer.putDouble(offset, element);
+            }
+
+            @Override
+            public Double decode(ByteBuffer buffer, int offset) {
+                return buffer.getDouble(offset);
+            }
+        };
+    }
+}
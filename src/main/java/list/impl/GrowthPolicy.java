@@ -0,0 +1,55 @@
+package list.impl;
+
+/**
+ * This interface decides how much an array-backed list grows when its backing array is full.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Returns the new capacity of a backing array that has to hold at least minCapacity elements.
+     * The list never grows to less than minCapacity, whatever this method returns.
+     *
+     * @param currentCapacity the current length of the backing array
+     * @param minCapacity     the number of elements the backing array must hold
+     * @return the new capacity of the backing array
+     */
+    int newCapacity(int currentCapacity, int minCapacity);
+
+    /**
+     * Returns a policy that doubles the capacity.
+     *
+     * @return a doubling growth policy
+     */
+    static GrowthPolicy doubling() {
+        return factor(2.0);
+    }
+
+    /**
+     * Returns a policy that multiplies the capacity by the given factor, e.g. 1.5 for huge lists.
+     *
+     * @param factor the factor the capacity is multiplied with
+     * @return a multiplying growth policy
+     * @throws IllegalArgumentException if the factor is not greater than 1
+     */
+    static GrowthPolicy factor(double factor) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1, but was: " + factor);
+        }
+        return (currentCapacity, minCapacity) -> (int) Math.min(Integer.MAX_VALUE, (long) (currentCapacity * factor));
+    }
+
+    /**
+     * Returns a policy that adds a fixed number of slots to the capacity.
+     *
+     * @param chunk the number of slots added on every growth
+     * @return a fixed-chunk growth policy
+     * @throws IllegalArgumentException if the chunk is not positive
+     */
+    static GrowthPolicy fixedChunk(int chunk) {
+        if (chunk <= 0) {
+            throw new IllegalArgumentException("Chunk must be positive, but was: " + chunk);
+        }
+        return (currentCapacity, minCapacity) -> (int) Math.min(Integer.MAX_VALUE, (long) currentCapacity + chunk);
+    }
+}
@@ -0,0 +1,344 @@
+package list.impl;
+
+import list.CustomList;
+import list.HeapLayout;
+import list.ListView;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * This class implements the CustomList interface as an immutable list over an array that nothing else references.
+ * <p>
+ * Instances are created by {@link CustomArrayList#freeze()}, which hands its backing array over instead of copying
+ * it, so freezing is O(1). The fields are final and the array is never written again, so a frozen list can be
+ * passed to other threads without a defensive copy or any synchronization. Every mutator throws
+ * UnsupportedOperationException.
+ *
+ * @param <E> the type of elements in this list
+ */
+public final class ImmutableCustomList<E> implements CustomList<E> {
+    private static final String REQUEST_INDEX = "Requested index";
+    private static final String BUT_SIZE = ", but size: ";
+    private static final String IMMUTABLE = "This list is immutable";
+    private final Object[] elements;
+    private final int size;
+
+    /**
+     * Takes ownership of the specified array. The caller must not keep or write the array afterwards.
+     *
+     * @param elements the array holding the elements in its first size slots
+     * @param size     the number of elements
+     */
+    ImmutableCustomList(Object[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Not supported: this list is immutable.
+     *
+     * @param element ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(E element) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported: this list is immutable.
+     *
+     * @param index   ignored
+     * @param element ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported: this list is immutable.
+     *
+     * @param index ignored
+     * @param array ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addAll(int index, E[] array) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        return (E) elements[index];
+    }
+
+    /**
+     * Not supported: this list is immutable.
+     *
+     * @param index   ignored
+     * @param element ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported: this list is immutable.
+     *
+     * @param o ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported: this list is immutable.
+     *
+     * @param index ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported: this list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Not supported: this list is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void sort() {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Not supported: this list is immutable.
+     *
+     * @param comparator ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException(IMMUTABLE);
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ImmutableCustomList<?> other = (ImmutableCustomList<?>) o;
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    /**
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Objects.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns an estimate of the heap memory this list holds, in bytes: the list object and its array, including any
+     * spare capacity the array was frozen with.
+     *
+     * @return the estimated size of this list in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return HeapLayout.objectSize(1, 1) + HeapLayout.referenceArraySize(elements.length);
+    }
+
+    /**
+     * Returns a new array containing all the elements in this list in a proper sequence.
+     *
+     * @return an array containing all the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list. The iterator does not support remove.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[cursor++];
+            }
+        };
+    }
+
+    /**
+     * Performs the given action for each element of the list.
+     *
+     * @param action the action to be performed on the elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < size; i++) {
+            action.accept((E) elements[i]);
+        }
+    }
+
+    /**
+     * Returns a lazy view over the elements of this list whose fused stages run in a single loop over the array.
+     *
+     * @return a lazy view over the elements of this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListView<E> view() {
+        return ListView.of(sink -> {
+            for (int i = 0; i < size; i++) {
+                if (!sink.accept((E) elements[i])) {
+                    return;
+                }
+            }
+        }, this::size);
+    }
+
+    /**
+     * Creates an immutable, splittable Spliterator over the elements in this list.
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Returns a string representation of the list.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+}
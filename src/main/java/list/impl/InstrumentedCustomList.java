@@ -0,0 +1,633 @@
+package list.impl;
+
+import list.CustomList;
+import list.Cursor;
+import list.HeapLayout;
+import list.IntObjConsumer;
+import list.ListView;
+import list.impl.ListMetrics.Operation;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * This class decorates a CustomList with metrics: every operation is counted and timed into a {@link ListMetrics}.
+ * <p>
+ * When the delegate is a CustomArrayList or a CustomLinkedList, the metrics are also attached to it as a probe, so
+ * they see the internal work of the operations: resizes and elements shifted by the array list, nodes traversed by
+ * the linked list. Comparator calls are counted by wrapping the comparator given to sort and binarySearch.
+ * <p>
+ * Disabling the metrics reduces the decorator to a volatile read per operation: no clock is read, no counter is
+ * updated and comparators are passed through unwrapped. forEach and forEachIndexed are timed as ITERATE; iterators,
+ * cursors, views and spliterators are only counted, as TRAVERSAL, since the traversal itself runs in the caller.
+ * A SortedCustomArrayList delegate gets comparators unwrapped, as it checks them with equals.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class InstrumentedCustomList<E> implements CustomList<E> {
+    private final CustomList<E> delegate;
+    private final ListMetrics metrics;
+
+    /**
+     * Constructs an instrumented list over the specified list with new metrics.
+     *
+     * @param delegate the list to instrument
+     */
+    public InstrumentedCustomList(CustomList<E> delegate) {
+        this(delegate, new ListMetrics());
+    }
+
+    /**
+     * Constructs an instrumented list over the specified list that records into the specified metrics, which may be
+     * shared with other lists.
+     *
+     * @param delegate the list to instrument
+     * @param metrics  the metrics to record into
+     */
+    public InstrumentedCustomList(CustomList<E> delegate, ListMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.metrics = Objects.requireNonNull(metrics);
+        if (delegate instanceof CustomArrayList<?> arrayList) {
+            arrayList.setProbe(metrics);
+        } else if (delegate instanceof CustomLinkedList<?> linkedList) {
+            linkedList.setProbe(metrics);
+        }
+    }
+
+    /**
+     * Returns the metrics this list records into.
+     *
+     * @return the metrics of this list
+     */
+    public ListMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the instrumented list.
+     *
+     * @return the list this list delegates to
+     */
+    public CustomList<E> delegate() {
+        return delegate;
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     *
+     * @param element the element to be added to the list
+     */
+    @Override
+    public void add(E element) {
+        long start = metrics.start();
+        try {
+            delegate.add(element);
+        } finally {
+            metrics.stop(Operation.ADD, start);
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in the list.
+     *
+     * @param index   the index at which the specified element is to be inserted
+     * @param element the element to be inserted into the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, E element) {
+        long start = metrics.start();
+        try {
+            delegate.add(index, element);
+        } finally {
+            metrics.stop(Operation.ADD_AT, start);
+        }
+    }
+
+    /**
+     * Adds all the elements of the specified list to the end of the list, in order.
+     *
+     * @param other the list whose elements are to be added
+     * @return true if the list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(CustomList<? extends E> other) {
+        long start = metrics.start();
+        try {
+            return delegate.addAll(other);
+        } finally {
+            metrics.stop(Operation.ADD_ALL, start);
+        }
+    }
+
+    /**
+     * Adds all the elements of the specified collection to the end of the list, in iteration order.
+     *
+     * @param collection the collection whose elements are to be added
+     * @return true if the list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        long start = metrics.start();
+        try {
+            return delegate.addAll(collection);
+        } finally {
+            metrics.stop(Operation.ADD_ALL, start);
+        }
+    }
+
+    /**
+     * Adds all the elements of the specified array to the end of the list, in order.
+     *
+     * @param array the array whose elements are to be added
+     * @return true if the list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(E[] array) {
+        long start = metrics.start();
+        try {
+            return delegate.addAll(array);
+        } finally {
+            metrics.stop(Operation.ADD_ALL, start);
+        }
+    }
+
+    /**
+     * Inserts all the elements of the specified list at the specified position in the list, in order.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param other the list whose elements are to be inserted
+     * @return true if the list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> other) {
+        long start = metrics.start();
+        try {
+            return delegate.addAll(index, other);
+        } finally {
+            metrics.stop(Operation.ADD_ALL, start);
+        }
+    }
+
+    /**
+     * Inserts all the elements of the specified collection at the specified position in the list, in iteration order.
+     *
+     * @param index      the index at which the first element is to be inserted
+     * @param collection the collection whose elements are to be inserted
+     * @return true if the list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        long start = metrics.start();
+        try {
+            return delegate.addAll(index, collection);
+        } finally {
+            metrics.stop(Operation.ADD_ALL, start);
+        }
+    }
+
+    /**
+     * Inserts all the elements of the specified array at the specified position in the list, in order.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param array the array whose elements are to be inserted
+     * @return true if the list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, E[] array) {
+        long start = metrics.start();
+        try {
+            return delegate.addAll(index, array);
+        } finally {
+            metrics.stop(Operation.ADD_ALL, start);
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E get(int index) {
+        long start = metrics.start();
+        try {
+            return delegate.get(index);
+        } finally {
+            metrics.stop(Operation.GET, start);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   the index of the element to replace
+     * @param element the element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E set(int index, E element) {
+        long start = metrics.start();
+        try {
+            return delegate.set(index, element);
+        } finally {
+            metrics.stop(Operation.SET, start);
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present.
+     *
+     * @param o the element to be removed from this list, if present
+     * @return true if this list contained the specified element, false otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        long start = metrics.start();
+        try {
+            return delegate.remove(o);
+        } finally {
+            metrics.stop(Operation.REMOVE, start);
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E remove(int index) {
+        long start = metrics.start();
+        try {
+            return delegate.remove(index);
+        } finally {
+            metrics.stop(Operation.REMOVE_AT, start);
+        }
+    }
+
+    /**
+     * Returns true if this list contains the specified element.
+     *
+     * @param o the element whose presence in this list is to be tested
+     * @return true if this list contains the specified element, false otherwise
+     */
+    @Override
+    public boolean contains(Object o) {
+        long start = metrics.start();
+        try {
+            return delegate.contains(o);
+        } finally {
+            metrics.stop(Operation.SEARCH, start);
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int indexOf(Object o) {
+        long start = metrics.start();
+        try {
+            return delegate.indexOf(o);
+        } finally {
+            metrics.stop(Operation.SEARCH, start);
+        }
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        long start = metrics.start();
+        try {
+            return delegate.lastIndexOf(o);
+        } finally {
+            metrics.stop(Operation.SEARCH, start);
+        }
+    }
+
+    /**
+     * Searches this list, which must be sorted by the specified comparator, for the specified key. Comparator calls
+     * are counted.
+     *
+     * @param key        the element to search for
+     * @param comparator the comparator the list is sorted by
+     * @return the index of the leftmost match, or (-(insertion point) - 1) if the key is not present
+     */
+    @Override
+    public int binarySearch(E key, Comparator<? super E> comparator) {
+        long start = metrics.start();
+        try {
+            return delegate.binarySearch(key, comparatorFor(start, comparator));
+        } finally {
+            metrics.stop(Operation.SEARCH, start);
+        }
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive.
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long start = metrics.start();
+        try {
+            delegate.removeRange(fromIndex, toIndex);
+        } finally {
+            metrics.stop(Operation.REMOVE_RANGE, start);
+        }
+    }
+
+    /**
+     * Removes all the elements of the list that are contained in the specified collection.
+     *
+     * @param collection the collection of elements to be removed
+     * @return true if the list changed as a result of the call
+     */
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        long start = metrics.start();
+        try {
+            return delegate.removeAll(collection);
+        } finally {
+            metrics.stop(Operation.REMOVE_IF, start);
+        }
+    }
+
+    /**
+     * Retains only the elements of the list that are contained in the specified collection.
+     *
+     * @param collection the collection of elements to be retained
+     * @return true if the list changed as a result of the call
+     */
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        long start = metrics.start();
+        try {
+            return delegate.retainAll(collection);
+        } finally {
+            metrics.stop(Operation.REMOVE_IF, start);
+        }
+    }
+
+    /**
+     * Removes all the elements of the list that satisfy the given predicate.
+     *
+     * @param filter a predicate which returns true for the elements to be removed
+     * @return true if any elements were removed, false otherwise
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        long start = metrics.start();
+        try {
+            return delegate.removeIf(filter);
+        } finally {
+            metrics.stop(Operation.REMOVE_IF, start);
+        }
+    }
+
+    /**
+     * Removes all the elements from the list.
+     */
+    @Override
+    public void clear() {
+        long start = metrics.start();
+        try {
+            delegate.clear();
+        } finally {
+            metrics.stop(Operation.CLEAR, start);
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Sorts the list in natural order. Comparator calls are counted.
+     *
+     * @throws ClassCastException if the elements are not mutually comparable
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void sort() {
+        sort((Comparator<? super E>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts the list according to the order induced by the specified comparator. Comparator calls are counted.
+     *
+     * @param comparator the comparator to determine the order of the list
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        long start = metrics.start();
+        try {
+            delegate.sort(comparatorFor(start, comparator));
+        } finally {
+            metrics.stop(Operation.SORT, start);
+        }
+    }
+
+    /**
+     * Returns the comparator to hand to the delegate: one that counts its calls while the metrics are enabled, and
+     * the original for a SortedCustomArrayList, which checks comparators with equals.
+     */
+    private <T> Comparator<T> comparatorFor(long start, Comparator<T> comparator) {
+        if (start == ListMetrics.DISABLED || delegate instanceof SortedCustomArrayList) {
+            return comparator;
+        }
+        return metrics.counting(comparator);
+    }
+
+    /**
+     * Compares the specified object with this list for equality: it is equal if it is an instrumented list whose
+     * delegate is equal to the delegate of this list.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return delegate.equals(((InstrumentedCustomList<?>) o).delegate);
+    }
+
+    /**
+     * Returns the hash code of the delegate, which is computed from its elements, so equal decorated lists hash alike.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    /**
+     * Returns the estimate of the delegate plus this decorator. The metrics are not counted, as they can be shared.
+     *
+     * @return the estimated size of this list in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return HeapLayout.objectSize(2, 0) + delegate.memoryFootprint();
+    }
+
+    /**
+     * Returns a new array containing all the elements in this list in a proper sequence.
+     *
+     * @return an array containing all the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        return delegate.toArray();
+    }
+
+    /**
+     * Returns the iterator of the delegate, counted as a TRAVERSAL.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        metrics.record(Operation.TRAVERSAL);
+        return delegate.iterator();
+    }
+
+    /**
+     * Returns the list iterator of the delegate starting at the specified position, counted as a TRAVERSAL.
+     *
+     * @param index the index of the first element to be returned by next
+     * @return a list iterator over the elements in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        metrics.record(Operation.TRAVERSAL);
+        return delegate.listIterator(index);
+    }
+
+    /**
+     * Performs the given action for each element of the list, timed as one ITERATE operation.
+     *
+     * @param action the action to be performed on the elements
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        long start = metrics.start();
+        try {
+            delegate.forEach(action);
+        } finally {
+            metrics.stop(Operation.ITERATE, start);
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the list together with its index, timed as one ITERATE
+     * operation.
+     *
+     * @param action the action to be performed on the indices and elements
+     */
+    @Override
+    public void forEachIndexed(IntObjConsumer<? super E> action) {
+        long start = metrics.start();
+        try {
+            delegate.forEachIndexed(action);
+        } finally {
+            metrics.stop(Operation.ITERATE, start);
+        }
+    }
+
+    /**
+     * Returns the cursor of the delegate, counted as a TRAVERSAL.
+     *
+     * @return a cursor over the elements of this list
+     */
+    @Override
+    public Cursor<E> cursor() {
+        metrics.record(Operation.TRAVERSAL);
+        return delegate.cursor();
+    }
+
+    /**
+     * Returns a view of the portion of this list between fromIndex, inclusive, and toIndex, exclusive, that records
+     * into the same metrics.
+     *
+     * @param fromIndex the index of the first element of the view
+     * @param toIndex   the index after the last element of the view
+     * @return an instrumented view of the range
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    @Override
+    public CustomList<E> subList(int fromIndex, int toIndex) {
+        return new InstrumentedCustomList<>(delegate.subList(fromIndex, toIndex), metrics);
+    }
+
+    /**
+     * Returns the lazy view of the delegate, counted as a TRAVERSAL.
+     *
+     * @return a lazy view over the elements of this list
+     */
+    @Override
+    public ListView<E> view() {
+        metrics.record(Operation.TRAVERSAL);
+        return delegate.view();
+    }
+
+    /**
+     * Returns the Spliterator of the delegate, counted as a TRAVERSAL.
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        metrics.record(Operation.TRAVERSAL);
+        return delegate.spliterator();
+    }
+
+    /**
+     * Returns a string representation of the list.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
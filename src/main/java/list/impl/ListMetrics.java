@@ -0,0 +1,312 @@
+package list.impl;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class records what instrumented lists do: how often each operation is called and how long it takes, and the
+ * internal work behind the operations, which is resizes, elements shifted, nodes traversed and comparator calls.
+ * <p>
+ * Counters are LongAdders, so lists used from many threads do not contend on them. Latencies go into one histogram per
+ * operation with power-of-two buckets: bucket 0 counts latencies of 0 ns and bucket b counts latencies from 2^(b-1) to
+ * 2^b - 1 ns. The numbers are read through the methods of this class or, after {@link #registerMBean(String)},
+ * through JMX. One instance can be shared by several lists to aggregate them.
+ */
+public class ListMetrics implements ListProbe, ListMetricsMXBean {
+    static final long DISABLED = Long.MIN_VALUE;
+    private static final int BUCKETS = 64;
+    private static final String DOMAIN = "list";
+
+    /**
+     * The operations of a list that are counted and timed. TRAVERSAL counts the iterators, list iterators, cursors,
+     * views and spliterators handed out; it is not timed, as the traversal runs in the code of the caller.
+     */
+    public enum Operation {
+        ADD, ADD_AT, ADD_ALL, GET, SET, REMOVE, REMOVE_AT, REMOVE_RANGE, REMOVE_IF, SEARCH, CLEAR, SORT, ITERATE,
+        TRAVERSAL
+    }
+
+    private final LongAdder[] counts;
+    private final LongAdder[] totalNanos;
+    private final AtomicLongArray histograms;
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder elementsShifted = new LongAdder();
+    private final LongAdder nodesTraversed = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private volatile boolean enabled = true;
+    private ObjectName objectName;
+
+    /**
+     * Constructs enabled metrics with every counter at zero.
+     */
+    public ListMetrics() {
+        int operations = Operation.values().length;
+        counts = new LongAdder[operations];
+        totalNanos = new LongAdder[operations];
+        for (int i = 0; i < operations; i++) {
+            counts[i] = new LongAdder();
+            totalNanos[i] = new LongAdder();
+        }
+        histograms = new AtomicLongArray(operations * BUCKETS);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the number of calls of the specified operation.
+     *
+     * @param operation the operation
+     * @return the number of calls
+     */
+    public long count(Operation operation) {
+        return counts[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns the total time spent in the specified operation in nanoseconds.
+     *
+     * @param operation the operation
+     * @return the total latency in nanoseconds
+     */
+    public long totalNanos(Operation operation) {
+        return totalNanos[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns a copy of the latency histogram of the specified operation. Bucket 0 counts latencies of 0 ns and
+     * bucket b counts latencies from 2^(b-1) to 2^b - 1 ns.
+     *
+     * @param operation the operation
+     * @return the number of calls in each bucket
+     */
+    public long[] latencyHistogram(Operation operation) {
+        long[] histogram = new long[BUCKETS];
+        int base = operation.ordinal() * BUCKETS;
+        for (int b = 0; b < BUCKETS; b++) {
+            histogram[b] = histograms.get(base + b);
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns an upper bound of the specified percentile of the latency of the operation: the upper end of the
+     * histogram bucket that holds it.
+     *
+     * @param operation  the operation
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound in nanoseconds, or 0 if the operation was never called
+     * @throws IllegalArgumentException if the percentile is not between 0 and 100
+     */
+    public long percentileNanos(Operation operation, double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, but was: " + percentile);
+        }
+        long[] histogram = latencyHistogram(operation);
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += histogram[b];
+            if (seen >= rank && seen > 0) {
+                return b == 0 ? 0 : b == BUCKETS - 1 ? Long.MAX_VALUE : (1L << b) - 1;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            result.put(operation.name(), count(operation));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Double> getMeanLatencyNanos() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            long count = count(operation);
+            result.put(operation.name(), count == 0 ? 0.0 : (double) totalNanos(operation) / count);
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getP99LatencyNanos() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            result.put(operation.name(), percentileNanos(operation, 99));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of calls of every operation, in declaration order.
+     *
+     * @return the number of calls by operation
+     */
+    public Map<Operation, Long> counts() {
+        Map<Operation, Long> result = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            result.put(operation, count(operation));
+        }
+        return result;
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getElementsShifted() {
+        return elementsShifted.sum();
+    }
+
+    @Override
+    public long getNodesTraversed() {
+        return nodesTraversed.sum();
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i].reset();
+            totalNanos[i].reset();
+        }
+        for (int i = 0; i < histograms.length(); i++) {
+            histograms.set(i, 0);
+        }
+        resizes.reset();
+        elementsShifted.reset();
+        nodesTraversed.reset();
+        comparisons.reset();
+    }
+
+    /**
+     * Registers these metrics with the platform MBeanServer under the name {@code list:type=ListMetrics,name=<name>}.
+     *
+     * @param name the value of the name key of the object name
+     * @return the object name the metrics are registered under
+     * @throws IllegalStateException if the metrics are already registered or cannot be registered
+     */
+    public synchronized ObjectName registerMBean(String name) {
+        if (objectName != null) {
+            throw new IllegalStateException("Metrics are already registered as " + objectName);
+        }
+        try {
+            ObjectName candidate = new ObjectName(DOMAIN, "type", "ListMetrics");
+            candidate = ObjectName.getInstance(candidate.getCanonicalName() + ",name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+            objectName = candidate;
+            return candidate;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics as " + name, e);
+        }
+    }
+
+    /**
+     * Unregisters these metrics from the platform MBeanServer. Does nothing if they are not registered.
+     *
+     * @throws IllegalStateException if the metrics cannot be unregistered
+     */
+    public synchronized void unregisterMBean() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister metrics " + objectName, e);
+        }
+        objectName = null;
+    }
+
+    @Override
+    public void resized(int oldCapacity, int newCapacity) {
+        if (enabled) {
+            resizes.increment();
+        }
+    }
+
+    @Override
+    public void shifted(int elements) {
+        if (enabled) {
+            elementsShifted.add(elements);
+        }
+    }
+
+    @Override
+    public void traversed(int nodes) {
+        if (enabled) {
+            nodesTraversed.add(nodes);
+        }
+    }
+
+    /**
+     * Returns the start time of an operation, or DISABLED if the metrics are disabled.
+     */
+    long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Counts an operation that is not timed, unless the metrics are disabled.
+     */
+    void record(Operation operation) {
+        if (enabled) {
+            counts[operation.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Records an operation started at the specified time, unless the metrics were disabled when it started.
+     */
+    void stop(Operation operation, long start) {
+        if (start == DISABLED) {
+            return;
+        }
+        long nanos = Math.max(0, System.nanoTime() - start);
+        int ordinal = operation.ordinal();
+        counts[ordinal].increment();
+        totalNanos[ordinal].add(nanos);
+        histograms.incrementAndGet(ordinal * BUCKETS + BUCKETS - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * Returns a comparator that counts its calls in these metrics.
+     */
+    <E> Comparator<E> counting(Comparator<E> comparator) {
+        return (a, b) -> {
+            comparisons.increment();
+            return comparator.compare(a, b);
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package list.impl;
+
+import java.util.Map;
+
+/**
+ * The JMX management interface of {@link ListMetrics}. The maps are keyed by operation name.
+ */
+public interface ListMetricsMXBean {
+
+    /**
+     * Returns whether operations are being recorded.
+     *
+     * @return true if the metrics are enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Starts or stops recording operations.
+     *
+     * @param enabled true to record operations, false to stop
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the number of calls of each operation.
+     *
+     * @return the number of calls by operation name
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Returns the mean latency of each operation in nanoseconds.
+     *
+     * @return the mean latency by operation name
+     */
+    Map<String, Double> getMeanLatencyNanos();
+
+    /**
+     * Returns an upper bound of the 99th percentile latency of each operation in nanoseconds.
+     *
+     * @return the 99th percentile latency by operation name
+     */
+    Map<String, Long> getP99LatencyNanos();
+
+    /**
+     * Returns the number of times a backing array was replaced by a larger one.
+     *
+     * @return the number of resizes
+     */
+    long getResizeCount();
+
+    /**
+     * Returns the number of elements moved within backing arrays by inserts and removals.
+     *
+     * @return the number of elements shifted
+     */
+    long getElementsShifted();
+
+    /**
+     * Returns the number of links followed to reach positions in linked lists.
+     *
+     * @return the number of nodes traversed
+     */
+    long getNodesTraversed();
+
+    /**
+     * Returns the number of comparator calls made by sorts.
+     *
+     * @return the number of comparisons
+     */
+    long getComparisons();
+
+    /**
+     * Resets every counter and histogram to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,31 @@
+package list.impl;
+
+/**
+ * This interface receives the internal events of a list that are invisible from its public operations: resizes of
+ * the backing array, elements shifted by inserts and removals, and nodes walked to reach an index. A list calls its
+ * probe only when one is attached, so a list without a probe pays a single null check per event.
+ */
+interface ListProbe {
+
+    /**
+     * Called after the backing array of a list has been replaced by a larger one.
+     *
+     * @param oldCapacity the length of the old array
+     * @param newCapacity the length of the new array
+     */
+    void resized(int oldCapacity, int newCapacity);
+
+    /**
+     * Called when elements are moved within the backing array to open or close a gap.
+     *
+     * @param elements the number of elements moved
+     */
+    void shifted(int elements);
+
+    /**
+     * Called when nodes are walked to reach a position in a linked list.
+     *
+     * @param nodes the number of links followed
+     */
+    void traversed(int nodes);
+}
@@ -0,0 +1,573 @@
+package list.impl;
+
+import list.CustomList;
+import list.HeapLayout;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This class implements the CustomList interface and keeps its elements outside the Java heap, encoded with a
+ * {@link FixedSizeCodec}. Elements are decoded only when they are read, so the garbage collector sees a handful of
+ * buffers instead of one object per element.
+ * <p>
+ * The records live in segments of {@code segmentCapacity} records each, so the list grows by adding a segment and never
+ * copies the records it already holds. A list created with {@link #open(Path, FixedSizeCodec)} maps its segments from a
+ * file and can be reopened after a restart without reloading; a list created with a constructor uses direct buffers.
+ * Null elements are not supported. Close the list to flush a file-backed list to disk.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class OffHeapCustomList<E> implements CustomList<E>, AutoCloseable {
+    private static final String REQUEST_INDEX = "Requested index";
+    private static final String BUT_SIZE = ", but size: ";
+    private static final int DEFAULT_SEGMENT_CAPACITY = 1 << 16;
+    private static final int MAGIC = 0x434C4F48;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_SIZE_OFFSET = 4;
+    private static final int SEGMENT_CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+
+    private final FixedSizeCodec<E> codec;
+    private final int recordSize;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private ByteBuffer[] segments;
+    private int segmentCount;
+    private int size;
+    private int modCount;
+
+    /**
+     * Constructs an empty list in direct memory with segments of DEFAULT_SEGMENT_CAPACITY records.
+     *
+     * @param codec the codec used to store the elements
+     */
+    public OffHeapCustomList(FixedSizeCodec<E> codec) {
+        this(codec, DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list in direct memory with segments of the specified number of records.
+     *
+     * @param codec           the codec used to store the elements
+     * @param segmentCapacity the number of records per segment, a power of two
+     * @throws IllegalArgumentException if the segment capacity is not a power of two or a segment would exceed 2 GB
+     */
+    public OffHeapCustomList(FixedSizeCodec<E> codec, int segmentCapacity) {
+        this(codec, segmentCapacity, null, null, 0);
+    }
+
+    private OffHeapCustomList(FixedSizeCodec<E> codec, int segmentCapacity, FileChannel channel,
+                              MappedByteBuffer header, int size) {
+        if (Integer.bitCount(segmentCapacity) != 1) {
+            throw new IllegalArgumentException("Segment capacity must be a power of two, but was: " + segmentCapacity);
+        }
+        if ((long) segmentCapacity * codec.size() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment of " + segmentCapacity + " records of " + codec.size()
+                    + " bytes exceeds the maximum buffer size");
+        }
+        this.codec = codec;
+        this.recordSize = codec.size();
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentCapacity);
+        this.segmentMask = segmentCapacity - 1;
+        this.channel = channel;
+        this.header = header;
+        this.segments = new ByteBuffer[4];
+        this.size = size;
+        ensureCapacity(size);
+    }
+
+    /**
+     * Opens the list stored in the specified file, or creates an empty one, with segments of
+     * DEFAULT_SEGMENT_CAPACITY records.
+     *
+     * @param file  the file the list is stored in
+     * @param codec the codec used to store the elements
+     * @param <E>   the type of elements in the list
+     * @return the list stored in the file
+     * @throws UncheckedIOException     if the file cannot be opened or mapped
+     * @throws IllegalArgumentException if the file does not hold a list of records of the codec's size
+     */
+    public static <E> OffHeapCustomList<E> open(Path file, FixedSizeCodec<E> codec) {
+        return open(file, codec, DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * Opens the list stored in the specified file, or creates an empty one with segments of the specified number of
+     * records. An existing file keeps the segment capacity it was created with.
+     *
+     * @param file            the file the list is stored in
+     * @param codec           the codec used to store the elements
+     * @param segmentCapacity the number of records per segment of a new file, a power of two
+     * @param <E>             the type of elements in the list
+     * @return the list stored in the file
+     * @throws UncheckedIOException     if the file cannot be opened or mapped
+     * @throws IllegalArgumentException if the file does not hold a list of records of the codec's size
+     */
+    public static <E> OffHeapCustomList<E> open(Path file, FixedSizeCodec<E> codec, int segmentCapacity) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            boolean existing = channel.size() >= HEADER_SIZE;
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            int size = 0;
+            if (existing) {
+                if (header.getInt(0) != MAGIC || header.getInt(RECORD_SIZE_OFFSET) != codec.size()) {
+                    throw new IllegalArgumentException("File " + file + " does not hold records of " + codec.size() + " bytes");
+                }
+                segmentCapacity = header.getInt(SEGMENT_CAPACITY_OFFSET);
+                size = (int) header.getLong(SIZE_OFFSET);
+            } else {
+                header.putInt(0, MAGIC);
+                header.putInt(RECORD_SIZE_OFFSET, codec.size());
+                header.putInt(SEGMENT_CAPACITY_OFFSET, segmentCapacity);
+                header.putLong(SIZE_OFFSET, 0);
+            }
+            return new OffHeapCustomList<>(codec, segmentCapacity, channel, header, size);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the original failure is more useful to the caller
+            }
+        }
+    }
+
+    /**
+     * Adds the specified element to the end of this list.
+     *
+     * @param element the element to be added to the list
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void add(E element) {
+        Objects.requireNonNull(element);
+        ensureCapacity(size + 1);
+        write(size, element);
+        setSize(size + 1);
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list, moving the following records up by one.
+     *
+     * @param index   the index at which the specified element is to be inserted
+     * @param element the element to be inserted into the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException      if the element is null
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        Objects.requireNonNull(element);
+        ensureCapacity(size + 1);
+        for (int i = size; i > index; i--) {
+            copyRecord(i - 1, i);
+        }
+        write(index, element);
+        setSize(size + 1);
+    }
+
+    /**
+     * Returns the element at the specified position in this list, decoding it from its record.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        return read(index);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   the index of the element to be replaced
+     * @param element the element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException      if the element is null
+     */
+    @Override
+    public E set(int index, E element) {
+        Objects.requireNonNull(element);
+        E oldValue = get(index);
+        write(index, element);
+        return oldValue;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list if it is present.
+     *
+     * @param o the element to be removed from this list, if present
+     * @return true if this list contained the specified element, false otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (read(i).equals(o)) {
+                removeAtIndex(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the element at the specified position in this list, moving the following records down by one.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E remove(int index) {
+        E oldValue = get(index);
+        removeAtIndex(index);
+        return oldValue;
+    }
+
+    /**
+     * Removes all the elements from this list. The segments are kept for reuse.
+     */
+    @Override
+    public void clear() {
+        setSize(0);
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts this list according to the natural order of its elements.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        Comparator<E> naturalOrder = (Comparator<E>) Comparator.naturalOrder();
+        sort(naturalOrder);
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator.
+     * This implementation sorts an {@code int[]} of record positions with a stable merge sort, decoding the records
+     * it compares, and then permutes the records in place off the heap by following the cycles of the permutation.
+     * The heap holds two ints per element during the sort instead of a copy of the elements.
+     *
+     * @param comparator the comparator to determine the order of the list
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        if (size > 1) {
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            int[] buffer = new int[size];
+            for (int width = 1; width < size; width *= 2) {
+                for (int left = 0; left < size; left += 2 * width) {
+                    int right = Math.min(left + width, size);
+                    int end = Math.min(left + 2 * width, size);
+                    mergeOrder(order, buffer, left, right, end, comparator);
+                }
+                int[] temp = order;
+                order = buffer;
+                buffer = temp;
+            }
+            permute(order);
+        }
+        modCount++;
+    }
+
+    private void mergeOrder(int[] input, int[] output, int left, int right, int end, Comparator<? super E> comparator) {
+        int leftIndex = left;
+        int rightIndex = right;
+        E leftElement = leftIndex < right ? read(input[leftIndex]) : null;
+        E rightElement = rightIndex < end ? read(input[rightIndex]) : null;
+        for (int currentInd = left; currentInd < end; currentInd++) {
+            if (leftIndex < right && (rightIndex >= end || comparator.compare(leftElement, rightElement) <= 0)) {
+                output[currentInd] = input[leftIndex++];
+                leftElement = leftIndex < right ? read(input[leftIndex]) : null;
+            } else {
+                output[currentInd] = input[rightIndex++];
+                rightElement = rightIndex < end ? read(input[rightIndex]) : null;
+            }
+        }
+    }
+
+    /**
+     * Moves every record to its sorted position; order[i] is the current position of the record that belongs at i.
+     * Each cycle of the permutation is rotated through a single record-sized temporary.
+     *
+     * @param order the sorted record positions, overwritten by this method
+     */
+    private void permute(int[] order) {
+        byte[] temp = new byte[recordSize];
+        for (int start = 0; start < size; start++) {
+            if (order[start] == start) {
+                continue;
+            }
+            segment(start).get(offset(start), temp);
+            int target = start;
+            while (true) {
+                int source = order[target];
+                order[target] = target;
+                if (source == start) {
+                    segment(target).put(offset(target), temp);
+                    break;
+                }
+                copyRecord(source, target);
+                target = source;
+            }
+        }
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        OffHeapCustomList<?> that = (OffHeapCustomList<?>) o;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!read(i).equals(that.read(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + read(i).hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Returns an estimate of the heap memory this list holds, in bytes: the list object and its array of segments.
+     * The records live in the mapped file, outside the heap, and are not counted, nor are the buffer objects the
+     * JDK keeps for the mappings.
+     *
+     * @return the estimated size of this list on the heap in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return HeapLayout.objectSize(4, 6) + HeapLayout.referenceArraySize(segments.length);
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in a proper sequence, decoding every record.
+     *
+     * @return an array containing all the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = read(i);
+        }
+        return array;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list, which decodes each record as it is reached.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int currentIndex = 0;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (currentIndex >= size) {
+                    throw new NoSuchElementException();
+                }
+                return read(currentIndex++);
+            }
+        };
+    }
+
+    /**
+     * Returns a string representation of the list.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < size; i++) {
+            sb.append(read(i));
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * Writes the mapped segments of a file-backed list to the storage device. Does nothing for a list in direct memory.
+     */
+    public void force() {
+        if (channel == null) {
+            return;
+        }
+        header.force();
+        for (int i = 0; i < segmentCount; i++) {
+            ((MappedByteBuffer) segments[i]).force();
+        }
+    }
+
+    /**
+     * Flushes a file-backed list and closes its file, or drops the direct buffers of a list in direct memory.
+     * The list must not be used afterwards.
+     *
+     * @throws UncheckedIOException if the file cannot be closed
+     */
+    @Override
+    public void close() {
+        force();
+        segments = new ByteBuffer[0];
+        segmentCount = 0;
+        size = 0;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void removeAtIndex(int index) {
+        for (int i = index + 1; i < size; i++) {
+            copyRecord(i, i - 1);
+        }
+        setSize(size - 1);
+    }
+
+    /**
+     * Updates the size, in the header of the file as well for a file-backed list, and counts the modification.
+     *
+     * @param newSize the new size of the list
+     */
+    private void setSize(int newSize) {
+        size = newSize;
+        if (header != null) {
+            header.putLong(SIZE_OFFSET, newSize);
+        }
+        modCount++;
+    }
+
+    private ByteBuffer segment(int index) {
+        return segments[index >>> segmentShift];
+    }
+
+    private int offset(int index) {
+        return (index & segmentMask) * recordSize;
+    }
+
+    private E read(int index) {
+        return codec.decode(segment(index), offset(index));
+    }
+
+    private void write(int index, E element) {
+        codec.encode(element, segment(index), offset(index));
+    }
+
+    private void copyRecord(int from, int to) {
+        segment(to).put(offset(to), segment(from), offset(from), recordSize);
+    }
+
+    /**
+     * Adds segments until the list can hold the specified number of records. Existing records are never moved.
+     *
+     * @param minCapacity the number of records the list must hold
+     */
+    private void ensureCapacity(int minCapacity) {
+        int segmentBytes = (segmentMask + 1) * recordSize;
+        while ((long) segmentCount << segmentShift < minCapacity) {
+            if (segmentCount == segments.length) {
+                segments = Arrays.copyOf(segments, segments.length * 2);
+            }
+            if (channel == null) {
+                segments[segmentCount] = ByteBuffer.allocateDirect(segmentBytes);
+            } else {
+                try {
+                    long position = HEADER_SIZE + (long) segmentCount * segmentBytes;
+                    segments[segmentCount] = channel.map(FileChannel.MapMode.READ_WRITE, position, segmentBytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            segmentCount++;
+        }
+    }
+}
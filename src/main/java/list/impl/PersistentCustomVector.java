@@ -0,0 +1,497 @@
+package list.impl;
+
+import list.CustomList;
+import list.HeapLayout;
+import list.ListView;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This class implements the CustomList interface as a persistent vector: a 32-way trie whose versions share
+ * structure, like the vectors of Clojure and Scala.
+ * <p>
+ * A vector never changes. {@link #plus(Object)} and {@link #with(int, Object)} return a new version in
+ * O(log32 n) and leave this one as it was; the new version copies only the path from the root to the changed leaf
+ * and shares every other node with the old one. The last, possibly partial, leaf is kept outside the trie as the tail,
+ * so appending usually copies only the tail. Reading an element walks at most log32 n levels, which is 4 levels for
+ * a million elements. Because versions are immutable they can be shared between threads freely, and taking a snapshot
+ * is just keeping a reference. The mutators inherited from CustomList, which return nothing, throw
+ * UnsupportedOperationException.
+ *
+ * @param <E> the type of elements in this vector
+ */
+public final class PersistentCustomVector<E> implements CustomList<E> {
+    private static final String REQUEST_INDEX = "Requested index";
+    private static final String BUT_SIZE = ", but size: ";
+    private static final String PERSISTENT = "This vector is persistent; use plus or with to get a new version";
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final PersistentCustomVector<?> EMPTY =
+            new PersistentCustomVector<>(0, BITS, new Object[WIDTH], new Object[0]);
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentCustomVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @param <E> the type of elements
+     * @return the empty vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentCustomVector<E> empty() {
+        return (PersistentCustomVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector with the elements of the specified list, in order. The trie is built bottom-up in O(n)
+     * instead of appending the elements one by one.
+     *
+     * @param list the list whose elements are to be placed in the vector
+     * @param <E>  the type of elements
+     * @return a vector with the elements of the list
+     */
+    public static <E> PersistentCustomVector<E> of(CustomList<? extends E> list) {
+        Object[] array = list.toArray();
+        int count = array.length;
+        if (count == 0) {
+            return empty();
+        }
+        int tailOffset = ((count - 1) >>> BITS) << BITS;
+        Object[] level = new Object[tailOffset >>> BITS];
+        for (int i = 0; i < level.length; i++) {
+            level[i] = Arrays.copyOfRange(array, i << BITS, (i + 1) << BITS);
+        }
+        int shift = BITS;
+        while (level.length > WIDTH) {
+            Object[] parents = new Object[(level.length + MASK) >>> BITS];
+            for (int i = 0; i < parents.length; i++) {
+                Object[] node = new Object[WIDTH];
+                System.arraycopy(level, i << BITS, node, 0, Math.min(WIDTH, level.length - (i << BITS)));
+                parents[i] = node;
+            }
+            level = parents;
+            shift += BITS;
+        }
+        Object[] root = new Object[WIDTH];
+        System.arraycopy(level, 0, root, 0, level.length);
+        return new PersistentCustomVector<>(count, shift, root, Arrays.copyOfRange(array, tailOffset, count));
+    }
+
+    /**
+     * Returns a new version of this vector with the specified element appended. This vector is not changed.
+     *
+     * @param element the element to append
+     * @return a vector with the elements of this one followed by the element
+     */
+    public PersistentCustomVector<E> plus(E element) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentCustomVector<>(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentCustomVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * Returns a new version of this vector with the element at the specified position replaced. This vector is not
+     * changed.
+     *
+     * @param index   the index of the element to replace
+     * @param element the element to be stored at the specified position
+     * @return a vector equal to this one except at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersistentCustomVector<E> with(int index, E element) {
+        checkElementIndex(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentCustomVector<>(size, shift, root, newTail);
+        }
+        return new PersistentCustomVector<>(size, shift, assoc(shift, root, index, element), tail);
+    }
+
+    /**
+     * Not supported: use {@link #plus(Object)}, which returns a new version.
+     *
+     * @param element ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(E element) {
+        throw new UnsupportedOperationException(PERSISTENT);
+    }
+
+    /**
+     * Not supported: this vector is persistent.
+     *
+     * @param index   ignored
+     * @param element ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException(PERSISTENT);
+    }
+
+    /**
+     * Not supported: this vector is persistent.
+     *
+     * @param index ignored
+     * @param array ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addAll(int index, E[] array) {
+        throw new UnsupportedOperationException(PERSISTENT);
+    }
+
+    /**
+     * Returns the element at the specified position in this vector, walking at most log32 n levels of the trie.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position in this vector
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkElementIndex(index);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Not supported: use {@link #with(int, Object)}, which returns a new version.
+     *
+     * @param index   ignored
+     * @param element ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException(PERSISTENT);
+    }
+
+    /**
+     * Not supported: this vector is persistent.
+     *
+     * @param o ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException(PERSISTENT);
+    }
+
+    /**
+     * Not supported: this vector is persistent.
+     *
+     * @param index ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException(PERSISTENT);
+    }
+
+    /**
+     * Not supported: use {@link #empty()}.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException(PERSISTENT);
+    }
+
+    /**
+     * Returns the number of elements in this vector.
+     *
+     * @return the number of elements in this vector
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Not supported: this vector is persistent.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void sort() {
+        throw new UnsupportedOperationException(PERSISTENT);
+    }
+
+    /**
+     * Not supported: this vector is persistent.
+     *
+     * @param comparator ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException(PERSISTENT);
+    }
+
+    /**
+     * Compares the specified object with this vector for equality.
+     *
+     * @param o the object to be compared for equality with this vector
+     * @return true if the specified object is equal to this vector, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PersistentCustomVector<?> other = (PersistentCustomVector<?>) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i += WIDTH) {
+            Object[] leaf = leafFor(i);
+            Object[] otherLeaf = other.leafFor(i);
+            int length = Math.min(WIDTH, size - i);
+            if (leaf != otherLeaf && !Arrays.equals(leaf, 0, length, otherLeaf, 0, length)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i += WIDTH) {
+            Object[] leaf = leafFor(i);
+            int length = Math.min(WIDTH, size - i);
+            for (int j = 0; j < length; j++) {
+                hash = 31 * hash + Objects.hashCode(leaf[j]);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns an estimate of the heap memory reachable from this version, in bytes: the vector object, every node
+     * of its trie and its tail. Versions derived from one another share most of their tries, so the footprints
+     * of several versions must not be added up.
+     *
+     * @return the estimated size of this version in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return HeapLayout.objectSize(2, 2) + trieFootprint(root, shift) + HeapLayout.referenceArraySize(tail.length);
+    }
+
+    /**
+     * Returns the size of the specified node and of the nodes below it. Nodes above level 0 hold child nodes;
+     * nodes at level 0 are leaves and hold elements.
+     */
+    private static long trieFootprint(Object[] node, int level) {
+        long footprint = HeapLayout.referenceArraySize(node.length);
+        if (level > 0) {
+            for (Object child : node) {
+                if (child != null) {
+                    footprint += trieFootprint((Object[]) child, level - BITS);
+                }
+            }
+        }
+        return footprint;
+    }
+
+    /**
+     * Returns an array containing all the elements in this vector in a proper sequence, copied leaf by leaf.
+     *
+     * @return an array containing all the elements in this vector
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i += WIDTH) {
+            System.arraycopy(leafFor(i), 0, array, i, Math.min(WIDTH, size - i));
+        }
+        return array;
+    }
+
+    /**
+     * Returns an iterator over the elements in this vector that walks the trie once per leaf. The iterator does not
+     * support remove.
+     *
+     * @return an iterator over the elements in this vector
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int cursor = 0;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((cursor & MASK) == 0) {
+                    leaf = leafFor(cursor);
+                }
+                return (E) leaf[cursor++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Returns a lazy view over the elements of this vector whose fused stages run in a single loop over the leaves.
+     *
+     * @return a lazy view over the elements of this vector
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListView<E> view() {
+        return ListView.of(sink -> {
+            for (int i = 0; i < size; i += WIDTH) {
+                Object[] leaf = leafFor(i);
+                int length = Math.min(WIDTH, size - i);
+                for (int j = 0; j < length; j++) {
+                    if (!sink.accept((E) leaf[j])) {
+                        return;
+                    }
+                }
+            }
+        }, this::size);
+    }
+
+    /**
+     * Returns a string representation of the vector.
+     *
+     * @return a string representation of the vector
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (E element : this) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(element);
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+    }
+
+    /**
+     * Returns the index of the first element of the tail.
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Returns the leaf array holding the element at the specified index, which is the tail for the last elements.
+     */
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Returns a copy of the parent node at the specified level with the full tail added as its last leaf, copying
+     * only the nodes on the path to it.
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int childIndex = ((size - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        Object[] inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[childIndex];
+            inserted = child != null ? pushTail(level - BITS, child, tailNode) : newPath(level - BITS, tailNode);
+        }
+        copy[childIndex] = inserted;
+        return copy;
+    }
+
+    /**
+     * Returns a chain of new single-child nodes down to the specified leaf, for a subtree that does not exist yet.
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    /**
+     * Returns a copy of the node at the specified level with the element at the index replaced, copying only the
+     * nodes on the path to it.
+     */
+    private static Object[] assoc(int level, Object[] node, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int childIndex = (index >>> level) & MASK;
+            copy[childIndex] = assoc(level - BITS, (Object[]) node[childIndex], index, element);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,488 @@
+package list.impl;
+
+import list.CustomList;
+import list.HeapLayout;
+import list.ListView;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * This class implements the CustomList interface as a list that keeps its elements sorted by a comparator. It wraps a
+ * CustomArrayList that holds the elements in order.
+ * <p>
+ * {@link #add(Object)} finds the insertion point with a binary search and shifts the tail with a single arraycopy, so
+ * the order holds after every change; an element is inserted after the elements equal to it, so equal elements keep
+ * their insertion order. Lookups, {@link #indexOf(Object)} and {@link #subRange(Object, Object)} are binary searches.
+ * The operations that place an element at a position of the caller's choosing, such as {@link #add(int, Object)} and
+ * {@link #set(int, Object)}, throw UnsupportedOperationException. The comparator must be consistent for all the
+ * elements; searching for an object that is not an E may throw ClassCastException.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class SortedCustomArrayList<E> implements CustomList<E> {
+    private static final String POSITIONAL = "This list is sorted; elements can only be added with add or addAll";
+    private final CustomArrayList<E> list;
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Constructs an empty list sorted by the specified comparator.
+     *
+     * @param comparator the comparator that determines the order of the elements
+     */
+    public SortedCustomArrayList(Comparator<? super E> comparator) {
+        this(new CustomArrayList<>(), comparator);
+    }
+
+    private SortedCustomArrayList(CustomArrayList<E> list, Comparator<? super E> comparator) {
+        this.list = list;
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    /**
+     * Returns a sorted list with the elements of the specified list, sorted once in O(n log n).
+     *
+     * @param list       the list whose elements are to be placed in the sorted list
+     * @param comparator the comparator that determines the order of the elements
+     * @param <E>        the type of elements
+     * @return a sorted list with the elements of the list
+     */
+    public static <E> SortedCustomArrayList<E> of(CustomList<? extends E> list, Comparator<? super E> comparator) {
+        Object[] array = list.toArray();
+        CustomArrayList<E> sorted = new CustomArrayList<>(array, array.length);
+        sorted.sort(comparator);
+        return new SortedCustomArrayList<>(sorted, comparator);
+    }
+
+    /**
+     * Returns the comparator that determines the order of the elements.
+     *
+     * @return the comparator of this list
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Inserts the specified element after the elements that are not greater than it, in O(log n) comparisons and a
+     * single arraycopy.
+     *
+     * @param element the element to be added
+     */
+    @Override
+    public void add(E element) {
+        list.add(CustomArrayList.upperBound(list.elementData(), list.size(), element, comparator), element);
+    }
+
+    /**
+     * Not supported: the position of an element is determined by the comparator.
+     *
+     * @param index   ignored
+     * @param element ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException(POSITIONAL);
+    }
+
+    /**
+     * Adds all the elements of the specified list, sorting them and merging them with this list in one linear pass.
+     *
+     * @param other the list whose elements are to be added
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(CustomList<? extends E> other) {
+        return mergeIn(other.toArray());
+    }
+
+    /**
+     * Adds all the elements of the specified collection, sorting them and merging them with this list in one linear
+     * pass.
+     *
+     * @param collection the collection whose elements are to be added
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        return mergeIn(collection.toArray());
+    }
+
+    /**
+     * Adds all the elements of the specified array, sorting them and merging them with this list in one linear pass.
+     *
+     * @param array the array whose elements are to be added
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(E[] array) {
+        return mergeIn(array.clone());
+    }
+
+    /**
+     * Not supported: the position of an element is determined by the comparator.
+     *
+     * @param index ignored
+     * @param array ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addAll(int index, E[] array) {
+        throw new UnsupportedOperationException(POSITIONAL);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E get(int index) {
+        return list.get(index);
+    }
+
+    /**
+     * Not supported: the position of an element is determined by the comparator.
+     *
+     * @param index   ignored
+     * @param element ignored
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException(POSITIONAL);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element, found with a binary search.
+     *
+     * @param o the element to be removed from this list, if present
+     * @return true if this list contained the specified element, false otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        int i = indexOf(o);
+        if (i < 0) {
+            return false;
+        }
+        list.remove(i);
+        return true;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E remove(int index) {
+        return list.remove(index);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element, found with a binary search for the elements
+     * equal to it by the comparator, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     * @throws ClassCastException if the element cannot be compared with the elements of this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int indexOf(Object o) {
+        Object[] elements = list.elementData();
+        int size = list.size();
+        E key = (E) o;
+        for (int i = CustomArrayList.lowerBound(elements, size, key, comparator);
+             i < size && comparator.compare((E) elements[i], key) == 0; i++) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element, found with a binary search for the elements
+     * equal to it by the comparator, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     * @throws ClassCastException if the element cannot be compared with the elements of this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int lastIndexOf(Object o) {
+        Object[] elements = list.elementData();
+        E key = (E) o;
+        for (int i = CustomArrayList.upperBound(elements, list.size(), key, comparator) - 1;
+             i >= 0 && comparator.compare((E) elements[i], key) == 0; i--) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Searches this list for the specified key with a binary search by the comparator of this list. If the list holds
+     * several elements equal to the key, the index of the first of them is returned.
+     *
+     * @param key the element to search for
+     * @return the index of the first element equal to the key, or (-(insertion point) - 1) if there is none
+     */
+    public int binarySearch(E key) {
+        return list.binarySearch(key, comparator);
+    }
+
+    /**
+     * Searches this list for the specified key with a binary search by the specified comparator, by which this list
+     * must also be sorted.
+     *
+     * @param key        the element to search for
+     * @param comparator the comparator by which this list is sorted
+     * @return the index of the first element equal to the key, or (-(insertion point) - 1) if there is none
+     */
+    @Override
+    public int binarySearch(E key, Comparator<? super E> comparator) {
+        return list.binarySearch(key, comparator);
+    }
+
+    /**
+     * Returns a new sorted list with the elements of this list that are not less than from and less than to, found
+     * with two binary searches and copied with a single arraycopy.
+     *
+     * @param from the lower bound of the range, inclusive
+     * @param to   the upper bound of the range, exclusive
+     * @return a new sorted list with the elements in the range
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    public SortedCustomArrayList<E> subRange(E from, E to) {
+        if (comparator.compare(from, to) > 0) {
+            throw new IllegalArgumentException("Range start " + from + " is greater than range end " + to);
+        }
+        Object[] elements = list.elementData();
+        int size = list.size();
+        int low = CustomArrayList.lowerBound(elements, size, from, comparator);
+        int high = CustomArrayList.lowerBound(elements, size, to, comparator);
+        return new SortedCustomArrayList<>(new CustomArrayList<>(Arrays.copyOfRange(elements, low, high), high - low),
+                comparator);
+    }
+
+    /**
+     * Returns a new sorted list with the elements of this list and the specified list, merged in one linear pass.
+     * Of two equal elements, the one from this list comes first.
+     *
+     * @param other the sorted list to merge with this one, which must have an equal comparator
+     * @return a new sorted list with the elements of both lists
+     * @throws IllegalArgumentException if the lists are sorted by comparators that are not equal
+     */
+    public SortedCustomArrayList<E> merge(SortedCustomArrayList<? extends E> other) {
+        if (!comparator.equals(other.comparator)) {
+            throw new IllegalArgumentException("Cannot merge lists sorted by different comparators");
+        }
+        Object[] merged = merge(list.elementData(), list.size(), other.list.elementData(), other.list.size());
+        return new SortedCustomArrayList<>(new CustomArrayList<>(merged, merged.length), comparator);
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive.
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        list.removeRange(fromIndex, toIndex);
+    }
+
+    /**
+     * Removes all the elements of this list that satisfy the given predicate, keeping the rest in order.
+     *
+     * @param filter a predicate which returns true for elements to be removed
+     * @return true if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return list.removeIf(filter);
+    }
+
+    /**
+     * Removes all the elements from this list.
+     */
+    @Override
+    public void clear() {
+        list.clear();
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Does nothing if the natural order is the order of this list.
+     *
+     * @throws UnsupportedOperationException if this list is sorted by another comparator
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        sort((Comparator<? super E>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Does nothing if the specified comparator is the comparator of this list.
+     *
+     * @param comparator the comparator to determine the order of the elements
+     * @throws UnsupportedOperationException if the comparator is not equal to the comparator of this list
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        if (!this.comparator.equals(comparator)) {
+            throw new UnsupportedOperationException("This list is sorted by its own comparator");
+        }
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return list.equals(((SortedCustomArrayList<?>) o).list);
+    }
+
+    /**
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        return list.hashCode();
+    }
+
+    /**
+     * Returns an estimate of the heap memory this list holds, in bytes: this wrapper and the array list it keeps
+     * sorted. The comparator is not counted, as it is usually shared.
+     *
+     * @return the estimated size of this list in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return HeapLayout.objectSize(2, 0) + list.memoryFootprint();
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in order.
+     *
+     * @return an array containing all the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in order. The iterator supports remove.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return list.iterator();
+    }
+
+    /**
+     * Performs the given action for each element of the list, in order.
+     *
+     * @param action the action to be performed on the elements
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        list.forEach(action);
+    }
+
+    /**
+     * Returns a lazy view over the elements of this list whose fused stages run in a single loop over the array.
+     *
+     * @return a lazy view over the elements of this list
+     */
+    @Override
+    public ListView<E> view() {
+        return list.view();
+    }
+
+    /**
+     * Creates a late-binding and fail-fast Spliterator over the elements in this list.
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return list.spliterator();
+    }
+
+    /**
+     * Returns a string representation of the list.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        return list.toString();
+    }
+
+    private boolean mergeIn(Object[] added) {
+        if (added.length == 0) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        Comparator<Object> order = (Comparator<Object>) comparator;
+        Arrays.sort(added, order);
+        list.replaceElements(merge(list.elementData(), list.size(), added, added.length), list.size() + added.length);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] merge(Object[] left, int leftSize, Object[] right, int rightSize) {
+        Object[] merged = new Object[leftSize + rightSize];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < leftSize && j < rightSize) {
+            merged[k++] = comparator.compare((E) right[j], (E) left[i]) < 0 ? right[j++] : left[i++];
+        }
+        System.arraycopy(left, i, merged, k, leftSize - i);
+        System.arraycopy(right, j, merged, k + leftSize - i, rightSize - j);
+        return merged;
+    }
+}
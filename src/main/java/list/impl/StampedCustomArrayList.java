@@ -0,0 +1,534 @@
+package list.impl;
+
+import list.CustomList;
+import list.HeapLayout;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * This class implements the CustomList interface as a thread-safe wrapper around a {@link CustomArrayList} guarded by a
+ * {@link StampedLock}. Mutations take the write lock. {@code get}, {@code size} and the iterator first read without
+ * locking and validate the stamp afterwards; only when a write overlapped the read do they retry under the read lock,
+ * so readers do not block each other or writers in the common case.
+ * <p>
+ * Every method is atomic on its own. The iterator is weakly consistent: it never throws
+ * ConcurrentModificationException and reflects the list as it is at each step.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class StampedCustomArrayList<E> implements CustomList<E> {
+    private static final String REQUEST_INDEX = "Requested index";
+    private static final String BUT_SIZE = ", but size: ";
+    private static final Object NONE = new Object();
+    private final StampedLock lock = new StampedLock();
+    private final CustomArrayList<E> list;
+
+    /**
+     * Constructs an empty list.
+     */
+    public StampedCustomArrayList() {
+        this.list = new CustomArrayList<>();
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public StampedCustomArrayList(int initialCapacity) {
+        this.list = new CustomArrayList<>(initialCapacity);
+    }
+
+    /**
+     * Adds the specified element to the end of this list.
+     *
+     * @param element the element to be added to the list
+     */
+    @Override
+    public void add(E element) {
+        long stamp = lock.writeLock();
+        try {
+            list.add(element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     *
+     * @param index   the index at which the specified element is to be inserted
+     * @param element the element to be inserted into the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, E element) {
+        long stamp = lock.writeLock();
+        try {
+            list.add(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds all the elements of the specified list to the end of this list, atomically. The other list is copied
+     * before the lock is taken.
+     *
+     * @param other the list whose elements are to be added
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(CustomList<? extends E> other) {
+        return addAll((E[]) other.toArray());
+    }
+
+    /**
+     * Adds all the elements of the specified collection to the end of this list, atomically.
+     *
+     * @param collection the collection whose elements are to be added
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(Collection<? extends E> collection) {
+        return addAll((E[]) collection.toArray());
+    }
+
+    /**
+     * Adds all the elements of the specified array to the end of this list, atomically: the end is read under the
+     * write lock, so concurrent appends never interleave with the batch.
+     *
+     * @param array the array whose elements are to be added
+     * @return true if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(E[] array) {
+        long stamp = lock.writeLock();
+        try {
+            return list.addAll(array);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts all the elements of the specified array at the specified position in this list, atomically.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param array the array whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public boolean addAll(int index, E[] array) {
+        long stamp = lock.writeLock();
+        try {
+            return list.addAll(index, array);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts all the elements of the specified list at the specified position in this list, atomically.
+     * The other list is copied before the lock is taken.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param other the list whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, CustomList<? extends E> other) {
+        return addAll(index, (E[]) other.toArray());
+    }
+
+    /**
+     * Inserts all the elements of the specified collection at the specified position in this list, atomically.
+     *
+     * @param index      the index at which the first element is to be inserted
+     * @param collection the collection whose elements are to be inserted
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        return addAll(index, (E[]) collection.toArray());
+    }
+
+    /**
+     * Returns the element at the specified position in this list, reading optimistically without a lock.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        Object value = getOrNone(index);
+        if (value == NONE) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size());
+        }
+        return (E) value;
+    }
+
+    /**
+     * Reads the element at the specified position, or NONE if the index is out of range. The optimistic read may
+     * observe the wrapped list in the middle of a write, including an exception from a stale array, so its result is
+     * used only if the stamp is still valid afterwards.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position, or NONE
+     */
+    private Object getOrNone(int index) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Object value = NONE;
+            try {
+                if (index >= 0 && index < list.size()) {
+                    value = list.get(index);
+                }
+            } catch (IndexOutOfBoundsException ignored) {
+                // a concurrent write moved the array; the validation below fails
+            }
+            if (lock.validate(stamp)) {
+                return value;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return (index >= 0 && index < list.size()) ? list.get(index) : NONE;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   the index of the element to be replaced
+     * @param element the element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E set(int index, E element) {
+        long stamp = lock.writeLock();
+        try {
+            return list.set(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list if it is present.
+     *
+     * @param o the element to be removed from this list, if present
+     * @return true if this list contained the specified element, false otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        long stamp = lock.writeLock();
+        try {
+            return list.remove(o);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns true if this list contains the specified element. Searches under the read lock.
+     *
+     * @param o the element whose presence is to be tested
+     * @return true if this list contains the specified element, false otherwise
+     */
+    @Override
+    public boolean contains(Object o) {
+        long stamp = lock.readLock();
+        try {
+            return list.contains(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if it is not present.
+     * Searches under the read lock.
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int indexOf(Object o) {
+        long stamp = lock.readLock();
+        try {
+            return list.indexOf(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if it is not present.
+     * Searches under the read lock.
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        long stamp = lock.readLock();
+        try {
+            return list.lastIndexOf(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            return list.remove(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive, atomically.
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range, or fromIndex > toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+        try {
+            list.removeRange(fromIndex, toIndex);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all the elements of this list that satisfy the given predicate, atomically.
+     * The predicate runs under the write lock, so it must not access this list.
+     *
+     * @param filter a predicate which returns true for the elements to be removed
+     * @return true if any elements were removed, false otherwise
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        long stamp = lock.writeLock();
+        try {
+            return list.removeIf(filter);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all the elements from this list.
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            list.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list, reading optimistically without a lock.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = list.size();
+        if (lock.validate(stamp)) {
+            return currentSize;
+        }
+        stamp = lock.readLock();
+        try {
+            return list.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Sorts this list according to the natural order of its elements.
+     */
+    @Override
+    public void sort() {
+        long stamp = lock.writeLock();
+        try {
+            list.sort();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator. The sort is stable.
+     *
+     * @param comparator the comparator to determine the order of the list
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        long stamp = lock.writeLock();
+        try {
+            list.sort(comparator);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Compares the specified object with this list for equality. The other list is copied first, so the two locks
+     * are never held together.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Object[] other = ((StampedCustomArrayList<?>) o).toArray();
+        return Arrays.equals(toArray(), other);
+    }
+
+    /**
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Returns an estimate of the heap memory this list holds, in bytes: this wrapper and the list it guards. The
+     * fields of the StampedLock are internal to the JDK and are not counted.
+     *
+     * @return the estimated size of this list in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        long stamp = lock.readLock();
+        try {
+            return HeapLayout.objectSize(2, 0) + list.memoryFootprint();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in a proper sequence.
+     *
+     * @return an array containing all the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            return list.toArray();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements in this list. Each step reads optimistically.
+     * The iterator does not support remove.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int cursor = 0;
+            private Object nextValue = NONE;
+
+            @Override
+            public boolean hasNext() {
+                if (nextValue == NONE) {
+                    nextValue = getOrNone(cursor);
+                }
+                return nextValue != NONE;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object value = nextValue;
+                nextValue = NONE;
+                cursor++;
+                return (E) value;
+            }
+        };
+    }
+
+    /**
+     * Creates a weakly consistent Spliterator over the elements in this list.
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Returns a string representation of the list.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        long stamp = lock.readLock();
+        try {
+            return list.toString();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
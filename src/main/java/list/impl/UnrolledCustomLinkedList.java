@@ -0,0 +1,720 @@
+package list.impl;
+
+import list.CustomList;
+import list.HeapLayout;
+import list.ListView;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * This class implements the CustomList interface as an unrolled doubly-linked list: every node holds up to
+ * {@code nodeCapacity} elements in a small array instead of a single element.
+ * <p>
+ * Traversals such as iteration, {@code toArray}, {@code equals} and {@code toString} read the elements of a node
+ * sequentially and follow one link per node rather than per element, so they miss the cache far less often than
+ * {@link CustomLinkedList}. Indexed access walks node by node from whichever end is closer. Inserting into a full
+ * node splits it in two; a node that falls below a quarter of its capacity is merged with a neighbour if the two
+ * fit in three quarters of a node. Capacities of 16 to 64 elements balance the cost of shifting inside a node against
+ * the number of links.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class UnrolledCustomLinkedList<E> implements CustomList<E> {
+    private static final String REQUEST_INDEX = "Requested index";
+    private static final String BUT_SIZE = ", but size: ";
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+    private static final int MIN_NODE_CAPACITY = 4;
+    private final int nodeCapacity;
+    private Node head;
+    private Node tail;
+    private int size;
+    private int modCount;
+    private int nodeStart;
+
+    /**
+     * This class represents a node of the list, holding up to nodeCapacity elements in order.
+     */
+    private static final class Node {
+        final Object[] items;
+        int count;
+        Node prev;
+        Node next;
+
+        Node(int capacity) {
+            this.items = new Object[capacity];
+        }
+    }
+
+    /**
+     * Constructs an empty list with nodes of DEFAULT_NODE_CAPACITY elements.
+     */
+    public UnrolledCustomLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with nodes of the specified capacity.
+     *
+     * @param nodeCapacity the maximum number of elements in a node
+     * @throws IllegalArgumentException if the node capacity is less than MIN_NODE_CAPACITY
+     */
+    public UnrolledCustomLinkedList(int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Node capacity must be at least " + MIN_NODE_CAPACITY
+                    + ", but was: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Adds the specified element to the end of this list.
+     *
+     * @param element the element to be added to the list
+     */
+    @Override
+    public void add(E element) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(tail, new Node(nodeCapacity));
+        }
+        tail.items[tail.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list. A full node is split in two first.
+     *
+     * @param index   the index at which the specified element is to be inserted
+     * @param element the element to be inserted into the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+        if (index == size) {
+            add(element);
+            return;
+        }
+        Node node = node(index);
+        int position = index - nodeStart;
+        if (node.count == nodeCapacity) {
+            Node upper = split(node);
+            if (position >= node.count) {
+                position -= node.count;
+                node = upper;
+            }
+        }
+        System.arraycopy(node.items, position, node.items, position + 1, node.count - position);
+        node.items[position] = element;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkElementIndex(index);
+        Node node = node(index);
+        return (E) node.items[index - nodeStart];
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   the index of the element to be replaced
+     * @param element the element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        Node node = node(index);
+        E oldValue = (E) node.items[index - nodeStart];
+        node.items[index - nodeStart] = element;
+        return oldValue;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list if it is present.
+     *
+     * @param o the element to be removed from this list, if present
+     * @return true if this list contained the specified element, false otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(o, node.items[i])) {
+                    removeAt(node, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        Node node = node(index);
+        int position = index - nodeStart;
+        E oldValue = (E) node.items[position];
+        removeAt(node, position);
+        return oldValue;
+    }
+
+    /**
+     * Removes all the elements of this list that satisfy the given predicate, in one pass with the list's iterator,
+     * so every removal only shifts elements inside one node.
+     *
+     * @param filter a predicate which returns true for the elements to be removed
+     * @return true if any elements were removed, false otherwise
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        Iterator<E> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the elements from this list. The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int indexOf(Object o) {
+        int start = 0;
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(o, node.items[i])) {
+                    return start + i;
+                }
+            }
+            start += node.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if it is not present.
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        int end = size;
+        for (Node node = tail; node != null; node = node.prev) {
+            end -= node.count;
+            for (int i = node.count - 1; i >= 0; i--) {
+                if (Objects.equals(o, node.items[i])) {
+                    return end + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts this list according to the natural order of its elements.
+     * This implementation uses a node-wise merge sort to achieve stable sorting.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        Comparator<E> naturalOrder = (Comparator<E>) Comparator.naturalOrder();
+        sort(naturalOrder);
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator. The sort is stable.
+     * <p>
+     * Every node is sorted on its own first, and then runs of nodes are merged pairwise, bottom-up. A merge writes
+     * into nodes that are filled completely, reusing the input nodes as soon as they are consumed, so the sort needs
+     * only a couple of extra nodes and leaves the list compacted.
+     *
+     * @param comparator the comparator to determine the order of the list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        if (size > 1) {
+            Comparator<Object> cmp = (Comparator<Object>) comparator;
+            int nodeCount = 0;
+            for (Node node = head; node != null; node = node.next) {
+                nodeCount++;
+            }
+            Node[] runs = new Node[nodeCount];
+            int i = 0;
+            for (Node node = head; node != null; ) {
+                Node next = node.next;
+                Arrays.sort(node.items, 0, node.count, cmp);
+                node.prev = null;
+                node.next = null;
+                runs[i++] = node;
+                node = next;
+            }
+            for (int width = nodeCount; width > 1; width = (width + 1) / 2) {
+                for (int j = 0; j < width / 2; j++) {
+                    runs[j] = merge(runs[2 * j], runs[2 * j + 1], cmp);
+                }
+                if ((width & 1) == 1) {
+                    runs[width / 2] = runs[width - 1];
+                }
+            }
+            head = runs[0];
+            Node previous = null;
+            for (Node node = head; node != null; node = node.next) {
+                node.prev = previous;
+                previous = node;
+            }
+            tail = previous;
+        }
+        modCount++;
+    }
+
+    /**
+     * Merges two sorted runs of nodes into one, preferring the left run on ties. Consumed input nodes are recycled
+     * as output nodes, which are filled to capacity.
+     *
+     * @param left  the head of the first run
+     * @param right the head of the second run
+     * @param cmp   the comparator to determine the order
+     * @return the head of the merged run, linked through next only
+     */
+    private Node merge(Node left, Node right, Comparator<Object> cmp) {
+        Node free = null;
+        Node outHead = null;
+        Node out = null;
+        int leftIndex = 0;
+        int rightIndex = 0;
+        while (left != null || right != null) {
+            Object element;
+            if (right == null || (left != null && cmp.compare(left.items[leftIndex], right.items[rightIndex]) <= 0)) {
+                element = left.items[leftIndex++];
+                if (leftIndex == left.count) {
+                    Node next = left.next;
+                    left.next = free;
+                    free = left;
+                    left = next;
+                    leftIndex = 0;
+                }
+            } else {
+                element = right.items[rightIndex++];
+                if (rightIndex == right.count) {
+                    Node next = right.next;
+                    right.next = free;
+                    free = right;
+                    right = next;
+                    rightIndex = 0;
+                }
+            }
+            if (out == null || out.count == nodeCapacity) {
+                Node node;
+                if (free != null) {
+                    node = free;
+                    free = free.next;
+                    node.next = null;
+                } else {
+                    node = new Node(nodeCapacity);
+                }
+                node.count = 0;
+                if (out == null) {
+                    outHead = node;
+                } else {
+                    out.next = node;
+                }
+                out = node;
+            }
+            out.items[out.count++] = element;
+        }
+        Arrays.fill(out.items, out.count, nodeCapacity, null);
+        return outHead;
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UnrolledCustomLinkedList<?> other = (UnrolledCustomLinkedList<?>) o;
+        if (size != other.size) {
+            return false;
+        }
+        Iterator<?> otherIterator = other.iterator();
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (!Objects.equals(node.items[i], otherIterator.next())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code of this list, computed from its elements in order like {@link java.util.List#hashCode()}.
+     *
+     * @return the hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                hash = 31 * hash + Objects.hashCode(node.items[i]);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns an estimate of the heap memory this list holds, in bytes: the list object and every node with its
+     * array of nodeCapacity slots, used or not. The elements are not counted.
+     *
+     * @return the estimated size of this list in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        long footprint = HeapLayout.objectSize(2, 4);
+        for (Node node = head; node != null; node = node.next) {
+            footprint += HeapLayout.objectSize(3, 1) + HeapLayout.referenceArraySize(node.items.length);
+        }
+        return footprint;
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in a proper sequence, copied node by node.
+     *
+     * @return an array containing all the elements in this list
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int start = 0;
+        for (Node node = head; node != null; node = node.next) {
+            System.arraycopy(node.items, 0, array, start, node.count);
+            start += node.count;
+        }
+        return array;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list that reads each node sequentially. The iterator supports
+     * remove.
+     *
+     * @return an iterator over the elements in this list
+     * @throws ConcurrentModificationException if the list is structurally modified during iteration, other than
+     *                                         through the iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private Node node = head;
+            private int position = 0;
+            private int remaining = size;
+            private boolean canRemove;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                if (position >= node.count) {
+                    node = node.next;
+                    position = 0;
+                }
+                remaining--;
+                canRemove = true;
+                return (E) node.items[position++];
+            }
+
+            @Override
+            public void remove() {
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                canRemove = false;
+                position--;
+                Node previous = node.prev;
+                int previousCount = previous == null ? 0 : previous.count;
+                if (removeAt(node, position)) {
+                    node = previous;
+                    position += previousCount;
+                }
+                // an emptied node is unlinked but keeps its next link, so next() still moves on from it
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+    /**
+     * Performs the given action for each element of the list, node by node.
+     *
+     * @param action the action to be performed on the elements
+     * @throws ConcurrentModificationException if the action structurally modifies the list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (Node node = head; node != null && modCount == expectedModCount; node = node.next) {
+            for (int i = 0; i < node.count && modCount == expectedModCount; i++) {
+                action.accept((E) node.items[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a lazy view over the elements of this list whose fused stages run in a single loop over the nodes.
+     *
+     * @return a lazy view over the elements of this list
+     * @throws ConcurrentModificationException if the list is structurally modified while a terminal operation runs
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListView<E> view() {
+        return ListView.of(sink -> {
+            int expectedModCount = modCount;
+            outer:
+            for (Node node = head; node != null && modCount == expectedModCount; node = node.next) {
+                for (int i = 0; i < node.count && modCount == expectedModCount; i++) {
+                    if (!sink.accept((E) node.items[i])) {
+                        break outer;
+                    }
+                }
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }, this::size);
+    }
+
+    /**
+     * Returns a string representation of the list.
+     *
+     * @return a string representation of the list
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+                sb.append(node.items[i]);
+            }
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(REQUEST_INDEX + index + BUT_SIZE + size);
+        }
+    }
+
+    /**
+     * Returns the node holding the element at the specified index, walking node by node from the nearer end,
+     * and stores the index of the first element of that node in nodeStart.
+     *
+     * @param index an index between 0, inclusive, and size, exclusive
+     * @return the node holding the element
+     */
+    private Node node(int index) {
+        Node node;
+        int start;
+        if (index < size / 2) {
+            node = head;
+            start = 0;
+            while (index >= start + node.count) {
+                start += node.count;
+                node = node.next;
+            }
+        } else {
+            node = tail;
+            start = size - tail.count;
+            while (start > index) {
+                node = node.prev;
+                start -= node.count;
+            }
+        }
+        nodeStart = start;
+        return node;
+    }
+
+    /**
+     * Removes the element at the specified position of the node, then unlinks the node if it is empty, or merges it
+     * with its next or previous node if the two fit in three quarters of a node.
+     *
+     * @return true if the remaining elements of the node were moved to the end of its previous node
+     */
+    private boolean removeAt(Node node, int position) {
+        node.count--;
+        System.arraycopy(node.items, position + 1, node.items, position, node.count - position);
+        node.items[node.count] = null;
+        size--;
+        modCount++;
+        if (node.count == 0) {
+            unlink(node);
+            return false;
+        }
+        if (node.count < nodeCapacity / 4) {
+            int limit = nodeCapacity - nodeCapacity / 4;
+            if (node.next != null && node.count + node.next.count <= limit) {
+                appendNext(node);
+            } else if (node.prev != null && node.prev.count + node.count <= limit) {
+                appendNext(node.prev);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the elements of the node after the specified one into it and unlinks that node.
+     */
+    private void appendNext(Node node) {
+        Node next = node.next;
+        System.arraycopy(next.items, 0, node.items, node.count, next.count);
+        node.count += next.count;
+        unlink(next);
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node linked right after it.
+     *
+     * @return the new node
+     */
+    private Node split(Node node) {
+        Node upper = new Node(nodeCapacity);
+        int half = node.count / 2;
+        upper.count = node.count - half;
+        System.arraycopy(node.items, half, upper.items, 0, upper.count);
+        Arrays.fill(node.items, half, node.count, null);
+        node.count = half;
+        linkAfter(node, upper);
+        return upper;
+    }
+
+    /**
+     * Links the new node after the specified node, or as the head if it is null.
+     */
+    private void linkAfter(Node node, Node newNode) {
+        Node next = node == null ? head : node.next;
+        newNode.prev = node;
+        newNode.next = next;
+        if (node == null) {
+            head = newNode;
+        } else {
+            node.next = newNode;
+        }
+        if (next == null) {
+            tail = newNode;
+        } else {
+            next.prev = newNode;
+        }
+    }
+
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+}
@@ -1,10 +1,35 @@
+import list.ChunkedCustomListTest;
+import list.ConcurrentAppendOnlyCustomListTest;
+import list.CopyOnWriteCustomArrayListTest;
 import list.CustomArrayListTest;
 import list.CustomLinkedListTest;
+import list.CustomListStreamTest;
+import list.DoubleCustomListTest;
+import list.ExternalSorterTest;
+import list.ImmutableCustomListTest;
+import list.InstrumentedCustomListTest;
+import list.IntCustomListTest;
+import list.ListViewTest;
+import list.LongCustomListTest;
+import list.MemoryFootprintTest;
+import list.OffHeapCustomListTest;
+import list.ParallelForEachTest;
+import list.PersistentCustomVectorTest;
+import list.SortedCustomArrayListTest;
+import list.StampedCustomArrayListTest;
+import list.UnrolledCustomLinkedListTest;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 
 @Suite
-@SelectClasses({CustomArrayListTest.class, CustomLinkedListTest.class})
+@SelectClasses({CustomArrayListTest.class, CustomLinkedListTest.class, IntCustomListTest.class, LongCustomListTest.class,
+        DoubleCustomListTest.class, OffHeapCustomListTest.class, CopyOnWriteCustomArrayListTest.class,
+        StampedCustomArrayListTest.class, ConcurrentAppendOnlyCustomListTest.class, ChunkedCustomListTest.class,
+        UnrolledCustomLinkedListTest.class, ListViewTest.class, ImmutableCustomListTest.class,
+        PersistentCustomVectorTest.class, CustomListStreamTest.class,
+        ExternalSorterTest.class, SortedCustomArrayListTest.class,
+        InstrumentedCustomListTest.class, ParallelForEachTest.class,
+        MemoryFootprintTest.class})
 class AllTests {
 
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+package list;
+
+import list.impl.ChunkedCustomList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChunkedCustomListTest {
+
+    @Test
+    void testBasicOperations() {
+        ChunkedCustomList<String> list = new ChunkedCustomList<>(4);
+        for (String element : new String[]{"a", "b", "c", "d", "e", "f"}) {
+            list.add(element);
+        }
+        list.add(2, "x");
+        assertEquals("[a, b, x, c, d, e, f]", list.toString());
+        assertEquals("x", list.get(2));
+        assertEquals("c", list.set(3, "C"));
+        assertEquals("a", list.remove(0));
+        assertTrue(list.remove("e"));
+        assertFalse(list.remove("z"));
+        assertEquals("[b, x, C, d, f]", list.toString());
+        assertEquals(2, list.indexOf("C"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(6, "y"));
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedCustomList<>(3));
+    }
+
+    @Test
+    void testEqualsSortAndIterator() {
+        ChunkedCustomList<Integer> list1 = new ChunkedCustomList<>(4);
+        ChunkedCustomList<Integer> list2 = new ChunkedCustomList<>(8);
+        list1.addAll(new Integer[]{5, 3, 9, 1, 7, 3, 8});
+        list2.addAll(List.of(1, 3, 3, 5, 7, 8, 9));
+        assertNotEquals(list1, list2);
+        list1.sort();
+        assertEquals(list1, list2);
+        assertEquals(list1.hashCode(), list2.hashCode());
+        assertArrayEquals(new Object[]{1, 3, 3, 5, 7, 8, 9}, list1.toArray());
+        Iterator<Integer> iterator = list1.iterator();
+        assertEquals(1, iterator.next());
+        list1.add(10);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        list1.sort(Comparator.reverseOrder());
+        assertEquals("[10, 9, 8, 7, 5, 3, 3, 1]", list1.toString());
+    }
+
+    @Test
+    void testRandomOperationsMatchArrayList() {
+        ChunkedCustomList<Integer> list = new ChunkedCustomList<>(8);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(14);
+        for (int step = 0; step < 5000; step++) {
+            int value = random.nextInt(1000);
+            int size = expected.size();
+            switch (random.nextInt(7)) {
+                case 0, 1 -> {
+                    int index = random.nextInt(size + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2 -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        assertEquals(expected.remove(index), list.remove(index));
+                    }
+                }
+                case 3 -> {
+                    int from = random.nextInt(size + 1);
+                    int to = from + random.nextInt(Math.min(size - from, 30) + 1);
+                    list.removeRange(from, to);
+                    expected.subList(from, to).clear();
+                }
+                case 4 -> {
+                    int index = random.nextInt(size + 1);
+                    List<Integer> values = Arrays.asList(value, value + 1, value + 2, value + 3, value + 4,
+                            value + 5, value + 6, value + 7, value + 8, value + 9, value + 10);
+                    List<Integer> chunk = values.subList(0, random.nextInt(values.size()));
+                    list.addAll(index, chunk);
+                    expected.addAll(index, chunk);
+                }
+                case 5 -> {
+                    list.removeIf(element -> element % 7 == value % 7);
+                    expected.removeIf(element -> element % 7 == value % 7);
+                }
+                default -> {
+                    list.add(value);
+                    expected.add(value);
+                }
+            }
+            assertEquals(expected.size(), list.size());
+            if (!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+        assertArrayEquals(expected.toArray(), list.toArray());
+        assertEquals(expected.toString(), list.toString());
+        List<Integer> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertEquals(expected, iterated);
+        list.clear();
+        assertEquals("[]", list.toString());
+    }
+
+    @Test
+    void testSubList() {
+        Random random = new Random(5);
+        ChunkedCustomList<Integer> list = new ChunkedCustomList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        CustomList<Integer> view = list.subList(50, 150);
+        List<Integer> expectedView = expected.subList(50, 150);
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(1000);
+            int viewSize = expectedView.size();
+            switch (random.nextInt(8)) {
+                case 0, 6, 7 -> {
+                    int index = random.nextInt(viewSize + 1);
+                    view.add(index, value);
+                    expectedView.add(index, value);
+                }
+                case 1 -> {
+                    if (viewSize > 0) {
+                        int index = random.nextInt(viewSize);
+                        assertEquals(expectedView.remove(index), view.remove(index));
+                    }
+                }
+                case 2 -> {
+                    if (viewSize > 0) {
+                        int index = random.nextInt(viewSize);
+                        assertEquals(expectedView.set(index, value), view.set(index, value));
+                    }
+                }
+                case 3 -> {
+                    int from = random.nextInt(viewSize + 1);
+                    int to = from + random.nextInt(Math.min(3, viewSize - from) + 1);
+                    view.removeRange(from, to);
+                    expectedView.subList(from, to).clear();
+                }
+                case 4 -> assertEquals(expectedView.removeIf(x -> x % 7 == 0), view.removeIf(x -> x % 7 == 0));
+                default -> {
+                    view.sort(Comparator.reverseOrder());
+                    expectedView.sort(Comparator.reverseOrder());
+                }
+            }
+            assertEquals(expectedView.size(), view.size());
+        }
+        assertArrayEquals(expectedView.toArray(), view.toArray());
+        assertArrayEquals(expected.toArray(), list.toArray());
+        assertEquals(expectedView.indexOf(expectedView.get(3)), view.indexOf(view.get(3)));
+
+        view.subList(1, 4).clear();
+        expectedView.subList(1, 4).clear();
+        Iterator<Integer> iterator = view.iterator();
+        iterator.next();
+        iterator.remove();
+        expectedView.remove(0);
+        assertArrayEquals(expected.toArray(), list.toArray());
+        assertEquals(expectedView.stream().mapToInt(Integer::intValue).sum(),
+                view.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(expectedView.toString(), view.toString());
+
+        list.add(-1);
+        assertThrows(ConcurrentModificationException.class, view::size);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(5, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, list.size() + 1));
+    }
+}
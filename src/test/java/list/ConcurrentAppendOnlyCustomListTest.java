@@ -0,0 +1,136 @@
+package list;
+
+import list.impl.ConcurrentAppendOnlyCustomList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentAppendOnlyCustomListTest {
+
+    @Test
+    void testAppendAndGet() {
+        ConcurrentAppendOnlyCustomList<Integer> list = new ConcurrentAppendOnlyCustomList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        assertEquals(1000, list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, list.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1000));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        Iterator<Integer> iterator = list.iterator();
+        assertEquals(0, iterator.next());
+        assertTrue(iterator.hasNext());
+    }
+
+    @Test
+    void testUnsupportedOperations() {
+        ConcurrentAppendOnlyCustomList<String> list = new ConcurrentAppendOnlyCustomList<>();
+        list.addAll(List.of("a", "b"));
+        assertEquals("[a, b]", list.toString());
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, "c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove("a"));
+        assertThrows(UnsupportedOperationException.class, list::sort);
+    }
+
+    @Test
+    void testDrainTo() {
+        ConcurrentAppendOnlyCustomList<String> list = new ConcurrentAppendOnlyCustomList<>();
+        list.add("a");
+        list.add("b");
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, list.drainTo(drained));
+        assertEquals(List.of("a", "b"), drained);
+        assertEquals(0, list.size());
+        list.add("c");
+        assertEquals("[c]", list.toString());
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void testConcurrentProducersWithDrains() throws InterruptedException {
+        ConcurrentAppendOnlyCustomList<Integer> list = new ConcurrentAppendOnlyCustomList<>();
+        int producers = 4;
+        int perProducer = 50_000;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    list.add(base + i);
+                }
+            });
+            threads[p].start();
+        }
+        boolean[] seen = new boolean[producers * perProducer];
+        int[] lastPerProducer = new int[producers];
+        Arrays.fill(lastPerProducer, -1);
+        boolean[] outOfOrder = new boolean[1];
+        int drained = 0;
+        while (drained < seen.length) {
+            drained += list.drainTo(value -> {
+                seen[value] = true;
+                int producer = value / perProducer;
+                if (value <= lastPerProducer[producer]) {
+                    outOfOrder[0] = true;
+                }
+                lastPerProducer[producer] = value;
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(seen.length, drained);
+        assertFalse(outOfOrder[0]);
+        for (boolean value : seen) {
+            assertTrue(value);
+        }
+    }
+
+    @Test
+    void testConcurrentBulkAppends() throws InterruptedException {
+        ConcurrentAppendOnlyCustomList<Integer> list = new ConcurrentAppendOnlyCustomList<>();
+        AtomicInteger failures = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    try {
+                        if (i % 3 == 0) {
+                            list.addAll(new Integer[]{i, i});
+                        } else if (i % 3 == 1) {
+                            list.addAll(List.of(i, i));
+                        } else {
+                            ConcurrentAppendOnlyCustomList<Integer> batch = new ConcurrentAppendOnlyCustomList<>();
+                            batch.add(i);
+                            batch.add(i);
+                            list.addAll(batch);
+                        }
+                    } catch (UnsupportedOperationException e) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, failures.get());
+        assertEquals(threads.length * 5_000 * 2, list.size());
+        assertThrows(UnsupportedOperationException.class, () -> list.addAll(0, new Integer[]{1}));
+    }
+}
@@ -0,0 +1,111 @@
+package list;
+
+import list.impl.CopyOnWriteCustomArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CopyOnWriteCustomArrayListTest {
+
+    @Test
+    void testBasicOperations() {
+        CopyOnWriteCustomArrayList<String> list = new CopyOnWriteCustomArrayList<>();
+        list.add("b");
+        list.add(0, "a");
+        list.addAll(List.of("c", "d"));
+        assertEquals("[a, b, c, d]", list.toString());
+        assertEquals("b", list.set(1, "B"));
+        assertTrue(list.remove("c"));
+        assertEquals("a", list.remove(0));
+        assertFalse(list.remove("x"));
+        assertEquals(2, list.size());
+        list.sort();
+        assertEquals("[B, d]", list.toString());
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void testIteratorIsSnapshot() {
+        CopyOnWriteCustomArrayList<Integer> list = new CopyOnWriteCustomArrayList<>();
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> iterator = list.iterator();
+        list.add(3);
+        list.remove(0);
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertEquals(5, list.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void testConcurrentWriters() throws InterruptedException {
+        CopyOnWriteCustomArrayList<Integer> list = new CopyOnWriteCustomArrayList<>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    list.add(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(2000, list.size());
+        assertTrue(list.removeIf(value -> value >= 250));
+        assertEquals(1000, list.size());
+    }
+
+    @Test
+    void testConcurrentBulkAppendsStayContiguous() throws InterruptedException {
+        CopyOnWriteCustomArrayList<Integer> list = new CopyOnWriteCustomArrayList<>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int base = t * 1_000_000;
+            threads[t] = new Thread(() -> {
+                for (int b = 0; b < 300; b++) {
+                    Integer[] block = new Integer[8];
+                    for (int i = 0; i < block.length; i++) {
+                        block[i] = base + b * block.length + i;
+                    }
+                    if (b % 3 == 0) {
+                        list.addAll(block);
+                    } else if (b % 3 == 1) {
+                        list.addAll(List.of(block));
+                    } else {
+                        CopyOnWriteCustomArrayList<Integer> batch = new CopyOnWriteCustomArrayList<>();
+                        batch.addAll(List.of(block));
+                        list.addAll(batch);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(threads.length * 300 * 8, list.size());
+        int[] last = new int[threads.length];
+        Arrays.fill(last, -1);
+        for (int i = 0; i < list.size(); i++) {
+            int value = list.get(i);
+            int thread = value / 1_000_000;
+            if (value % 8 != 0) {
+                assertEquals(value - 1, list.get(i - 1));
+            }
+            assertTrue(value % 1_000_000 > last[thread]);
+            last[thread] = value % 1_000_000;
+        }
+    }
+}
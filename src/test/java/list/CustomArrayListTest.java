@@ -1,11 +1,26 @@
 package list;
 
 import list.impl.CustomArrayList;
+import list.impl.GrowthPolicy;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CustomArrayListTest {
@@ -144,4 +159,431 @@ public class CustomArrayListTest {
         arrayList.clear();
         assertEquals("[]", arrayList.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSpliteratorSplits() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Spliterator<Integer> right = list.spliterator();
+        Spliterator<Integer> left = right.trySplit();
+        assertNotNull(left);
+        assertEquals(50, left.estimateSize());
+        assertEquals(50, right.estimateSize());
+        assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        int[] first = new int[1];
+        left.tryAdvance(value -> first[0] = value);
+        assertEquals(0, first[0]);
+    }
+
+    @Test
+    void testSpliteratorFailsFast() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        list.add(1);
+        list.add(2);
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining(list::add));
+    }
+
+    @Test
+    void testStreams() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (int i = 1; i <= 100_000; i++) {
+            list.add(i);
+        }
+        assertEquals(5_000_050_000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(50_000, list.stream().filter(value -> value % 2 == 0).count());
+    }
+
+    @Test
+    void testSortPresortedRuns() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(1000 - i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        list.sort(Integer::compareTo);
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1) <= list.get(i));
+        }
+        assertEquals(0, list.get(0));
+        assertEquals(1000, list.get(1999));
+    }
+
+    @Test
+    void testParallelSortIsStable() {
+        CustomArrayList<String> list = new CustomArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            list.add((i * 7919) % 10 + ":" + i);
+        }
+        Comparator<String> byDigit = Comparator.comparing(value -> value.charAt(0));
+        list.parallelSort(byDigit, 1000);
+        for (int i = 1; i < list.size(); i++) {
+            String previous = list.get(i - 1);
+            String current = list.get(i);
+            int order = byDigit.compare(previous, current);
+            assertTrue(order < 0 || order == 0
+                    && Integer.parseInt(previous.substring(2)) < Integer.parseInt(current.substring(2)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> list.parallelSort(byDigit, 1));
+    }
+
+    @Test
+    void testListIterator() {
+        CustomArrayList<String> list = new CustomArrayList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        ListIterator<String> iterator = list.listIterator();
+        assertEquals("a", iterator.next());
+        iterator.remove();
+        assertEquals("b", iterator.next());
+        iterator.set("B");
+        iterator.add("x");
+        assertEquals("c", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals("c", iterator.previous());
+        assertEquals(2, iterator.nextIndex());
+        iterator.remove();
+        assertEquals("[B, x]", list.toString());
+        assertEquals(2, list.size());
+        assertEquals("x", list.set(1, "y"));
+        assertEquals("[B, y]", list.toString());
+    }
+
+    @Test
+    void testRemoveIf() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        assertTrue(list.removeIf(value -> value % 3 != 0));
+        assertFalse(list.removeIf(value -> value > 100));
+        assertEquals("[0, 3, 6, 9, 12, 15, 18]", list.toString());
+        list.iterator().next();
+        assertEquals(7, list.size());
+    }
+
+    @Test
+    void testIteratorFailsFast() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(3);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, () -> list.forEach(value -> list.remove(0)));
+
+        ListIterator<Integer> listIterator = list.listIterator();
+        listIterator.next();
+        listIterator.remove();
+        listIterator.add(5);
+        assertEquals(3, listIterator.next());
+        list.sort();
+        assertThrows(ConcurrentModificationException.class, listIterator::previous);
+    }
+
+    @Test
+    void testCapacityManagement() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(0, GrowthPolicy.fixedChunk(10));
+        assertEquals(0, list.capacity());
+        list.add(1);
+        assertEquals(10, list.capacity());
+        list.ensureCapacity(1000);
+        assertEquals(1000, list.capacity());
+        for (int i = 2; i <= 1001; i++) {
+            list.add(i);
+        }
+        assertEquals(1010, list.capacity());
+        list.trimToSize();
+        assertEquals(1001, list.capacity());
+        assertEquals(1001, list.get(1000));
+        list.clear(true);
+        assertEquals(0, list.capacity());
+        list.add(7);
+        assertEquals("[7]", list.toString());
+    }
+
+    @Test
+    void testGrowthFactor() {
+        CustomArrayList<Integer> list = new CustomArrayList<>(10, GrowthPolicy.factor(1.5));
+        for (int i = 0; i < 11; i++) {
+            list.add(i);
+        }
+        assertEquals(15, list.capacity());
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.factor(1.0));
+        assertThrows(IllegalArgumentException.class, () -> new CustomArrayList<>(-1));
+    }
+
+    @Test
+    void testBulkOperations() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        assertTrue(list.addAll(new Integer[]{1, 2, 3}));
+        assertTrue(list.addAll(List.of(7, 8)));
+        assertTrue(list.addAll(3, Arrays.asList(4, 5, 6)));
+        assertFalse(list.addAll(List.of()));
+        assertEquals("[1, 2, 3, 4, 5, 6, 7, 8]", list.toString());
+        assertTrue(list.addAll(0, list));
+        assertEquals(16, list.size());
+        list.removeRange(0, 8);
+        assertEquals("[1, 2, 3, 4, 5, 6, 7, 8]", list.toString());
+        list.removeRange(2, 5);
+        assertEquals("[1, 2, 6, 7, 8]", list.toString());
+        assertTrue(list.removeAll(List.of(2, 7)));
+        assertTrue(list.retainAll(List.of(1, 8, 9)));
+        assertFalse(list.retainAll(List.of(1, 8)));
+        assertEquals("[1, 8]", list.toString());
+        list.add(9);
+        assertEquals(9, list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 1));
+    }
+
+    @Test
+    void testSearch() {
+        CustomArrayList<String> list = new CustomArrayList<>();
+        list.addAll(Arrays.asList("a", "b", null, "a"));
+        assertTrue(list.contains("b"));
+        assertTrue(list.contains(null));
+        assertFalse(list.contains("z"));
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(3, list.lastIndexOf("a"));
+        assertEquals(2, list.indexOf(null));
+        assertEquals(-1, list.lastIndexOf("z"));
+        assertTrue(list.remove(null));
+        assertFalse(list.remove("z"));
+    }
+
+    @Test
+    void testIndexedModeInterleavingRemoveAndIndexOf() {
+        CustomArrayList<HashCounting> list = new CustomArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(new HashCounting(i));
+        }
+        list.enableIndex();
+        HashCounting.calls = 0;
+        for (int i = 0; i < 500; i++) {
+            list.remove(0);
+            assertEquals(0, list.indexOf(new HashCounting(i + 1)));
+            assertEquals(list.size() - 1, list.lastIndexOf(new HashCounting(999)));
+        }
+        // a rebuild per query would hash the whole list every time
+        assertTrue(HashCounting.calls < 10 * 500);
+        assertEquals(499, list.indexOf(new HashCounting(999)));
+        assertEquals(499, list.indexOf(new HashCounting(999)));
+        assertEquals(499, list.indexOf(new HashCounting(999)));
+        assertEquals(499, list.indexOf(new HashCounting(999)));
+        assertEquals(-1, list.indexOf(new HashCounting(0)));
+    }
+
+    private static final class HashCounting {
+        static int calls;
+        private final int id;
+
+        HashCounting(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof HashCounting && ((HashCounting) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            calls++;
+            return id;
+        }
+    }
+
+    @Test
+    void testIndexedModeMatchesScan() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(13);
+        for (int i = 0; i < 100; i++) {
+            list.add(i % 10);
+            expected.add(i % 10);
+        }
+        list.enableIndex();
+        assertTrue(list.isIndexEnabled());
+        for (int step = 0; step < 2000; step++) {
+            int value = random.nextInt(15);
+            switch (random.nextInt(8)) {
+                case 0 -> {
+                    list.add(value);
+                    expected.add(value);
+                }
+                case 1 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2 -> assertEquals(expected.remove((Integer) value), list.remove((Integer) value));
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        assertEquals(expected.set(index, value), list.set(index, value));
+                    }
+                }
+                case 4 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        assertEquals(expected.remove(index), list.remove(index));
+                    }
+                }
+                case 5 -> {
+                    list.removeIf(element -> element == value);
+                    expected.removeIf(element -> element == value);
+                }
+                case 6 -> {
+                    list.sort(Comparator.reverseOrder());
+                    expected.sort(Comparator.reverseOrder());
+                }
+                default -> {
+                    list.addAll(List.of(value, value));
+                    expected.addAll(List.of(value, value));
+                }
+            }
+            assertEquals(expected.contains(value), list.contains(value));
+            assertEquals(expected.indexOf(value), list.indexOf(value));
+            assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+        }
+        list.clear();
+        assertFalse(list.contains(0));
+        list.disableIndex();
+        assertFalse(list.isIndexEnabled());
+    }
+
+    @Test
+    void testBinarySearch() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (int value : new int[]{1, 3, 3, 3, 7, 9}) {
+            list.add(value);
+        }
+        assertEquals(1, list.binarySearch(3, Comparator.naturalOrder()));
+        assertEquals(0, list.binarySearch(1, Comparator.naturalOrder()));
+        assertEquals(5, list.binarySearch(9, Comparator.naturalOrder()));
+        assertEquals(-1, list.binarySearch(0, Comparator.naturalOrder()));
+        assertEquals(-5, list.binarySearch(4, Comparator.naturalOrder()));
+        assertEquals(-7, list.binarySearch(10, Comparator.naturalOrder()));
+        list.sort(Comparator.reverseOrder());
+        assertEquals(2, list.binarySearch(3, Comparator.reverseOrder()));
+        assertEquals(-1, new CustomArrayList<Integer>().binarySearch(1, Comparator.naturalOrder()));
+    }
+
+    @Test
+    void testSubList() {
+        Random random = new Random(5);
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        CustomList<Integer> view = list.subList(50, 150);
+        List<Integer> expectedView = expected.subList(50, 150);
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(1000);
+            int viewSize = expectedView.size();
+            switch (random.nextInt(8)) {
+                case 0, 6, 7 -> {
+                    int index = random.nextInt(viewSize + 1);
+                    view.add(index, value);
+                    expectedView.add(index, value);
+                }
+                case 1 -> {
+                    if (viewSize > 0) {
+                        int index = random.nextInt(viewSize);
+                        assertEquals(expectedView.remove(index), view.remove(index));
+                    }
+                }
+                case 2 -> {
+                    if (viewSize > 0) {
+                        int index = random.nextInt(viewSize);
+                        assertEquals(expectedView.set(index, value), view.set(index, value));
+                    }
+                }
+                case 3 -> {
+                    int from = random.nextInt(viewSize + 1);
+                    int to = from + random.nextInt(Math.min(3, viewSize - from) + 1);
+                    view.removeRange(from, to);
+                    expectedView.subList(from, to).clear();
+                }
+                case 4 -> assertEquals(expectedView.removeIf(x -> x % 7 == 0), view.removeIf(x -> x % 7 == 0));
+                default -> {
+                    view.sort(Comparator.reverseOrder());
+                    expectedView.sort(Comparator.reverseOrder());
+                }
+            }
+            assertEquals(expectedView.size(), view.size());
+        }
+        assertArrayEquals(expectedView.toArray(), view.toArray());
+        assertArrayEquals(expected.toArray(), list.toArray());
+        assertEquals(expectedView.indexOf(expectedView.get(3)), view.indexOf(view.get(3)));
+
+        view.subList(1, 4).clear();
+        expectedView.subList(1, 4).clear();
+        Iterator<Integer> iterator = view.iterator();
+        iterator.next();
+        iterator.remove();
+        expectedView.remove(0);
+        assertArrayEquals(expected.toArray(), list.toArray());
+        assertEquals(expectedView.stream().mapToInt(Integer::intValue).sum(),
+                view.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(expectedView.toString(), view.toString());
+
+        list.add(-1);
+        assertThrows(ConcurrentModificationException.class, view::size);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(5, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, list.size() + 1));
+    }
+
+    @Test
+    void testCursor() {
+        CustomArrayList<String> list = new CustomArrayList<>();
+        Cursor<String> cursor = list.cursor();
+        assertFalse(cursor.advance());
+        assertThrows(NoSuchElementException.class, cursor::value);
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        assertThrows(ConcurrentModificationException.class, cursor::advance);
+        for (int pass = 0; pass < 2; pass++) {
+            StringBuilder sb = new StringBuilder();
+            cursor.reset();
+            assertEquals(-1, cursor.index());
+            while (cursor.advance()) {
+                sb.append(cursor.index()).append(cursor.value());
+            }
+            assertEquals("0a1b2c", sb.toString());
+            assertFalse(cursor.advance());
+            assertThrows(NoSuchElementException.class, cursor::value);
+            cursor.reset();
+        }
+        assertTrue(cursor.advance());
+        list.set(0, "z");
+        assertEquals("z", cursor.value());
+        list.remove(2);
+        assertThrows(ConcurrentModificationException.class, cursor::advance);
+    }
+
+    @Test
+    void testForEachIndexed() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i * 10);
+        }
+        List<Integer> seen = new ArrayList<>();
+        list.forEachIndexed((index, element) -> {
+            assertEquals(index * 10, element);
+            seen.add(index);
+        });
+        assertEquals(20, seen.size());
+        assertThrows(ConcurrentModificationException.class, () -> list.forEachIndexed((index, element) -> list.add(0)));
+        assertEquals("[0, 10]", list.subList(0, 2).toString());
+    }
+}
@@ -4,9 +4,22 @@ import list.impl.CustomArrayList;
 import list.impl.CustomLinkedList;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CustomLinkedListTest {
@@ -149,4 +162,271 @@ public class CustomLinkedListTest {
         customLinkedList.clear();
         assertEquals("[]", customLinkedList.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStream() {
+        CustomList<Integer> list = new CustomLinkedList<>();
+        list.add(3);
+        list.add(4);
+        list.add(5);
+        assertEquals(12, list.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(3, list.spliterator().estimateSize());
+    }
+
+    @Test
+    void testDequeOperations() {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        list.addLast("B");
+        list.addFirst("A");
+        list.addLast("C");
+        assertEquals("[A, B, C]", list.toString());
+        assertEquals("C", list.pollLast());
+        assertEquals("A", list.pollFirst());
+        assertEquals("B", list.pollLast());
+        assertNull(list.pollFirst());
+        assertNull(list.pollLast());
+        list.addFirst("D");
+        assertEquals("D", list.get(0));
+    }
+
+    @Test
+    void testIndexedAccessFromBothEnds() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.add(8, 80);
+        list.add(1, 10);
+        assertEquals(10, list.get(1));
+        assertEquals(80, list.get(9));
+        assertEquals(9, list.get(11));
+        assertEquals(80, list.remove(9));
+        assertEquals(8, list.remove(9));
+        assertEquals("[0, 10, 1, 2, 3, 4, 5, 6, 7, 9]", list.toString());
+    }
+
+    @Test
+    void testSortKeepsBackwardLinks() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        list.add(3);
+        list.add(1);
+        list.add(2);
+        list.sort();
+        assertEquals(3, list.pollLast());
+        assertEquals(2, list.get(1));
+        list.addLast(4);
+        assertEquals("[1, 2, 4]", list.toString());
+    }
+
+    @Test
+    void testListIterator() {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        ListIterator<String> iterator = list.listIterator();
+        assertEquals("a", iterator.next());
+        iterator.remove();
+        assertEquals("b", iterator.next());
+        iterator.set("B");
+        iterator.add("x");
+        assertEquals("c", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals("c", iterator.previous());
+        assertEquals(2, iterator.nextIndex());
+        iterator.remove();
+        assertEquals("[B, x]", list.toString());
+        assertEquals(2, list.size());
+        assertEquals("x", list.set(1, "y"));
+        assertEquals("[B, y]", list.toString());
+    }
+
+    @Test
+    void testRemoveIf() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        assertTrue(list.removeIf(value -> value % 3 != 0));
+        assertFalse(list.removeIf(value -> value > 100));
+        assertEquals("[0, 3, 6, 9, 12, 15, 18]", list.toString());
+        list.iterator().next();
+        assertEquals(7, list.size());
+    }
+
+    @Test
+    void testIteratorFailsFast() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(3);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, () -> list.forEach(value -> list.remove(0)));
+
+        ListIterator<Integer> listIterator = list.listIterator();
+        listIterator.next();
+        listIterator.remove();
+        listIterator.add(5);
+        assertEquals(3, listIterator.next());
+        list.sort();
+        assertThrows(ConcurrentModificationException.class, listIterator::previous);
+    }
+
+    @Test
+    void testBulkOperations() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        assertTrue(list.addAll(new Integer[]{1, 2, 3}));
+        assertTrue(list.addAll(List.of(7, 8)));
+        assertTrue(list.addAll(3, Arrays.asList(4, 5, 6)));
+        assertFalse(list.addAll(List.of()));
+        assertEquals("[1, 2, 3, 4, 5, 6, 7, 8]", list.toString());
+        assertTrue(list.addAll(0, list));
+        assertEquals(16, list.size());
+        list.removeRange(0, 8);
+        assertEquals("[1, 2, 3, 4, 5, 6, 7, 8]", list.toString());
+        list.removeRange(2, 5);
+        assertEquals("[1, 2, 6, 7, 8]", list.toString());
+        assertTrue(list.removeAll(List.of(2, 7)));
+        assertTrue(list.retainAll(List.of(1, 8, 9)));
+        assertFalse(list.retainAll(List.of(1, 8)));
+        assertEquals("[1, 8]", list.toString());
+        list.add(9);
+        assertEquals(9, list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 1));
+    }
+
+    @Test
+    void testSearch() {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        list.addAll(Arrays.asList("a", "b", null, "a"));
+        assertTrue(list.contains("b"));
+        assertFalse(list.contains("z"));
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(3, list.lastIndexOf("a"));
+        assertEquals(2, list.indexOf(null));
+        assertEquals(-1, list.lastIndexOf("z"));
+    }
+
+    @Test
+    void testBinarySearch() {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        list.addAll(Arrays.asList("a", "c", "c", "e"));
+        assertEquals(1, list.binarySearch("c", Comparator.naturalOrder()));
+        assertEquals(-4, list.binarySearch("d", Comparator.naturalOrder()));
+        assertEquals(-5, list.binarySearch("f", Comparator.naturalOrder()));
+    }
+
+    @Test
+    void testSubList() {
+        Random random = new Random(5);
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        CustomList<Integer> view = list.subList(50, 150);
+        List<Integer> expectedView = expected.subList(50, 150);
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(1000);
+            int viewSize = expectedView.size();
+            switch (random.nextInt(8)) {
+                case 0, 6, 7 -> {
+                    int index = random.nextInt(viewSize + 1);
+                    view.add(index, value);
+                    expectedView.add(index, value);
+                }
+                case 1 -> {
+                    if (viewSize > 0) {
+                        int index = random.nextInt(viewSize);
+                        assertEquals(expectedView.remove(index), view.remove(index));
+                    }
+                }
+                case 2 -> {
+                    if (viewSize > 0) {
+                        int index = random.nextInt(viewSize);
+                        assertEquals(expectedView.set(index, value), view.set(index, value));
+                    }
+                }
+                case 3 -> {
+                    int from = random.nextInt(viewSize + 1);
+                    int to = from + random.nextInt(Math.min(3, viewSize - from) + 1);
+                    view.removeRange(from, to);
+                    expectedView.subList(from, to).clear();
+                }
+                case 4 -> assertEquals(expectedView.removeIf(x -> x % 7 == 0), view.removeIf(x -> x % 7 == 0));
+                default -> {
+                    view.sort(Comparator.reverseOrder());
+                    expectedView.sort(Comparator.reverseOrder());
+                }
+            }
+            assertEquals(expectedView.size(), view.size());
+        }
+        assertArrayEquals(expectedView.toArray(), view.toArray());
+        assertArrayEquals(expected.toArray(), list.toArray());
+        assertEquals(expectedView.indexOf(expectedView.get(3)), view.indexOf(view.get(3)));
+
+        view.subList(1, 4).clear();
+        expectedView.subList(1, 4).clear();
+        Iterator<Integer> iterator = view.iterator();
+        iterator.next();
+        iterator.remove();
+        expectedView.remove(0);
+        assertArrayEquals(expected.toArray(), list.toArray());
+        assertEquals(expectedView.stream().mapToInt(Integer::intValue).sum(),
+                view.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(expectedView.toString(), view.toString());
+
+        list.add(-1);
+        assertThrows(ConcurrentModificationException.class, view::size);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(5, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, list.size() + 1));
+    }
+
+    @Test
+    void testCursor() {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        Cursor<String> cursor = list.cursor();
+        assertFalse(cursor.advance());
+        assertThrows(NoSuchElementException.class, cursor::value);
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        assertThrows(ConcurrentModificationException.class, cursor::advance);
+        for (int pass = 0; pass < 2; pass++) {
+            StringBuilder sb = new StringBuilder();
+            cursor.reset();
+            assertEquals(-1, cursor.index());
+            while (cursor.advance()) {
+                sb.append(cursor.index()).append(cursor.value());
+            }
+            assertEquals("0a1b2c", sb.toString());
+            assertFalse(cursor.advance());
+            assertThrows(NoSuchElementException.class, cursor::value);
+            cursor.reset();
+        }
+        assertTrue(cursor.advance());
+        list.set(0, "z");
+        assertEquals("z", cursor.value());
+        list.remove(2);
+        assertThrows(ConcurrentModificationException.class, cursor::advance);
+    }
+
+    @Test
+    void testForEachIndexed() {
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i * 10);
+        }
+        List<Integer> seen = new ArrayList<>();
+        list.forEachIndexed((index, element) -> {
+            assertEquals(index * 10, element);
+            seen.add(index);
+        });
+        assertEquals(20, seen.size());
+        assertThrows(ConcurrentModificationException.class, () -> list.forEachIndexed((index, element) -> list.add(0)));
+        assertEquals("[0, 10]", list.subList(0, 2).toString());
+    }
+}
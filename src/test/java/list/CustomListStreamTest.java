@@ -0,0 +1,148 @@
+package list;
+
+import list.impl.CustomArrayList;
+import list.impl.CustomLinkedList;
+import list.impl.CustomListReader;
+import list.impl.CustomListWriter;
+import list.impl.ElementCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CustomListStreamTest {
+
+    @Test
+    void testFileRoundTripRecordsSize() throws IOException {
+        Path file = Files.createTempFile("custom-list", ".bin");
+        try {
+            CustomArrayList<Integer> list = new CustomArrayList<>();
+            for (int i = 0; i < 50_000; i++) {
+                list.add(i * 31);
+            }
+            try (CustomListWriter<Integer> writer = CustomListWriter.create(file, ElementCodec.ints(), false)) {
+                writer.writeAll(list);
+                assertEquals(50_000, writer.count());
+            }
+            try (CustomListReader<Integer> reader = CustomListReader.open(file, ElementCodec.ints())) {
+                assertEquals(50_000, reader.size());
+                CustomArrayList<Integer> read = reader.readAll();
+                assertEquals(list, read);
+                assertEquals(50_000, read.capacity());
+                assertFalse(reader.hasNext());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testCompressedStringsOverStream() {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        for (int i = 0; i < 2000; i++) {
+            list.add(i % 100 == 0 ? null : "item-\u00e9\u4e2d\ud83d\ude00-" + (i % 10));
+        }
+        list.add("\ud800 lone surrogate");
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream packed = new ByteArrayOutputStream();
+        try (CustomListWriter<String> writer = new CustomListWriter<>(Channels.newChannel(plain), ElementCodec.strings())) {
+            writer.writeAll(list);
+        }
+        try (CustomListWriter<String> writer = new CustomListWriter<>(Channels.newChannel(packed),
+                ElementCodec.strings(), true, 1024)) {
+            writer.writeAll(list);
+        }
+        assertTrue(packed.size() < plain.size() / 4);
+        try (CustomListReader<String> reader = new CustomListReader<>(
+                Channels.newChannel(new ByteArrayInputStream(packed.toByteArray())), ElementCodec.strings())) {
+            assertEquals(-1, reader.size());
+            CustomArrayList<String> read = reader.readAll();
+            assertEquals(list.size(), read.size());
+            for (int i = 0; i < list.size() - 1; i++) {
+                assertEquals(list.get(i), read.get(i));
+            }
+            assertEquals("? lone surrogate", read.get(list.size() - 1));
+        }
+    }
+
+    @Test
+    void testReadChunks() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CustomListWriter<Long> writer = new CustomListWriter<>(Channels.newChannel(out), ElementCodec.longs(),
+                true, 100)) {
+            for (long i = 0; i < 10_000; i++) {
+                writer.write(i);
+            }
+        }
+        try (CustomListReader<Long> reader = new CustomListReader<>(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), ElementCodec.longs())) {
+            assertEquals(0L, reader.next());
+            CustomArrayList<Long> chunk = new CustomArrayList<>(333);
+            long sum = 0;
+            int chunks = 0;
+            int read;
+            while ((read = reader.readChunk(chunk, 333)) > 0) {
+                assertEquals(read, chunk.size());
+                for (Long value : chunk) {
+                    sum += value;
+                }
+                chunk.clear();
+                chunks++;
+            }
+            assertEquals(31, chunks);
+            assertEquals(10_000L * 9_999 / 2, sum);
+            assertEquals(10_000, reader.count());
+        }
+    }
+
+    @Test
+    void testElementLargerThanBlock() {
+        char[] chars = new char[5000];
+        Arrays.fill(chars, 'x');
+        String large = new String(chars);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CustomListWriter<String> writer = new CustomListWriter<>(Channels.newChannel(out), ElementCodec.strings(),
+                false, 64)) {
+            writer.write("a");
+            writer.write(large);
+            writer.write("b");
+        }
+        try (CustomListReader<String> reader = new CustomListReader<>(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), ElementCodec.strings())) {
+            assertArrayEquals(new Object[]{"a", large, "b"}, reader.readAll().toArray());
+        }
+    }
+
+    @Test
+    void testInvalidStreams() {
+        byte[] garbage = new byte[32];
+        assertThrows(IllegalArgumentException.class, () -> new CustomListReader<>(
+                Channels.newChannel(new ByteArrayInputStream(garbage)), ElementCodec.ints()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CustomListWriter<Integer> writer = new CustomListWriter<>(Channels.newChannel(out), ElementCodec.ints())) {
+            for (int i = 0; i < 100; i++) {
+                writer.write(i);
+            }
+        }
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 20);
+        CustomListReader<Integer> reader = new CustomListReader<>(
+                Channels.newChannel(new ByteArrayInputStream(truncated)), ElementCodec.ints());
+        assertThrows(UncheckedIOException.class, reader::readAll);
+        reader.close();
+        CustomListWriter<Integer> closed = new CustomListWriter<>(Channels.newChannel(out), ElementCodec.ints());
+        closed.close();
+        assertThrows(IllegalStateException.class, () -> closed.write(1));
+    }
+}
@@ -0,0 +1,90 @@
+package list;
+
+import list.impl.DoubleCustomList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DoubleCustomListTest {
+
+    @Test
+    void testAddAndGet() {
+        DoubleCustomList list = new DoubleCustomList();
+        for (int i = 0; i < 20; i++) {
+            list.add(i * 0.5);
+        }
+        list.add(0, -1);
+        assertEquals(21, list.size());
+        assertEquals(-1, list.getDouble(0));
+        assertEquals(9.5, list.getDouble(20));
+        assertEquals(Double.valueOf(0), list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(21));
+    }
+
+    @Test
+    void testRemove() {
+        DoubleCustomList list = new DoubleCustomList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        assertEquals(1, list.removeDouble(0));
+        assertTrue(list.removeValue(3));
+        assertFalse(list.remove((Object) 3.0));
+        assertArrayEquals(new double[]{2}, list.toDoubleArray());
+    }
+
+    @Test
+    void testSort() {
+        DoubleCustomList list = new DoubleCustomList();
+        list.add(5);
+        list.add(-3);
+        list.add(12);
+        list.add(Double.NaN);
+        list.add(0);
+        list.sort();
+        assertArrayEquals(new double[]{-3, 0, 5, 12, Double.NaN}, list.toDoubleArray());
+        list.sort(Comparator.reverseOrder());
+        assertArrayEquals(new double[]{Double.NaN, 12, 5, 0, -3}, list.toDoubleArray());
+    }
+
+    @Test
+    void testForEachAndIterator() {
+        DoubleCustomList list = new DoubleCustomList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        double[] sum = new double[1];
+        list.forEachDouble(value -> sum[0] += value);
+        assertEquals(6, sum[0]);
+        PrimitiveIterator.OfDouble iterator = list.iterator();
+        assertEquals(1, iterator.nextDouble());
+        assertEquals(2, iterator.nextDouble());
+        assertEquals(3, iterator.nextDouble());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testEqualsAndToString() {
+        DoubleCustomList list1 = new DoubleCustomList();
+        DoubleCustomList list2 = new DoubleCustomList(2);
+        list1.add(7);
+        list1.add(8);
+        list2.add(7);
+        list2.add(8);
+        assertEquals(list1, list2);
+        assertEquals(list1.hashCode(), list2.hashCode());
+        list2.add(9);
+        assertNotEquals(list1, list2);
+        assertEquals("[7.0, 8.0, 9.0]", list2.toString());
+        list2.clear();
+        assertEquals("[]", list2.toString());
+    }
+}
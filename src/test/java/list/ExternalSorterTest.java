@@ -0,0 +1,109 @@
+package list;
+
+import list.impl.CustomArrayList;
+import list.impl.CustomListReader;
+import list.impl.ElementCodec;
+import list.impl.ExternalSorter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExternalSorterTest {
+
+    @Test
+    void testInMemorySort() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(999 - i);
+        }
+        ExternalSorter<Integer> sorter = new ExternalSorter<>(ElementCodec.ints(), Comparator.naturalOrder(), 1 << 20);
+        try (ExternalSorter.SortedIterator<Integer> sorted = sorter.sort(list)) {
+            assertEquals(1, sorted.runCount());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, sorted.next());
+            }
+            assertFalse(sorted.hasNext());
+        }
+        assertEquals(999, list.get(0));
+    }
+
+    @Test
+    void testSpilledRunsMatchSort() throws IOException {
+        Path directory = Files.createTempDirectory("external-sort");
+        try {
+            Random random = new Random(7);
+            CustomArrayList<Integer> list = new CustomArrayList<>();
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 25_000; i++) {
+                int value = random.nextInt(5000) - 2500;
+                list.add(value);
+                expected.add(value);
+            }
+            expected.sort(Comparator.reverseOrder());
+            ExternalSorter<Integer> sorter = new ExternalSorter<>(ElementCodec.ints(), Comparator.reverseOrder(), 1000,
+                    element -> 1, directory, false);
+            try (ExternalSorter.SortedIterator<Integer> sorted = sorter.sort(list)) {
+                assertEquals(25, sorted.runCount());
+                for (Integer value : expected) {
+                    assertEquals(value, sorted.next());
+                }
+                assertFalse(sorted.hasNext());
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(0, files.count());
+            }
+        } finally {
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void testMultiPassMergeIsStable() throws IOException {
+        Path directory = Files.createTempDirectory("external-sort");
+        Path output = directory.resolve("sorted.bin");
+        try {
+            Random random = new Random(11);
+            CustomArrayList<String> list = new CustomArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                list.add(random.nextInt(20) + ":" + i);
+            }
+            Comparator<String> byKey = Comparator.comparingInt(s -> Integer.parseInt(s.substring(0, s.indexOf(':'))));
+            ExternalSorter<String> sorter = new ExternalSorter<>(ElementCodec.strings(), byKey, 10, element -> 1,
+                    directory, true);
+            assertEquals(2000, sorter.sortTo(list.iterator(), output));
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(1, files.count());
+            }
+            CustomArrayList<String> sorted;
+            try (CustomListReader<String> reader = CustomListReader.open(output, ElementCodec.strings())) {
+                sorted = reader.readAll();
+            }
+            CustomArrayList<String> expected = new CustomArrayList<>();
+            expected.addAll(list);
+            expected.sort(byKey);
+            assertEquals(expected, sorted);
+            for (int i = 1; i < sorted.size(); i++) {
+                String previous = sorted.get(i - 1);
+                String current = sorted.get(i);
+                if (byKey.compare(previous, current) == 0) {
+                    assertTrue(Integer.parseInt(previous.substring(previous.indexOf(':') + 1))
+                            < Integer.parseInt(current.substring(current.indexOf(':') + 1)));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(output);
+            Files.delete(directory);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package list;
+
+import list.impl.CustomArrayList;
+import list.impl.ImmutableCustomList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ImmutableCustomListTest {
+
+    @Test
+    void testFreezeTransfersOwnership() {
+        CustomArrayList<String> list = new CustomArrayList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        ImmutableCustomList<String> frozen = list.freeze();
+        assertEquals(0, list.size());
+        assertEquals(0, list.capacity());
+        list.add("d");
+        assertEquals("[d]", list.toString());
+        assertEquals("[a, b, c]", frozen.toString());
+        assertEquals(3, frozen.size());
+        assertEquals("b", frozen.get(1));
+        assertEquals(2, frozen.indexOf("c"));
+        assertArrayEquals(new Object[]{"a", "b", "c"}, frozen.toArray());
+        assertEquals(3, frozen.stream().count());
+    }
+
+    @Test
+    void testMutatorsThrow() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        list.add(1);
+        ImmutableCustomList<Integer> frozen = list.freeze();
+        assertThrows(UnsupportedOperationException.class, () -> frozen.add(2));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.set(0, 2));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.remove(0));
+        assertThrows(UnsupportedOperationException.class, frozen::clear);
+        assertThrows(UnsupportedOperationException.class, frozen::sort);
+        assertThrows(IndexOutOfBoundsException.class, () -> frozen.get(1));
+        CustomArrayList<Integer> other = new CustomArrayList<>(16);
+        other.add(1);
+        assertEquals(frozen, other.freeze());
+    }
+}
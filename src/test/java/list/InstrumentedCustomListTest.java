@@ -0,0 +1,244 @@
+package list;
+
+import list.impl.CustomArrayList;
+import list.impl.CustomLinkedList;
+import list.impl.InstrumentedCustomList;
+import list.impl.ListMetrics;
+import list.impl.SortedCustomArrayList;
+import list.impl.ListMetrics.Operation;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InstrumentedCustomListTest {
+
+    @Test
+    void testCountsOperations() {
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(new CustomArrayList<>());
+        ListMetrics metrics = list.metrics();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.addAll(new Integer[]{10, 11});
+        list.get(3);
+        list.set(3, 30);
+        list.remove(Integer.valueOf(30));
+        list.remove(0);
+        list.contains(5);
+        list.indexOf(6);
+        list.removeRange(0, 2);
+        list.removeIf(x -> x % 2 == 0);
+        list.forEach(x -> { });
+        list.clear();
+        assertEquals(10, metrics.count(Operation.ADD));
+        assertEquals(1, metrics.count(Operation.ADD_AT));
+        assertEquals(1, metrics.count(Operation.ADD_ALL));
+        assertEquals(1, metrics.count(Operation.GET));
+        assertEquals(1, metrics.count(Operation.SET));
+        assertEquals(1, metrics.count(Operation.REMOVE));
+        assertEquals(1, metrics.count(Operation.REMOVE_AT));
+        assertEquals(2, metrics.count(Operation.SEARCH));
+        assertEquals(1, metrics.count(Operation.REMOVE_RANGE));
+        assertEquals(1, metrics.count(Operation.REMOVE_IF));
+        assertEquals(1, metrics.count(Operation.ITERATE));
+        assertEquals(1, metrics.count(Operation.CLEAR));
+        assertEquals(0, metrics.count(Operation.SORT));
+        long[] histogram = metrics.latencyHistogram(Operation.ADD);
+        long recorded = 0;
+        for (long count : histogram) {
+            recorded += count;
+        }
+        assertEquals(10, recorded);
+        assertTrue(metrics.percentileNanos(Operation.ADD, 50) <= metrics.percentileNanos(Operation.ADD, 99));
+        assertEquals(0, metrics.percentileNanos(Operation.SORT, 99));
+        assertThrows(IllegalArgumentException.class, () -> metrics.percentileNanos(Operation.ADD, 101));
+    }
+
+    @Test
+    void testCountsFailedOperations() {
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(new CustomArrayList<>());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertEquals(1, list.metrics().count(Operation.GET));
+    }
+
+    @Test
+    void testResizesAndShifts() {
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(new CustomArrayList<>());
+        ListMetrics metrics = list.metrics();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertTrue(metrics.getResizeCount() > 0);
+        assertEquals(0, metrics.getElementsShifted());
+        list.add(0, -1);
+        assertEquals(100, metrics.getElementsShifted());
+        list.remove(0);
+        assertEquals(200, metrics.getElementsShifted());
+        list.removeRange(90, 100);
+        assertEquals(200, metrics.getElementsShifted());
+        list.removeRange(0, 10);
+        assertEquals(280, metrics.getElementsShifted());
+    }
+
+    @Test
+    void testNodesTraversed() {
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(new CustomLinkedList<>());
+        ListMetrics metrics = list.metrics();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        long before = metrics.getNodesTraversed();
+        assertEquals(Integer.valueOf(10), list.get(10));
+        assertEquals(before + 10, metrics.getNodesTraversed());
+        assertEquals(Integer.valueOf(95), list.get(95));
+        assertEquals(before + 14, metrics.getNodesTraversed());
+    }
+
+    @Test
+    void testComparisons() {
+        Random random = new Random(42);
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(new CustomArrayList<>());
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(10_000);
+            list.add(value);
+            expected.add(value);
+        }
+        list.sort();
+        expected.sort(Comparator.naturalOrder());
+        assertArrayEquals(expected.toArray(), list.toArray());
+        ListMetrics metrics = list.metrics();
+        long sortComparisons = metrics.getComparisons();
+        assertTrue(sortComparisons >= 999);
+        assertEquals(1, metrics.count(Operation.SORT));
+        list.binarySearch(expected.get(500), Comparator.naturalOrder());
+        long searchComparisons = metrics.getComparisons() - sortComparisons;
+        assertTrue(searchComparisons > 0 && searchComparisons <= 11);
+    }
+
+    @Test
+    void testDisabledRecordsNothing() {
+        ListMetrics metrics = new ListMetrics();
+        metrics.setEnabled(false);
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(new CustomArrayList<>(), metrics);
+        for (int i = 100; i > 0; i--) {
+            list.add(0, i);
+        }
+        list.sort(Comparator.reverseOrder());
+        assertEquals(100, list.size());
+        assertEquals(Integer.valueOf(100), list.get(0));
+        for (long count : metrics.counts().values()) {
+            assertEquals(0, count);
+        }
+        assertEquals(0, metrics.getResizeCount());
+        assertEquals(0, metrics.getElementsShifted());
+        assertEquals(0, metrics.getComparisons());
+        metrics.setEnabled(true);
+        list.get(0);
+        assertEquals(1, metrics.count(Operation.GET));
+        metrics.reset();
+        assertEquals(0, metrics.count(Operation.GET));
+    }
+
+    @Test
+    void testSubListSharesMetrics() {
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(new CustomArrayList<>());
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        CustomList<Integer> view = list.subList(2, 5);
+        assertEquals(Integer.valueOf(3), view.get(1));
+        view.remove(0);
+        assertEquals(9, list.size());
+        ListMetrics metrics = list.metrics();
+        assertEquals(1, metrics.count(Operation.GET));
+        assertEquals(1, metrics.count(Operation.REMOVE_AT));
+        assertEquals(7, metrics.getElementsShifted());
+        assertEquals("[0, 1, 3, 4, 5, 6, 7, 8, 9]", list.toString());
+    }
+
+    @Test
+    void testMBean() throws Exception {
+        InstrumentedCustomList<String> list = new InstrumentedCustomList<>(new CustomArrayList<>());
+        ListMetrics metrics = list.metrics();
+        ObjectName name = metrics.registerMBean("test");
+        try {
+            assertThrows(IllegalStateException.class, () -> metrics.registerMBean("test"));
+            list.add("a");
+            list.add("b");
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertTrue(server.isRegistered(name));
+            assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+            Object counts = server.getAttribute(name, "OperationCounts");
+            assertTrue(counts instanceof javax.management.openmbean.TabularData);
+            server.invoke(name, "reset", null, null);
+            assertEquals(0, metrics.count(Operation.ADD));
+        } finally {
+            metrics.unregisterMBean();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        Map<String, Long> counts = metrics.getOperationCounts();
+        assertEquals(Operation.values().length, counts.size());
+    }
+
+    @Test
+    void testSortedDelegateKeepsComparator() {
+        SortedCustomArrayList<Integer> sorted = new SortedCustomArrayList<>(Comparator.naturalOrder());
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(sorted);
+        list.add(3);
+        list.add(1);
+        list.add(2);
+        list.sort();
+        list.sort(Comparator.naturalOrder());
+        assertEquals("[1, 2, 3]", list.toString());
+        assertEquals(2, list.metrics().count(Operation.SORT));
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(Comparator.reverseOrder()));
+    }
+
+    @Test
+    void testTraversalsAreCounted() {
+        InstrumentedCustomList<Integer> list = new InstrumentedCustomList<>(new CustomLinkedList<>());
+        list.add(1);
+        list.add(2);
+        int sum = 0;
+        for (int value : list) {
+            sum += value;
+        }
+        Cursor<Integer> cursor = list.cursor();
+        while (cursor.advance()) {
+            sum += cursor.value();
+        }
+        sum += list.view().count();
+        sum += list.stream().mapToInt(Integer::intValue).sum();
+        list.listIterator();
+        assertEquals(11, sum);
+        ListMetrics metrics = list.metrics();
+        assertEquals(5, metrics.count(Operation.TRAVERSAL));
+        assertEquals(0, metrics.count(Operation.ITERATE));
+        assertEquals(0, metrics.totalNanos(Operation.TRAVERSAL));
+    }
+
+    @Test
+    void testEqualDecoratedListsHashAlike() {
+        InstrumentedCustomList<Integer> list1 = new InstrumentedCustomList<>(new CustomArrayList<>());
+        InstrumentedCustomList<Integer> list2 = new InstrumentedCustomList<>(new CustomArrayList<>());
+        list1.addAll(new Integer[]{1, 2, 3});
+        list2.addAll(List.of(1, 2, 3));
+        assertEquals(list1, list2);
+        assertEquals(list1.hashCode(), list2.hashCode());
+    }
+}
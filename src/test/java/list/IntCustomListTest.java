@@ -0,0 +1,119 @@
+package list;
+
+import list.impl.IntCustomList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.ListIterator;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntCustomListTest {
+
+    @Test
+    void testAddAndGet() {
+        IntCustomList list = new IntCustomList();
+        for (int i = 0; i < 20; i++) {
+            list.add(i * 10);
+        }
+        list.add(0, -1);
+        assertEquals(21, list.size());
+        assertEquals(-1, list.getInt(0));
+        assertEquals(190, list.getInt(20));
+        assertEquals(Integer.valueOf(0), list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(21));
+    }
+
+    @Test
+    void testRemove() {
+        IntCustomList list = new IntCustomList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        assertEquals(1, list.removeInt(0));
+        assertTrue(list.removeValue(3));
+        assertFalse(list.remove((Object) 3));
+        assertArrayEquals(new int[]{2}, list.toIntArray());
+    }
+
+    @Test
+    void testSort() {
+        IntCustomList list = new IntCustomList();
+        list.add(5);
+        list.add(-3);
+        list.add(12);
+        list.add(0);
+        list.sort();
+        assertArrayEquals(new int[]{-3, 0, 5, 12}, list.toIntArray());
+        list.sort(Comparator.reverseOrder());
+        assertArrayEquals(new int[]{12, 5, 0, -3}, list.toIntArray());
+    }
+
+    @Test
+    void testForEachAndIterator() {
+        IntCustomList list = new IntCustomList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        int[] sum = new int[1];
+        list.forEachInt(value -> sum[0] += value);
+        assertEquals(6, sum[0]);
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        assertEquals(1, iterator.nextInt());
+        assertEquals(2, iterator.nextInt());
+        assertEquals(3, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testEqualsAndToString() {
+        IntCustomList list1 = new IntCustomList();
+        IntCustomList list2 = new IntCustomList(2);
+        list1.add(7);
+        list1.add(8);
+        list2.add(7);
+        list2.add(8);
+        assertEquals(list1, list2);
+        assertEquals(list1.hashCode(), list2.hashCode());
+        list2.add(9);
+        assertNotEquals(list1, list2);
+        assertEquals("[7, 8, 9]", list2.toString());
+        list2.clear();
+        assertEquals("[]", list2.toString());
+    }
+
+    @Test
+    void testSetAndListIterator() {
+        IntCustomList list = new IntCustomList();
+        for (int i = 0; i < 6; i++) {
+            list.add(i);
+        }
+        assertEquals(2, list.setInt(2, 20));
+        ListIterator<Integer> iterator = list.listIterator(1);
+        assertEquals(1, iterator.next());
+        iterator.remove();
+        iterator.add(10);
+        assertTrue(list.removeIf(value -> value > 4));
+        assertArrayEquals(new int[]{0, 3, 4}, list.toIntArray());
+    }
+
+    @Test
+    void testSearch() {
+        IntCustomList list = new IntCustomList();
+        for (int value : new int[]{5, 6, 5, 7}) {
+            list.add(value);
+        }
+        assertEquals(0, list.indexOfValue(5));
+        assertEquals(2, list.lastIndexOfValue(5));
+        assertEquals(3, list.indexOf(7));
+        assertTrue(list.contains(6));
+        assertFalse(list.contains("6"));
+        assertEquals(-1, list.lastIndexOf(8));
+    }
+}
@@ -0,0 +1,88 @@
+package list;
+
+import list.impl.ChunkedCustomList;
+import list.impl.CustomArrayList;
+import list.impl.CustomLinkedList;
+import list.impl.IntCustomList;
+import list.impl.UnrolledCustomLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ListViewTest {
+
+    private static <L extends CustomList<Integer>> L fill(L list, int count) {
+        for (int i = 0; i < count; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    void testPipelineOnEveryList() {
+        List<CustomList<Integer>> lists = List.of(fill(new CustomArrayList<>(), 20), fill(new CustomLinkedList<>(), 20),
+                fill(new ChunkedCustomList<>(4), 20), fill(new UnrolledCustomLinkedList<>(4), 20),
+                fill(new IntCustomList(), 20));
+        for (CustomList<Integer> list : lists) {
+            CustomArrayList<String> result = list.view()
+                    .filter(value -> value % 2 == 0)
+                    .skip(1)
+                    .map(value -> "#" + value)
+                    .limit(3)
+                    .toCustomList();
+            assertEquals("[#2, #4, #6]", result.toString());
+            assertEquals(190, list.view().reduce(0, Integer::sum));
+        }
+    }
+
+    @Test
+    void testLimitShortCircuits() {
+        CustomArrayList<Integer> list = fill(new CustomArrayList<>(), 1000);
+        AtomicInteger mapped = new AtomicInteger();
+        CustomArrayList<Integer> result = list.view()
+                .map(value -> {
+                    mapped.incrementAndGet();
+                    return value * 10;
+                })
+                .limit(5)
+                .toCustomList();
+        assertEquals("[0, 10, 20, 30, 40]", result.toString());
+        assertEquals(5, mapped.get());
+        assertEquals(5, result.capacity());
+        assertEquals(0, list.view().limit(0).count());
+    }
+
+    @Test
+    void testFlatMapAndTerminals() {
+        CustomLinkedList<Integer> list = fill(new CustomLinkedList<>(), 4);
+        CustomArrayList<Integer> flattened = list.view()
+                .flatMap(value -> fill(new CustomArrayList<>(), value))
+                .limit(5)
+                .toCustomList();
+        assertEquals("[0, 0, 1, 0, 1]", flattened.toString());
+        assertEquals(List.of(0, 1, 2), list.view().flatMap(value -> List.of(value)).limit(3).collect(Collectors.toList()));
+        assertEquals(Optional.of(6), list.view().reduce(Integer::sum));
+        assertEquals(Optional.empty(), list.view().filter(value -> value > 10).reduce(Integer::sum));
+        assertEquals(Optional.of(2), list.view().filter(value -> value > 1).findFirst());
+        assertEquals(4, list.view().count());
+        assertEquals(2, list.view().skip(2).count());
+        assertEquals(1, list.view().filter(value -> value == 3).count());
+        assertThrows(IllegalArgumentException.class, () -> list.view().limit(-1));
+    }
+
+    @Test
+    void testViewIsLazy() {
+        CustomArrayList<Integer> list = fill(new CustomArrayList<>(), 3);
+        ListView<Integer> doubled = list.view().map(value -> value * 2);
+        list.add(3);
+        assertEquals("[0, 2, 4, 6]", doubled.toCustomList().toString());
+        assertThrows(ConcurrentModificationException.class, () -> list.view().forEach(list::add));
+    }
+}
@@ -0,0 +1,89 @@
+package list;
+
+import list.impl.LongCustomList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongCustomListTest {
+
+    @Test
+    void testAddAndGet() {
+        LongCustomList list = new LongCustomList();
+        for (int i = 0; i < 20; i++) {
+            list.add(i * 10_000_000_000L);
+        }
+        list.add(0, -1);
+        assertEquals(21, list.size());
+        assertEquals(-1, list.getLong(0));
+        assertEquals(190_000_000_000L, list.getLong(20));
+        assertEquals(Long.valueOf(0), list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getLong(21));
+    }
+
+    @Test
+    void testRemove() {
+        LongCustomList list = new LongCustomList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        assertEquals(1, list.removeLong(0));
+        assertTrue(list.removeValue(3));
+        assertFalse(list.remove((Object) 3L));
+        assertArrayEquals(new long[]{2}, list.toLongArray());
+    }
+
+    @Test
+    void testSort() {
+        LongCustomList list = new LongCustomList();
+        list.add(5);
+        list.add(-3);
+        list.add(12);
+        list.add(0);
+        list.sort();
+        assertArrayEquals(new long[]{-3, 0, 5, 12}, list.toLongArray());
+        list.sort(Comparator.reverseOrder());
+        assertArrayEquals(new long[]{12, 5, 0, -3}, list.toLongArray());
+    }
+
+    @Test
+    void testForEachAndIterator() {
+        LongCustomList list = new LongCustomList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        long[] sum = new long[1];
+        list.forEachLong(value -> sum[0] += value);
+        assertEquals(6, sum[0]);
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        assertEquals(1, iterator.nextLong());
+        assertEquals(2, iterator.nextLong());
+        assertEquals(3, iterator.nextLong());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testEqualsAndToString() {
+        LongCustomList list1 = new LongCustomList();
+        LongCustomList list2 = new LongCustomList(2);
+        list1.add(7);
+        list1.add(8);
+        list2.add(7);
+        list2.add(8);
+        assertEquals(list1, list2);
+        assertEquals(list1.hashCode(), list2.hashCode());
+        list2.add(9);
+        assertNotEquals(list1, list2);
+        assertEquals("[7, 8, 9]", list2.toString());
+        list2.clear();
+        assertEquals("[]", list2.toString());
+    }
+}
@@ -0,0 +1,173 @@
+package list;
+
+import list.impl.ChunkedCustomList;
+import list.impl.CopyOnWriteCustomArrayList;
+import list.impl.CustomArrayList;
+import list.impl.CustomLinkedList;
+import list.impl.DoubleCustomList;
+import list.impl.GrowthPolicy;
+import list.impl.IntCustomList;
+import list.impl.LongCustomList;
+import list.impl.PersistentCustomVector;
+import list.impl.SortedCustomArrayList;
+import list.impl.UnrolledCustomLinkedList;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+import org.openjdk.jol.vm.VirtualMachine;
+
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks the footprint estimates against the sizes JOL measures on the running JVM. The lists hold null elements, so
+ * the object graph JOL walks is the list structure alone, plus the objects array lists share, the growth policy and
+ * the empty backing array, which are subtracted.
+ */
+public class MemoryFootprintTest {
+    private static final int[] SIZES = {0, 1, 2, 7, 8, 100, 1000};
+
+    @BeforeAll
+    static void checkLayout() {
+        VirtualMachine vm = VM.current();
+        long referenceSize = (vm.sizeOf(new Object[2]) - vm.sizeOf(new Object[0])) / 2;
+        assumeTrue(vm.objectHeaderSize() == HeapLayout.OBJECT_HEADER
+                && vm.arrayHeaderSize() == HeapLayout.ARRAY_HEADER
+                && referenceSize == HeapLayout.REFERENCE
+                && vm.objectAlignment() == HeapLayout.ALIGNMENT, "JVM layout differs from HeapLayout");
+    }
+
+    private static long measured(CustomArrayList<?> list) {
+        long shared = GraphLayout.parseInstance(GrowthPolicy.doubling()).totalSize();
+        if (list.capacity() == 0) {
+            shared += GraphLayout.parseInstance((Object) new Object[0]).totalSize();
+        }
+        return GraphLayout.parseInstance(list).totalSize() - shared;
+    }
+
+    private static <L extends CustomList<Object>> L fill(L list, int size) {
+        for (int i = 0; i < size; i++) {
+            list.add(null);
+        }
+        return list;
+    }
+
+    @Test
+    void testArrayListFootprint() {
+        for (int size : SIZES) {
+            CustomArrayList<Object> list = fill(new CustomArrayList<>(), size);
+            assertEquals(measured(list), list.memoryFootprint());
+            list.trimToSize();
+            assertEquals(measured(list), list.memoryFootprint());
+            assertEquals(size == 0 ? HeapLayout.objectSize(5, 2)
+                    : HeapLayout.objectSize(5, 2) + HeapLayout.referenceArraySize(size), list.memoryFootprint());
+        }
+    }
+
+    @Test
+    void testTrimToSizeDropsSlack() {
+        CustomArrayList<Object> list = fill(new CustomArrayList<>(), 1);
+        long loaded = list.memoryFootprint();
+        list.trimToSize();
+        assertEquals(loaded - (HeapLayout.referenceArraySize(7) - HeapLayout.referenceArraySize(1)), list.memoryFootprint());
+        CustomArrayList<Object> empty = new CustomArrayList<>();
+        assertEquals(0, empty.capacity());
+        assertEquals(HeapLayout.objectSize(5, 2), empty.memoryFootprint());
+        empty.add(null);
+        assertEquals(7, empty.capacity());
+    }
+
+    @Test
+    void testLinkedListFootprint() {
+        for (int size : SIZES) {
+            CustomLinkedList<Object> list = fill(new CustomLinkedList<>(), size);
+            assertEquals(GraphLayout.parseInstance(list).totalSize(), list.memoryFootprint());
+            CustomArrayList<Object> compact = list.toCompactList();
+            assertEquals(size, compact.size());
+            assertEquals(size, compact.capacity());
+            assertEquals(measured(compact), compact.memoryFootprint());
+            if (size > 1) {
+                assertTrue(compact.memoryFootprint() < list.memoryFootprint());
+            }
+        }
+    }
+
+    @Test
+    void testChunkedListFootprint() {
+        for (int size : SIZES) {
+            ChunkedCustomList<Object> list = fill(new ChunkedCustomList<>(), size);
+            assertEquals(GraphLayout.parseInstance(list).totalSize(), list.memoryFootprint());
+        }
+        ChunkedCustomList<Object> one = fill(new ChunkedCustomList<>(), 1);
+        assertTrue(one.memoryFootprint() > HeapLayout.referenceArraySize(1024));
+    }
+
+    @Test
+    void testUnrolledListFootprint() {
+        for (int size : SIZES) {
+            UnrolledCustomLinkedList<Object> list = fill(new UnrolledCustomLinkedList<>(), size);
+            assertEquals(GraphLayout.parseInstance(list).totalSize(), list.memoryFootprint());
+        }
+        UnrolledCustomLinkedList<Object> one = fill(new UnrolledCustomLinkedList<>(), 1);
+        assertTrue(one.memoryFootprint() > HeapLayout.referenceArraySize(32));
+    }
+
+    @Test
+    void testPrimitiveListFootprint() {
+        for (int size : SIZES) {
+            IntCustomList ints = new IntCustomList();
+            LongCustomList longs = new LongCustomList();
+            DoubleCustomList doubles = new DoubleCustomList();
+            for (int i = 0; i < size; i++) {
+                ints.add(i);
+                longs.add((long) i);
+                doubles.add((double) i);
+            }
+            assertEquals(GraphLayout.parseInstance(ints).totalSize(), ints.memoryFootprint());
+            assertEquals(GraphLayout.parseInstance(longs).totalSize(), longs.memoryFootprint());
+            assertEquals(GraphLayout.parseInstance(doubles).totalSize(), doubles.memoryFootprint());
+        }
+    }
+
+    @Test
+    void testWrapperFootprints() {
+        Comparator<Integer> comparator = Comparator.nullsFirst(Comparator.naturalOrder());
+        long sharedBySorted = GraphLayout.parseInstance(GrowthPolicy.doubling(), comparator).totalSize();
+        long emptyArray = GraphLayout.parseInstance((Object) new Object[0]).totalSize();
+        for (int size : SIZES) {
+            CopyOnWriteCustomArrayList<Object> copyOnWrite = fill(new CopyOnWriteCustomArrayList<>(), size);
+            assertEquals(GraphLayout.parseInstance(copyOnWrite).totalSize(), copyOnWrite.memoryFootprint());
+            SortedCustomArrayList<Integer> sorted = new SortedCustomArrayList<>(comparator);
+            for (int i = 0; i < size; i++) {
+                sorted.add(null);
+            }
+            long shared = sharedBySorted + (size == 0 ? emptyArray : 0);
+            assertEquals(GraphLayout.parseInstance(sorted).totalSize() - shared, sorted.memoryFootprint());
+        }
+    }
+
+    @Test
+    void testPersistentVectorFootprint() {
+        PersistentCustomVector<Object> vector = PersistentCustomVector.empty();
+        for (int size = 0; size <= 2000; size++) {
+            if (size == 0 || size == 33 || size == 1000 || size == 2000) {
+                assertEquals(GraphLayout.parseInstance(vector).totalSize(), vector.memoryFootprint());
+            }
+            vector = vector.plus(null);
+        }
+    }
+
+    @Test
+    void testViewsCountOnlyThemselves() {
+        CustomArrayList<Object> array = fill(new CustomArrayList<>(), 100);
+        CustomLinkedList<Object> linked = fill(new CustomLinkedList<>(), 100);
+        ChunkedCustomList<Object> chunked = fill(new ChunkedCustomList<>(), 100);
+        assertEquals(HeapLayout.objectSize(2, 3), array.subList(10, 90).memoryFootprint());
+        assertEquals(HeapLayout.objectSize(2, 3), linked.subList(10, 90).memoryFootprint());
+        assertEquals(HeapLayout.objectSize(1, 3), chunked.subList(10, 90).memoryFootprint());
+    }
+}
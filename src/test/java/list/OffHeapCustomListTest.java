@@ -0,0 +1,86 @@
+package list;
+
+import list.impl.FixedSizeCodec;
+import list.impl.OffHeapCustomList;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapCustomListTest {
+
+    @Test
+    void testAddGetAcrossSegments() {
+        try (OffHeapCustomList<Long> list = new OffHeapCustomList<>(FixedSizeCodec.longs(), 4)) {
+            for (long i = 0; i < 10; i++) {
+                list.add(i * 100);
+            }
+            list.add(5, -1L);
+            assertEquals(11, list.size());
+            assertEquals(-1L, list.get(5));
+            assertEquals(500L, list.get(6));
+            assertEquals(900L, list.get(10));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(11));
+            assertThrows(NullPointerException.class, () -> list.add(null));
+        }
+    }
+
+    @Test
+    void testRemoveAndSet() {
+        try (OffHeapCustomList<Integer> list = new OffHeapCustomList<>(FixedSizeCodec.ints(), 2)) {
+            list.add(1);
+            list.add(2);
+            list.add(3);
+            list.add(4);
+            assertEquals(1, list.remove(0));
+            assertTrue(list.remove((Object) 3));
+            assertFalse(list.remove((Object) 3));
+            assertEquals(2, list.set(0, 20));
+            assertEquals("[20, 4]", list.toString());
+        }
+    }
+
+    @Test
+    void testSortIsStableAndInPlace() {
+        try (OffHeapCustomList<Integer> list = new OffHeapCustomList<>(FixedSizeCodec.ints(), 8)) {
+            int[] values = {15, 3, 22, 3, 9, 41, 0, 17, 22, 8, 5, 12, 1, 30, 7, 2, 19};
+            for (int value : values) {
+                list.add(value);
+            }
+            list.sort();
+            assertEquals("[0, 1, 2, 3, 3, 5, 7, 8, 9, 12, 15, 17, 19, 22, 22, 30, 41]", list.toString());
+            list.sort(Comparator.comparing(value -> value % 2));
+            assertEquals("[0, 2, 8, 12, 22, 22, 30, 1, 3, 3, 5, 7, 9, 15, 17, 19, 41]", list.toString());
+        }
+    }
+
+    @Test
+    void testFileBackedListSurvivesReopen() throws IOException {
+        Path file = Files.createTempFile("offheap", ".list");
+        try {
+            try (OffHeapCustomList<Double> list = OffHeapCustomList.open(file, FixedSizeCodec.doubles(), 4)) {
+                for (int i = 0; i < 9; i++) {
+                    list.add(i + 0.5);
+                }
+                list.remove(0);
+            }
+            try (OffHeapCustomList<Double> list = OffHeapCustomList.open(file, FixedSizeCodec.doubles())) {
+                assertEquals(8, list.size());
+                assertEquals(1.5, list.get(0));
+                assertEquals(8.5, list.get(7));
+                list.add(9.5);
+                assertEquals(9, list.size());
+            }
+            assertThrows(IllegalArgumentException.class, () -> OffHeapCustomList.open(file, FixedSizeCodec.ints()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package list;
+
+import list.impl.CustomArrayList;
+import list.impl.CustomLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelForEachTest {
+
+    private static CustomList<Integer> fill(CustomList<Integer> list, int size) {
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    void testParallelForEachVisitsEveryElementOnce() {
+        for (CustomList<Integer> list : List.of(fill(new CustomArrayList<>(), 1000),
+                fill(new CustomLinkedList<>(), 1000))) {
+            ConcurrentHashMap<Integer, Integer> seen = new ConcurrentHashMap<>();
+            list.parallelForEach(element -> seen.merge(element, 1, Integer::sum), 16);
+            assertEquals(1000, seen.size());
+            assertTrue(seen.values().stream().allMatch(count -> count == 1));
+        }
+    }
+
+    @Test
+    void testConcurrencyIsBounded() {
+        CustomList<Integer> list = fill(new CustomArrayList<>(), 64);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        list.parallelForEach(element -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+        }, 4);
+        assertTrue(maxRunning.get() <= 4);
+        assertTrue(maxRunning.get() >= 1);
+    }
+
+    @Test
+    void testMapAsyncKeepsOrder() throws InterruptedException {
+        CustomList<Integer> list = fill(new CustomLinkedList<>(), 500);
+        CustomArrayList<String> mapped = list.mapAsync(element -> "v" + element, 8);
+        assertEquals(500, mapped.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals("v" + i, mapped.get(i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            CustomArrayList<Integer> squares = list.mapAsync(element -> element * element, 3, executor);
+            for (int i = 0; i < 500; i++) {
+                assertEquals(i * i, squares.get(i));
+            }
+            list.parallelForEach(element -> { }, executor);
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(0, new CustomArrayList<Integer>().mapAsync(element -> element, 2).size());
+        assertEquals(3, fill(new CustomArrayList<>(), 3).mapAsync(element -> element, 1, Runnable::run).size());
+    }
+
+    @Test
+    void testFailureCancelsRemainingWork() {
+        CustomList<Integer> list = fill(new CustomArrayList<>(), 10_000);
+        AtomicInteger processed = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("lookup failed");
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> list.mapAsync(element -> {
+            if (element == 10) {
+                throw failure;
+            }
+            processed.incrementAndGet();
+            return element;
+        }, 2));
+        assertSame(failure, thrown);
+        assertTrue(processed.get() < 10_000);
+    }
+
+    @Test
+    void testInvalidConcurrency() {
+        CustomList<Integer> list = fill(new CustomArrayList<>(), 3);
+        assertThrows(IllegalArgumentException.class, () -> list.parallelForEach(element -> { }, 0));
+        assertThrows(IllegalArgumentException.class, () -> list.mapAsync(element -> element, -1));
+        assertThrows(NullPointerException.class, () -> list.parallelForEach(null, 2));
+    }
+}
@@ -0,0 +1,75 @@
+package list;
+
+import list.impl.CustomArrayList;
+import list.impl.PersistentCustomVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PersistentCustomVectorTest {
+
+    @Test
+    void testPlusKeepsOldVersions() {
+        PersistentCustomVector<Integer> vector = PersistentCustomVector.empty();
+        List<PersistentCustomVector<Integer>> versions = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            versions.add(vector);
+            vector = vector.plus(i);
+        }
+        assertEquals(40_000, vector.size());
+        for (int i = 0; i < 40_000; i += 7) {
+            assertEquals(i, vector.get(i));
+        }
+        for (int size : new int[]{0, 1, 32, 33, 1056, 1057, 32_800, 32_801}) {
+            PersistentCustomVector<Integer> version = versions.get(size);
+            assertEquals(size, version.size());
+            if (size > 0) {
+                assertEquals(size - 1, version.get(size - 1));
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> versions.get(5).get(5));
+    }
+
+    @Test
+    void testWithSharesStructure() {
+        CustomArrayList<Integer> source = new CustomArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            source.add(i);
+        }
+        PersistentCustomVector<Integer> vector = PersistentCustomVector.of(source);
+        PersistentCustomVector<Integer> changed = vector.with(1234, -1).with(4999, -2);
+        assertEquals(1234, vector.get(1234));
+        assertEquals(-1, changed.get(1234));
+        assertEquals(-2, changed.get(4999));
+        assertEquals(4999, vector.get(4999));
+        assertNotEquals(vector, changed);
+        assertEquals(vector, changed.with(1234, 1234).with(4999, 4999));
+        assertArrayEquals(source.toArray(), vector.toArray());
+        assertThrows(UnsupportedOperationException.class, () -> vector.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> vector.set(0, 1));
+    }
+
+    @Test
+    void testOfMatchesPlus() {
+        for (int size : new int[]{0, 5, 32, 33, 64, 1024, 1056, 1057, 33_000}) {
+            CustomArrayList<Integer> source = new CustomArrayList<>();
+            PersistentCustomVector<Integer> appended = PersistentCustomVector.empty();
+            for (int i = 0; i < size; i++) {
+                source.add(i);
+                appended = appended.plus(i);
+            }
+            PersistentCustomVector<Integer> built = PersistentCustomVector.of(source);
+            assertEquals(appended, built);
+            assertEquals(appended.plus(-1), built.plus(-1));
+            int sum = built.view().reduce(0, Integer::sum);
+            assertEquals(size * (size - 1) / 2, sum);
+        }
+        assertEquals("[1, 2]", PersistentCustomVector.<Integer>empty().plus(1).plus(2).toString());
+    }
+}
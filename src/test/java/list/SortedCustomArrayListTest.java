@@ -0,0 +1,91 @@
+package list;
+
+import list.impl.CustomArrayList;
+import list.impl.SortedCustomArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SortedCustomArrayListTest {
+
+    @Test
+    void testRandomOperationsKeepOrder() {
+        Random random = new Random(3);
+        SortedCustomArrayList<Integer> sorted = new SortedCustomArrayList<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(500);
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    sorted.add(value);
+                    expected.add(value);
+                    Collections.sort(expected);
+                }
+                case 2 -> assertEquals(expected.remove((Integer) value), sorted.remove((Integer) value));
+                default -> {
+                    assertEquals(expected.indexOf(value), sorted.indexOf(value));
+                    assertEquals(expected.lastIndexOf(value), sorted.lastIndexOf(value));
+                    assertEquals(Collections.binarySearch(expected, value) >= 0, sorted.binarySearch(value) >= 0);
+                }
+            }
+        }
+        assertArrayEquals(expected.toArray(), sorted.toArray());
+    }
+
+    @Test
+    void testEqualElementsKeepInsertionOrder() {
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+        SortedCustomArrayList<String> sorted = new SortedCustomArrayList<>(byLength);
+        for (String s : new String[]{"bb", "a", "cc", "d", "eee", "ff"}) {
+            sorted.add(s);
+        }
+        assertEquals("[a, d, bb, cc, ff, eee]", sorted.toString());
+        assertEquals(3, sorted.indexOf("cc"));
+        assertEquals(-1, sorted.indexOf("zz"));
+        assertEquals(2, sorted.binarySearch("xx"));
+        sorted.addAll(new String[]{"gg", "h", ""});
+        assertEquals("[, a, d, h, bb, cc, ff, gg, eee]", sorted.toString());
+        sorted.sort(byLength);
+        assertThrows(UnsupportedOperationException.class, sorted::sort);
+        assertThrows(UnsupportedOperationException.class, () -> sorted.add(0, "x"));
+        assertThrows(UnsupportedOperationException.class, () -> sorted.set(0, "x"));
+        assertThrows(UnsupportedOperationException.class, () -> sorted.addAll(0, new String[]{"x"}));
+    }
+
+    @Test
+    void testSubRangeAndMerge() {
+        CustomArrayList<Integer> source = new CustomArrayList<>();
+        for (int i = 20; i > 0; i--) {
+            source.add(i * 2);
+        }
+        SortedCustomArrayList<Integer> evens = SortedCustomArrayList.of(source, Comparator.naturalOrder());
+        assertEquals("[10, 12, 14]", evens.subRange(9, 16).toString());
+        assertEquals("[10, 12, 14, 16]", evens.subRange(10, 17).toString());
+        assertEquals(0, evens.subRange(41, 50).size());
+        assertEquals(0, evens.subRange(12, 12).size());
+        assertThrows(IllegalArgumentException.class, () -> evens.subRange(5, 4));
+
+        SortedCustomArrayList<Integer> odds = new SortedCustomArrayList<>(Comparator.naturalOrder());
+        odds.addAll(Arrays.asList(5, 1, 3, 41, 4));
+        SortedCustomArrayList<Integer> merged = evens.merge(odds);
+        assertEquals(25, merged.size());
+        for (int i = 1; i < merged.size(); i++) {
+            assertTrue(merged.get(i - 1) <= merged.get(i));
+        }
+        assertEquals(20, evens.size());
+        assertFalse(odds.addAll(new Integer[0]));
+        assertThrows(IllegalArgumentException.class,
+                () -> evens.merge(new SortedCustomArrayList<>(Comparator.reverseOrder())));
+    }
+}
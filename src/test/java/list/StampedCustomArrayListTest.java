@@ -0,0 +1,105 @@
+package list;
+
+import list.impl.StampedCustomArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StampedCustomArrayListTest {
+
+    @Test
+    void testBasicOperations() {
+        StampedCustomArrayList<String> list = new StampedCustomArrayList<>();
+        list.add("b");
+        list.add(0, "a");
+        list.addAll(List.of("c", "d"));
+        assertEquals("[a, b, c, d]", list.toString());
+        assertEquals("c", list.get(2));
+        assertEquals("b", list.set(1, "B"));
+        assertTrue(list.remove("c"));
+        assertEquals("a", list.remove(0));
+        assertEquals(2, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        Iterator<String> iterator = list.iterator();
+        assertEquals("B", iterator.next());
+        assertEquals("d", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testReadersDuringWrites() throws InterruptedException {
+        StampedCustomArrayList<Integer> list = new StampedCustomArrayList<>();
+        list.add(0);
+        AtomicBoolean failed = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i < 20_000; i++) {
+                list.add(i);
+            }
+        });
+        Thread reader = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                int size = list.size();
+                int index = i % size;
+                if (list.get(index) != index) {
+                    failed.set(true);
+                }
+            }
+        });
+        writer.start();
+        reader.start();
+        writer.join();
+        reader.join();
+        assertFalse(failed.get());
+        assertEquals(20_000, list.size());
+    }
+
+    @Test
+    void testConcurrentBulkAppendsStayContiguous() throws InterruptedException {
+        StampedCustomArrayList<Integer> list = new StampedCustomArrayList<>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int base = t * 1_000_000;
+            threads[t] = new Thread(() -> {
+                for (int b = 0; b < 300; b++) {
+                    Integer[] block = new Integer[8];
+                    for (int i = 0; i < block.length; i++) {
+                        block[i] = base + b * block.length + i;
+                    }
+                    if (b % 3 == 0) {
+                        list.addAll(block);
+                    } else if (b % 3 == 1) {
+                        list.addAll(List.of(block));
+                    } else {
+                        StampedCustomArrayList<Integer> batch = new StampedCustomArrayList<>();
+                        batch.addAll(List.of(block));
+                        list.addAll(batch);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(threads.length * 300 * 8, list.size());
+        int[] last = new int[threads.length];
+        Arrays.fill(last, -1);
+        for (int i = 0; i < list.size(); i++) {
+            int value = list.get(i);
+            int thread = value / 1_000_000;
+            if (value % 8 != 0) {
+                assertEquals(value - 1, list.get(i - 1));
+            }
+            assertTrue(value % 1_000_000 > last[thread]);
+            last[thread] = value % 1_000_000;
+        }
+    }
+}
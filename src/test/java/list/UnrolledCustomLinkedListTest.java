@@ -0,0 +1,118 @@
+package list;
+
+import list.impl.UnrolledCustomLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UnrolledCustomLinkedListTest {
+
+    @Test
+    void testBasicOperations() {
+        UnrolledCustomLinkedList<String> list = new UnrolledCustomLinkedList<>(4);
+        for (String element : new String[]{"a", "b", "c", "d", "e", "f"}) {
+            list.add(element);
+        }
+        list.add(1, "x");
+        assertEquals("[a, x, b, c, d, e, f]", list.toString());
+        assertEquals("e", list.get(5));
+        assertEquals("c", list.set(3, "C"));
+        assertEquals("a", list.remove(0));
+        assertTrue(list.remove("e"));
+        assertFalse(list.remove("z"));
+        assertEquals("[x, b, C, d, f]", list.toString());
+        assertEquals(4, list.lastIndexOf("f"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledCustomLinkedList<>(2));
+    }
+
+    @Test
+    void testSortIsStable() {
+        UnrolledCustomLinkedList<int[]> list = new UnrolledCustomLinkedList<>(4);
+        List<int[]> expected = new ArrayList<>();
+        Random random = new Random(15);
+        for (int i = 0; i < 501; i++) {
+            int[] pair = {random.nextInt(20), i};
+            list.add(pair);
+            expected.add(pair);
+        }
+        list.sort(Comparator.comparingInt(pair -> pair[0]));
+        expected.sort(Comparator.comparingInt(pair -> pair[0]));
+        assertArrayEquals(expected.toArray(), list.toArray());
+        assertEquals(expected.get(250), list.get(250));
+        list.add(new int[]{-1, -1});
+        assertEquals(502, list.size());
+        assertEquals(-1, list.get(501)[0]);
+    }
+
+    @Test
+    void testEqualsAndIterator() {
+        UnrolledCustomLinkedList<Integer> list1 = new UnrolledCustomLinkedList<>(4);
+        UnrolledCustomLinkedList<Integer> list2 = new UnrolledCustomLinkedList<>(16);
+        for (int i = 0; i < 20; i++) {
+            list1.add(i);
+            list2.add(19 - i);
+        }
+        assertNotEquals(list1, list2);
+        list2.sort();
+        assertEquals(list1, list2);
+        assertEquals(list1.hashCode(), list2.hashCode());
+        Iterator<Integer> iterator = list1.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 3 != 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals("[0, 3, 6, 9, 12, 15, 18]", list1.toString());
+        Iterator<Integer> failing = list1.iterator();
+        failing.next();
+        list1.add(21);
+        assertThrows(ConcurrentModificationException.class, failing::next);
+    }
+
+    @Test
+    void testRandomOperationsMatchArrayList() {
+        UnrolledCustomLinkedList<Integer> list = new UnrolledCustomLinkedList<>(8);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(16);
+        for (int step = 0; step < 5000; step++) {
+            int value = random.nextInt(1000);
+            int size = expected.size();
+            switch (random.nextInt(5)) {
+                case 0, 1 -> {
+                    int index = random.nextInt(size + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2, 3 -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        assertEquals(expected.remove(index), list.remove(index));
+                    }
+                }
+                default -> {
+                    list.removeIf(element -> element % 11 == value % 11);
+                    expected.removeIf(element -> element % 11 == value % 11);
+                }
+            }
+            assertEquals(expected.size(), list.size());
+            if (!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+        assertArrayEquals(expected.toArray(), list.toArray());
+    }
+}